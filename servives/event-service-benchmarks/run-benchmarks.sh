@@ -0,0 +1,17 @@
+#!/usr/bin/env sh
+# Builds event-service and the benchmarks, then runs them and stores the JMH results as JSON
+# under results/<commit>.json, so runs from two commits can be compared side by side.
+# Extra arguments are passed to JMH, e.g. ./run-benchmarks.sh SeatReservationBenchmark -f 2
+set -e
+
+cd "$(dirname "$0")"
+mvn -q -f ../event-service/pom.xml install -DskipTests
+mvn -q package
+
+commit=$(git rev-parse --short HEAD)
+if [ -n "$(git status --porcelain -- ../event-service)" ]; then
+  commit="$commit-dirty"
+fi
+mkdir -p results
+java -jar target/benchmarks.jar -rf json -rff "results/$commit.json" "$@"
+echo "Results written to results/$commit.json"
@@ -0,0 +1,46 @@
+package com.julienprr.eventmanager.event_service.benchmarks;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Throwaway Postgres for the database benchmarks, with the reservations and events tables created.
+ */
+final class PostgresFixture implements AutoCloseable {
+
+    private final PostgreSQLContainer<?> container;
+    private final HikariDataSource dataSource;
+
+    PostgresFixture(int poolSize) throws SQLException {
+        container = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15"));
+        container.start();
+
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(container.getJdbcUrl());
+        config.setUsername(container.getUsername());
+        config.setPassword(container.getPassword());
+        config.setMaximumPoolSize(poolSize);
+        dataSource = new HikariDataSource(config);
+
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("reservations-schema.sql"));
+        }
+    }
+
+    HikariDataSource dataSource() {
+        return dataSource;
+    }
+
+    @Override
+    public void close() {
+        dataSource.close();
+        container.stop();
+    }
+}
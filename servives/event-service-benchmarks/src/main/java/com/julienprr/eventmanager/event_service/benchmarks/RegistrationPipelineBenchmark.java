@@ -0,0 +1,113 @@
+package com.julienprr.eventmanager.event_service.benchmarks;
+
+import com.julienprr.eventmanager.event_service.model.Reservation;
+import com.julienprr.eventmanager.event_service.model.ReservationStatus;
+import com.julienprr.eventmanager.event_service.registration.RegistrationPipeline;
+import com.julienprr.eventmanager.event_service.repository.ReservationJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 64 threads confirming reservations as fast as they are acknowledged. Throughput mode gives the
+ * registrations per millisecond, sample-time mode the acknowledgement latency percentiles
+ * (p99 included), both per flush batch size.
+ * <p>
+ * {@code acknowledge} waits for the write-behind log's fsync only; {@code directInsert} is the
+ * previous behaviour, one auto-committed insert per registration, and does not depend on the
+ * batch size. The flush backlog left at the end of each iteration is printed: a batch size whose
+ * backlog keeps growing acknowledges faster than the database absorbs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(64)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class RegistrationPipelineBenchmark {
+
+    private static final String INSERT = """
+            INSERT INTO reservations (id, event_id, participant_id, seats, status, held_at, confirmed_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    @Param({"1", "10", "100", "1000"})
+    private int batchSize;
+
+    private PostgresFixture postgres;
+    private Path directory;
+    private JdbcTemplate jdbcTemplate;
+    private RegistrationPipeline pipeline;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        postgres = new PostgresFixture(64);
+        directory = Files.createTempDirectory("registration-log");
+        jdbcTemplate = new JdbcTemplate(postgres.dataSource());
+        pipeline = new RegistrationPipeline(directory, batchSize, Duration.ofMillis(200), 64L * 1024 * 1024,
+                1024, new ReservationJdbcRepository(jdbcTemplate), new SimpleMeterRegistry());
+        pipeline.start();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportBacklog() {
+        System.out.println("Unflushed registrations: " + pipeline.unflushed());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        pipeline.close();
+        postgres.close();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public void acknowledge() {
+        pipeline.append(reservation()).join();
+    }
+
+    @Benchmark
+    public void directInsert() {
+        Reservation reservation = reservation();
+        jdbcTemplate.update(INSERT, reservation.getId(), reservation.getEventId(), reservation.getParticipantId(),
+                reservation.getSeats(), reservation.getStatus().name(), Timestamp.from(reservation.getHeldAt()),
+                Timestamp.from(reservation.getConfirmedAt()));
+    }
+
+    private static Reservation reservation() {
+        Instant now = Instant.now();
+        return Reservation.builder()
+                .id(UUID.randomUUID().toString())
+                .eventId(ThreadLocalRandom.current().nextLong(1, 100))
+                .participantId(UUID.randomUUID().toString())
+                .seats(1)
+                .status(ReservationStatus.CONFIRMED)
+                .heldAt(now.minusSeconds(30))
+                .confirmedAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.julienprr.eventmanager.event_service.benchmarks;
+
+import com.julienprr.eventmanager.event_service.inventory.SeatHold;
+import com.julienprr.eventmanager.event_service.inventory.SeatInventory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An event opening for sale: {@code reservers} virtual threads released at once, each trying to
+ * hold one seat out of {@code capacity}. The score is the time until every reserver has an
+ * answer.
+ * <p>
+ * {@code stripes = 1} is a single compare-and-set counter. {@code lockedInventory} runs the same
+ * holds one at a time under a single lock, the in-memory equivalent of every reserver queueing
+ * on {@code SELECT capacity ... FOR UPDATE}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SeatReservationBenchmark {
+
+    private static final Long EVENT_ID = 1L;
+
+    @Param({"10000"})
+    private int reservers;
+
+    @Param({"5000"})
+    private int capacity;
+
+    @Param({"1", "16", "64"})
+    private int stripes;
+
+    private SeatInventory inventory;
+    private final Object lock = new Object();
+
+    @Setup(Level.Invocation)
+    public void openSale() {
+        inventory = new SeatInventory(stripes, Duration.ofMinutes(5), Clock.systemUTC(), new SimpleMeterRegistry());
+        inventory.open(EVENT_ID, capacity, capacity);
+    }
+
+    @Benchmark
+    public int stripedInventory() throws InterruptedException {
+        return race(() -> {
+            Optional<SeatHold> hold = inventory.hold(EVENT_ID, "participant", 1);
+            return hold.isPresent();
+        });
+    }
+
+    @Benchmark
+    public int lockedInventory() throws InterruptedException {
+        return race(() -> {
+            synchronized (lock) {
+                return inventory.hold(EVENT_ID, "participant", 1).isPresent();
+            }
+        });
+    }
+
+    private int race(Reserver reserver) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger served = new AtomicInteger();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < reservers; i++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    if (reserver.reserve()) {
+                        served.incrementAndGet();
+                    }
+                });
+            }
+            start.countDown();
+        }
+        if (served.get() != Math.min(reservers, capacity)) {
+            throw new IllegalStateException("Handed out " + served.get() + " seats");
+        }
+        return served.get();
+    }
+
+    @FunctionalInterface
+    private interface Reserver {
+        boolean reserve();
+    }
+}
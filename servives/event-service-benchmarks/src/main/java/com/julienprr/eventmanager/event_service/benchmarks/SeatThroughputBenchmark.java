@@ -0,0 +1,43 @@
+package com.julienprr.eventmanager.event_service.benchmarks;
+
+import com.julienprr.eventmanager.event_service.inventory.SeatInventory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sustained hold and release throughput on one event from all cores, i.e. how well the
+ * inventory scales when every thread hits the same event.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class SeatThroughputBenchmark {
+
+    private static final Long EVENT_ID = 1L;
+
+    @Param({"1", "16", "64"})
+    private int stripes;
+
+    private SeatInventory inventory;
+
+    @Setup(Level.Trial)
+    public void openSale() {
+        inventory = new SeatInventory(stripes, Duration.ofMinutes(5), Clock.systemUTC(), new SimpleMeterRegistry());
+        inventory.open(EVENT_ID, 1_000_000, 1_000_000);
+    }
+
+    @Benchmark
+    public boolean holdAndRelease() {
+        return inventory.hold(EVENT_ID, "participant", 1)
+                .map(inventory::release)
+                .orElse(false);
+    }
+}
@@ -0,0 +1,19 @@
+-- Same shape as the table Hibernate creates for Reservation
+CREATE TABLE reservations (
+    id             varchar(36) PRIMARY KEY,
+    event_id       bigint       NOT NULL,
+    participant_id varchar(255) NOT NULL,
+    seats          integer      NOT NULL,
+    status         varchar(255) NOT NULL,
+    held_at        timestamp(6) with time zone NOT NULL,
+    confirmed_at   timestamp(6) with time zone
+);
+CREATE INDEX idx_reservations_event_id ON reservations (event_id);
+
+-- Only the columns the reservation insert checks, with room for every registration the benchmark makes
+CREATE TABLE events (
+    id              bigint  PRIMARY KEY,
+    capacity        integer NOT NULL,
+    confirmed_seats integer
+);
+INSERT INTO events (id, capacity) SELECT id, 2147483647 FROM generate_series(1, 99) AS id;
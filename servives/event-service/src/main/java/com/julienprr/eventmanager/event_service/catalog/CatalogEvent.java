@@ -0,0 +1,40 @@
+package com.julienprr.eventmanager.event_service.catalog;
+
+import com.julienprr.eventmanager.event_service.model.Event;
+import com.julienprr.eventmanager.event_service.model.EventCategory;
+import com.julienprr.eventmanager.event_service.model.EventStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable copy of an event, as held by the {@link EventCatalog} and handed to readers.
+ */
+public record CatalogEvent(
+        Long id,
+        String title,
+        String description,
+        EventCategory category,
+        String venue,
+        String city,
+        String country,
+        LocalDateTime startAt,
+        LocalDateTime endAt,
+        int capacity,
+        String organizerId,
+        EventStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long version
+) {
+
+    public static CatalogEvent of(Event event) {
+        return new CatalogEvent(event.getId(), event.getTitle(), event.getDescription(), event.getCategory(),
+                event.getVenue(), event.getCity(), event.getCountry(), event.getStartAt(), event.getEndAt(),
+                event.getCapacity(), event.getOrganizerId(), event.getStatus(), event.getCreatedAt(),
+                event.getUpdatedAt(), event.getVersion());
+    }
+
+    public CatalogKey key() {
+        return new CatalogKey(startAt, id);
+    }
+}
@@ -0,0 +1,23 @@
+package com.julienprr.eventmanager.event_service.catalog;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * Position of an event in the catalog: by start date, then id for events starting together.
+ */
+public record CatalogKey(LocalDateTime startAt, long id) implements Comparable<CatalogKey> {
+
+    private static final Comparator<CatalogKey> ORDER = Comparator.comparing(CatalogKey::startAt)
+            .thenComparingLong(CatalogKey::id);
+
+    // Sorts before every event starting at the given time
+    static CatalogKey startingAt(LocalDateTime startAt) {
+        return new CatalogKey(startAt, Long.MIN_VALUE);
+    }
+
+    @Override
+    public int compareTo(CatalogKey other) {
+        return ORDER.compare(this, other);
+    }
+}
@@ -0,0 +1,223 @@
+package com.julienprr.eventmanager.event_service.catalog;
+
+import com.julienprr.eventmanager.event_service.model.EventCategory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * In-memory read model of the upcoming events, indexed by start date, city and category.
+ * <p>
+ * Readers never lock: every index is a concurrent sorted structure and entries are immutable.
+ * Writers are serialized and ignore changes older than what the catalog already holds, since
+ * after-commit notifications of two transactions can arrive in either order. While a write is
+ * being applied, a listing may briefly miss the event or see it under both its old and new keys.
+ * <p>
+ * Writes committed by other instances are not notified here; {@link #reload} catches up on them.
+ */
+@Component
+public class EventCatalog {
+
+    private final Map<Long, CatalogEvent> byId = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<CatalogKey, CatalogEvent> byStart = new ConcurrentSkipListMap<>();
+    private final Map<String, NavigableSet<CatalogKey>> byCity = new ConcurrentHashMap<>();
+    private final Map<EventCategory, NavigableSet<CatalogKey>> byCategory = new EnumMap<>(EventCategory.class);
+    // Versions of removed events, so a late update cannot bring them back, kept until the event ends
+    private final Map<Long, Removal> removals = new ConcurrentHashMap<>();
+    private final AtomicLong estimatedBytes = new AtomicLong();
+
+    public EventCatalog(MeterRegistry meterRegistry) {
+        for (EventCategory category : EventCategory.values()) {
+            byCategory.put(category, new ConcurrentSkipListSet<>());
+        }
+        Gauge.builder("event.catalog.size", byId, Map::size)
+                .description("Upcoming events held in the in-memory catalog")
+                .register(meterRegistry);
+        Gauge.builder("event.catalog.memory", estimatedBytes, AtomicLong::get)
+                .description("Estimated heap used by the catalog entries and their indexes")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public Optional<CatalogEvent> get(Long eventId) {
+        return Optional.ofNullable(byId.get(eventId));
+    }
+
+    /**
+     * Events matching the query in start order, strictly after {@code after} when given.
+     */
+    public List<CatalogEvent> find(EventCatalogQuery query, CatalogKey after, int limit) {
+        NavigableSet<CatalogKey> candidates;
+        if (query.city() != null) {
+            candidates = byCity.get(normalizeCity(query.city()));
+            if (candidates == null) {
+                return List.of();
+            }
+        } else if (query.category() != null) {
+            candidates = byCategory.get(query.category());
+        } else {
+            candidates = byStart.navigableKeySet();
+        }
+
+        CatalogKey from = query.from() == null ? null : CatalogKey.startingAt(query.from());
+        NavigableSet<CatalogKey> range;
+        if (after != null && (from == null || after.compareTo(from) >= 0)) {
+            range = candidates.tailSet(after, false);
+        } else if (from != null) {
+            range = candidates.tailSet(from, true);
+        } else {
+            range = candidates;
+        }
+
+        List<CatalogEvent> found = new ArrayList<>(Math.min(limit, 256));
+        Iterator<CatalogKey> keys = range.iterator();
+        while (keys.hasNext() && found.size() < limit) {
+            CatalogKey key = keys.next();
+            if (query.to() != null && key.startAt().isAfter(query.to())) {
+                break;
+            }
+            CatalogEvent event = byStart.get(key);
+            if (event != null && matches(event, query)) {
+                found.add(event);
+            }
+        }
+        return found;
+    }
+
+    public synchronized void put(CatalogEvent event) {
+        Removal removal = removals.get(event.id());
+        if (removal != null && removal.version() >= event.version()) {
+            return;
+        }
+        CatalogEvent current = byId.get(event.id());
+        if (current != null) {
+            if (current.version() >= event.version()) {
+                return;
+            }
+            unindex(current);
+        }
+        byId.put(event.id(), event);
+        byStart.put(event.key(), event);
+        byCity.computeIfAbsent(normalizeCity(event.city()), city -> new ConcurrentSkipListSet<>()).add(event.key());
+        byCategory.get(event.category()).add(event.key());
+        estimatedBytes.addAndGet(estimateBytes(event));
+    }
+
+    /**
+     * Removes the event, as of the given version, which is no longer upcoming.
+     */
+    public synchronized void remove(CatalogEvent event) {
+        removals.merge(event.id(), new Removal(event.version(), event.endAt()),
+                (held, removal) -> held.version() >= removal.version() ? held : removal);
+        CatalogEvent current = byId.get(event.id());
+        if (current != null && current.version() <= event.version()) {
+            unindex(current);
+            byId.remove(event.id());
+        }
+    }
+
+    /**
+     * Replaces the catalog with the events {@code loader} passes to its consumer and returns how
+     * many held events it no longer listed. The loader runs with writers locked out, so a write
+     * committed after it started reading is applied after the reload rather than undone by it.
+     */
+    public synchronized int reload(Consumer<Consumer<CatalogEvent>> loader) {
+        Set<Long> loaded = new HashSet<>();
+        loader.accept(event -> {
+            loaded.add(event.id());
+            put(event);
+        });
+        List<CatalogEvent> unlisted = byId.values().stream()
+                .filter(event -> !loaded.contains(event.id()))
+                .toList();
+        unlisted.forEach(this::remove);
+        return unlisted.size();
+    }
+
+    /**
+     * Drops the events that ended before the given time and returns how many were dropped, along
+     * with the removals of events that ended by then.
+     */
+    public synchronized int removeEndedBefore(LocalDateTime time) {
+        List<CatalogEvent> ended = byId.values().stream()
+                .filter(event -> event.endAt().isBefore(time))
+                .toList();
+        ended.forEach(event -> {
+            unindex(event);
+            byId.remove(event.id());
+        });
+        removals.values().removeIf(removal -> removal.endAt().isBefore(time));
+        return ended.size();
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    public long estimatedBytes() {
+        return estimatedBytes.get();
+    }
+
+    private record Removal(long version, LocalDateTime endAt) {
+    }
+
+    private void unindex(CatalogEvent event) {
+        byStart.remove(event.key());
+        String city = normalizeCity(event.city());
+        NavigableSet<CatalogKey> cityKeys = byCity.get(city);
+        if (cityKeys != null) {
+            cityKeys.remove(event.key());
+            if (cityKeys.isEmpty()) {
+                byCity.remove(city);
+            }
+        }
+        byCategory.get(event.category()).remove(event.key());
+        estimatedBytes.addAndGet(-estimateBytes(event));
+    }
+
+    private static boolean matches(CatalogEvent event, EventCatalogQuery query) {
+        return (query.category() == null || query.category() == event.category())
+                && (query.city() == null || normalizeCity(query.city()).equals(normalizeCity(event.city())));
+    }
+
+    static String normalizeCity(String city) {
+        return city == null ? "" : city.strip().toLowerCase(Locale.ROOT);
+    }
+
+    // Rough 64-bit JVM sizes with compressed oops: the entry, its strings and date objects, and
+    // one node in each of the four indexes. Good enough to watch trends, not an exact measurement.
+    static long estimateBytes(CatalogEvent event) {
+        long bytes = 80;
+        bytes += stringBytes(event.title()) + stringBytes(event.description()) + stringBytes(event.venue())
+                + stringBytes(event.city()) + stringBytes(event.country()) + stringBytes(event.organizerId());
+        bytes += 4 * 72;
+        bytes += 2 * 16;
+        bytes += 48 + 64 + 2 * 48 + 24;
+        return bytes;
+    }
+
+    private static long stringBytes(String value) {
+        if (value == null) {
+            return 0;
+        }
+        boolean latin1 = value.chars().allMatch(c -> c <= 0xFF);
+        return 40 + (long) value.length() * (latin1 ? 1 : 2);
+    }
+}
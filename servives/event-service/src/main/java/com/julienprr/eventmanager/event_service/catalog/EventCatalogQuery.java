@@ -0,0 +1,12 @@
+package com.julienprr.eventmanager.event_service.catalog;
+
+import com.julienprr.eventmanager.event_service.model.EventCategory;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filters of a catalog listing; null fields do not filter. {@code from} and {@code to} bound the
+ * start date, both inclusive.
+ */
+public record EventCatalogQuery(String city, EventCategory category, LocalDateTime from, LocalDateTime to) {
+}
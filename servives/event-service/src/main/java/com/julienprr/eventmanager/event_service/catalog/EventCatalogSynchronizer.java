@@ -0,0 +1,79 @@
+package com.julienprr.eventmanager.event_service.catalog;
+
+import com.julienprr.eventmanager.event_service.model.EventStatus;
+import com.julienprr.eventmanager.event_service.repository.EventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the {@link EventCatalog} in line with the database: loads the upcoming events before the
+ * web server starts accepting requests, applies each committed write, and drops ended events.
+ * The catalog is also reloaded periodically, which picks up changes committed by other instances.
+ */
+@Component
+@Slf4j
+public class EventCatalogSynchronizer implements SmartInitializingSingleton {
+
+    private final EventCatalog eventCatalog;
+    private final EventRepository eventRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public EventCatalogSynchronizer(EventCatalog eventCatalog,
+                                    EventRepository eventRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.eventCatalog = eventCatalog;
+        this.eventRepository = eventRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long started = System.nanoTime();
+        eventCatalog.reload(this::loadUpcomingEvents);
+        log.info("Event catalog loaded: {} upcoming events, ~{} KB, in {} ms", eventCatalog.size(),
+                eventCatalog.estimatedBytes() / 1024, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // The first load happens on startup, above
+    @Scheduled(fixedDelayString = "${event-catalog.refresh-interval:5m}",
+            initialDelayString = "${event-catalog.refresh-interval:5m}")
+    public void refresh() {
+        int dropped = eventCatalog.reload(this::loadUpcomingEvents);
+        log.debug("Event catalog reloaded with {} upcoming events, {} no longer listed", eventCatalog.size(), dropped);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEventChanged(EventChanged change) {
+        if (change.listed()) {
+            eventCatalog.put(change.event());
+        } else {
+            eventCatalog.remove(change.event());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${event-catalog.purge-interval:5m}")
+    public void purgeEndedEvents() {
+        int purged = eventCatalog.removeEndedBefore(LocalDateTime.now());
+        if (purged > 0) {
+            log.debug("Dropped {} ended events from the catalog", purged);
+        }
+    }
+
+    private void loadUpcomingEvents(Consumer<CatalogEvent> catalog) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (var events = eventRepository.streamByStatusEndingAfter(EventStatus.SCHEDULED, LocalDateTime.now())) {
+                events.map(CatalogEvent::of).forEach(catalog);
+            }
+        });
+    }
+}
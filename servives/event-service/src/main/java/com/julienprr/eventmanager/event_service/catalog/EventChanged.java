@@ -0,0 +1,8 @@
+package com.julienprr.eventmanager.event_service.catalog;
+
+/**
+ * Published by the event service inside the writing transaction. {@code listed} tells whether the
+ * event, as of {@code event.version()}, belongs in the catalog of upcoming events.
+ */
+public record EventChanged(CatalogEvent event, boolean listed) {
+}
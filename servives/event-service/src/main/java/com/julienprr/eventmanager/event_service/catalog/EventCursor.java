@@ -0,0 +1,42 @@
+package com.julienprr.eventmanager.event_service.catalog;
+
+import com.julienprr.eventmanager.event_service.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque cursor for the event listing, carrying the catalog key of the last returned event.
+ */
+public final class EventCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private EventCursor() {
+    }
+
+    public static String encode(CatalogKey key) {
+        String raw = key.startAt() + String.valueOf(SEPARATOR) + key.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Null when there is no cursor, i.e. for the first page
+    public static CatalogKey decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException(cursor);
+            }
+            return new CatalogKey(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
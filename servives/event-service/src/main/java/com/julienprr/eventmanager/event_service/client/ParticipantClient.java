@@ -0,0 +1,130 @@
+package com.julienprr.eventmanager.event_service.client;
+
+import com.julienprr.eventmanager.event_service.replica.ParticipantReplica;
+import com.julienprr.eventmanager.event_service.replica.ReplicatedParticipant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.client.RestClient;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looks up public participant profiles, locally in the {@link ParticipantReplica} when it has
+ * them, otherwise in user-service.
+ * <p>
+ * Lookups are not sent one by one: the ids asked for within {@code batchWindow} of the first one
+ * go out together in a single batch call, or as soon as {@code maxBatchSize} of them are waiting.
+ * Concurrent lookups of the same id share one future until the response arrives.
+ */
+@Slf4j
+public class ParticipantClient implements Closeable {
+
+    static final String LOOKUP_PATH = "/api/participants/public/lookup";
+
+    private final RestClient restClient;
+    private final Duration batchWindow;
+    private final int maxBatchSize;
+    private final ParticipantReplica replica;
+
+    private final Map<Long, CompletableFuture<Optional<ParticipantProfile>>> inFlight = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("participant-client-batcher").daemon().factory());
+    private final ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Object lock = new Object();
+    private List<Long> batch = new ArrayList<>();
+    private long generation;
+
+    public ParticipantClient(RestClient restClient, Duration batchWindow, int maxBatchSize, ParticipantReplica replica) {
+        this.restClient = restClient;
+        this.batchWindow = batchWindow;
+        this.maxBatchSize = maxBatchSize;
+        this.replica = replica;
+    }
+
+    // Completes with an empty optional when no participant has this id
+    public CompletableFuture<Optional<ParticipantProfile>> getPublicProfile(Long participantId) {
+        // A participant missing from the replica may just have signed up: user-service is asked
+        Optional<ReplicatedParticipant> replicated = replica.find(participantId);
+        if (replicated.isPresent()) {
+            return CompletableFuture.completedFuture(Optional.of(replicated.get().profile()));
+        }
+        CompletableFuture<Optional<ParticipantProfile>> lookup = new CompletableFuture<>();
+        CompletableFuture<Optional<ParticipantProfile>> pending = inFlight.putIfAbsent(participantId, lookup);
+        if (pending != null) {
+            return pending;
+        }
+        List<Long> full = null;
+        synchronized (lock) {
+            batch.add(participantId);
+            if (batch.size() >= maxBatchSize) {
+                full = takeBatch();
+            } else if (batch.size() == 1) {
+                long scheduled = generation;
+                scheduler.schedule(() -> flush(scheduled), batchWindow.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        if (full != null) {
+            send(full);
+        }
+        return lookup;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        callers.close();
+    }
+
+    private void flush(long scheduled) {
+        List<Long> ready;
+        synchronized (lock) {
+            // The batch this timer was started for already left because it filled up
+            if (scheduled != generation || batch.isEmpty()) {
+                return;
+            }
+            ready = takeBatch();
+        }
+        send(ready);
+    }
+
+    private List<Long> takeBatch() {
+        List<Long> taken = batch;
+        batch = new ArrayList<>();
+        generation++;
+        return taken;
+    }
+
+    private void send(List<Long> ids) {
+        callers.execute(() -> {
+            try {
+                ParticipantProfileBatch response = restClient.post()
+                        .uri(LOOKUP_PATH)
+                        .body(Map.of("ids", ids))
+                        .retrieve()
+                        .body(ParticipantProfileBatch.class);
+                Map<Long, ParticipantProfile> profiles = response == null || response.profiles() == null
+                        ? Map.of()
+                        : response.profiles();
+                for (Long id : ids) {
+                    inFlight.remove(id).complete(Optional.ofNullable(profiles.get(id)));
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not look up {} participants in user-service", ids.size(), e);
+                for (Long id : ids) {
+                    inFlight.remove(id).completeExceptionally(e);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,6 @@
+package com.julienprr.eventmanager.event_service.client;
+
+// Public profile of a participant as served by user-service
+public record ParticipantProfile(String firstname, String lastname, String avatarUrl, String bio,
+                                 String city, String country) {
+}
@@ -0,0 +1,7 @@
+package com.julienprr.eventmanager.event_service.client;
+
+import java.util.List;
+import java.util.Map;
+
+record ParticipantProfileBatch(Map<Long, ParticipantProfile> profiles, List<Long> missingIds) {
+}
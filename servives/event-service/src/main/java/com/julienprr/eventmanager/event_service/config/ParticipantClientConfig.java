@@ -0,0 +1,56 @@
+package com.julienprr.eventmanager.event_service.config;
+
+import com.julienprr.eventmanager.event_service.client.ParticipantClient;
+import com.julienprr.eventmanager.event_service.replica.ParticipantReplica;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.http.client.ClientHttpRequestFactoryBuilder;
+import org.springframework.boot.http.client.ClientHttpRequestFactorySettings;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.client.AuthorizedClientServiceOAuth2AuthorizedClientManager;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClientService;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.security.oauth2.client.web.client.OAuth2ClientHttpRequestInterceptor;
+import org.springframework.security.oauth2.client.web.client.RequestAttributeClientRegistrationIdResolver;
+import org.springframework.security.oauth2.client.web.client.RequestAttributePrincipalResolver;
+import org.springframework.web.client.RestClient;
+
+@Configuration
+@EnableConfigurationProperties(ParticipantClientProperties.class)
+public class ParticipantClientConfig {
+
+    private static final String PRINCIPAL = "event-service";
+
+    // Calls are made from background threads (batches, the replica), so the token comes from the
+    // client credentials grant rather than from whichever request triggered them
+    @Bean
+    public RestClient userServiceRestClient(RestClient.Builder builder,
+                                            ParticipantClientProperties properties,
+                                            ObjectProvider<ClientRegistrationRepository> clientRegistrations,
+                                            ObjectProvider<OAuth2AuthorizedClientService> authorizedClients) {
+        builder.baseUrl(properties.baseUrl())
+                .requestFactory(ClientHttpRequestFactoryBuilder.detect().build(ClientHttpRequestFactorySettings.defaults()
+                        .withConnectTimeout(properties.timeout())
+                        .withReadTimeout(properties.timeout())));
+        ClientRegistrationRepository registrations = clientRegistrations.getIfAvailable();
+        OAuth2AuthorizedClientService clientService = authorizedClients.getIfAvailable();
+        if (registrations != null && clientService != null) {
+            OAuth2ClientHttpRequestInterceptor interceptor = new OAuth2ClientHttpRequestInterceptor(
+                    new AuthorizedClientServiceOAuth2AuthorizedClientManager(registrations, clientService));
+            interceptor.setPrincipalResolver(new RequestAttributePrincipalResolver());
+            builder.requestInterceptor(interceptor)
+                    .defaultRequest(request -> request
+                            .attributes(RequestAttributeClientRegistrationIdResolver.clientRegistrationId(properties.clientRegistrationId()))
+                            .attributes(RequestAttributePrincipalResolver.principal(PRINCIPAL)));
+        }
+        return builder.build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public ParticipantClient participantClient(RestClient userServiceRestClient, ParticipantClientProperties properties,
+                                               ParticipantReplica participantReplica) {
+        return new ParticipantClient(userServiceRestClient, properties.batchWindow(), properties.maxBatchSize(),
+                participantReplica);
+    }
+}
@@ -0,0 +1,37 @@
+package com.julienprr.eventmanager.event_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Calls to user-service for participant profiles.
+ *
+ * @param baseUrl              root URL of user-service
+ * @param batchWindow          how long a lookup waits for others to share its call
+ * @param maxBatchSize         ids per call; user-service accepts up to 100
+ * @param timeout              connect and read timeout of a call
+ * @param clientRegistrationId OAuth2 client used to authenticate the calls
+ */
+@ConfigurationProperties(prefix = "participant-client")
+public record ParticipantClientProperties(String baseUrl, Duration batchWindow, Integer maxBatchSize,
+                                          Duration timeout, String clientRegistrationId) {
+
+    public ParticipantClientProperties {
+        if (baseUrl == null) {
+            baseUrl = "http://localhost:8081";
+        }
+        if (batchWindow == null) {
+            batchWindow = Duration.ofMillis(5);
+        }
+        if (maxBatchSize == null || maxBatchSize <= 0 || maxBatchSize > 100) {
+            maxBatchSize = 100;
+        }
+        if (timeout == null) {
+            timeout = Duration.ofSeconds(2);
+        }
+        if (clientRegistrationId == null) {
+            clientRegistrationId = "user-service";
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.julienprr.eventmanager.event_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Local replica of participant data, fed by the user-service change feed.
+ *
+ * @param enabled      whether the replica follows the feed at all
+ * @param pollInterval pause between two reads of the feed
+ * @param pageSize     changes asked for per read
+ */
+@ConfigurationProperties(prefix = "participant-replica")
+public record ParticipantReplicaProperties(Boolean enabled, Duration pollInterval, Integer pageSize) {
+
+    public ParticipantReplicaProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (pollInterval == null) {
+            pollInterval = Duration.ofSeconds(1);
+        }
+        if (pageSize == null || pageSize <= 0 || pageSize > 1_000) {
+            pageSize = 500;
+        }
+    }
+}
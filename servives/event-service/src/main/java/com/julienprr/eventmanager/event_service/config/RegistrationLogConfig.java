@@ -0,0 +1,27 @@
+package com.julienprr.eventmanager.event_service.config;
+
+import com.julienprr.eventmanager.event_service.registration.RegistrationPipeline;
+import com.julienprr.eventmanager.event_service.repository.ReservationJdbcRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+@Configuration
+@EnableConfigurationProperties(RegistrationLogProperties.class)
+public class RegistrationLogConfig {
+
+    // Started here so that anything left in the log is in the database before a reservation is served
+    @Bean(destroyMethod = "close")
+    public RegistrationPipeline registrationPipeline(RegistrationLogProperties properties,
+                                                     ReservationJdbcRepository reservationJdbcRepository,
+                                                     MeterRegistry meterRegistry) throws IOException {
+        RegistrationPipeline pipeline = new RegistrationPipeline(properties.directory(), properties.batchSize(),
+                properties.flushInterval(), properties.segmentSize().toBytes(), properties.maxGroupSize(),
+                reservationJdbcRepository, meterRegistry);
+        pipeline.start();
+        return pipeline;
+    }
+}
@@ -0,0 +1,39 @@
+package com.julienprr.eventmanager.event_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Tuning of the write-behind registration pipeline.
+ *
+ * @param directory     where the log segments and the checkpoint live; must survive restarts
+ * @param batchSize     registrations written to the database per statement
+ * @param flushInterval longest a partial batch waits for more registrations before being written
+ * @param segmentSize   size after which the log moves on to a new segment file
+ * @param maxGroupSize  registrations acknowledged by a single fsync at most
+ */
+@ConfigurationProperties(prefix = "registration-log")
+public record RegistrationLogProperties(Path directory, Integer batchSize, Duration flushInterval,
+                                        DataSize segmentSize, Integer maxGroupSize) {
+
+    public RegistrationLogProperties {
+        if (directory == null) {
+            directory = Path.of("data", "registration-log");
+        }
+        if (batchSize == null || batchSize <= 0) {
+            batchSize = 500;
+        }
+        if (flushInterval == null) {
+            flushInterval = Duration.ofMillis(200);
+        }
+        if (segmentSize == null) {
+            segmentSize = DataSize.ofMegabytes(64);
+        }
+        if (maxGroupSize == null || maxGroupSize <= 0) {
+            maxGroupSize = 1024;
+        }
+    }
+}
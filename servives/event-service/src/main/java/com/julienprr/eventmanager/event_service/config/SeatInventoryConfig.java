@@ -0,0 +1,19 @@
+package com.julienprr.eventmanager.event_service.config;
+
+import com.julienprr.eventmanager.event_service.inventory.SeatInventory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+@EnableConfigurationProperties(SeatInventoryProperties.class)
+public class SeatInventoryConfig {
+
+    @Bean
+    public SeatInventory seatInventory(SeatInventoryProperties properties, MeterRegistry meterRegistry) {
+        return new SeatInventory(properties.stripes(), properties.holdTimeout(), Clock.systemUTC(), meterRegistry);
+    }
+}
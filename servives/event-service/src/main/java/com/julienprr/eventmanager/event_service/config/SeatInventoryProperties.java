@@ -0,0 +1,28 @@
+package com.julienprr.eventmanager.event_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Tuning of seat reservations.
+ *
+ * @param holdTimeout           how long held seats wait for confirmation before going back on sale
+ * @param stripes               independent counters per event; more stripes, less contention
+ * @param maxSeatsPerReservation seats one reservation may hold
+ */
+@ConfigurationProperties(prefix = "seat-inventory")
+public record SeatInventoryProperties(Duration holdTimeout, Integer stripes, Integer maxSeatsPerReservation) {
+
+    public SeatInventoryProperties {
+        if (holdTimeout == null) {
+            holdTimeout = Duration.ofMinutes(5);
+        }
+        if (stripes == null || stripes <= 0) {
+            stripes = Runtime.getRuntime().availableProcessors() * 2;
+        }
+        if (maxSeatsPerReservation == null || maxSeatsPerReservation <= 0) {
+            maxSeatsPerReservation = 10;
+        }
+    }
+}
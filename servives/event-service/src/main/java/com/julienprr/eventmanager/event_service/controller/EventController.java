@@ -0,0 +1,118 @@
+package com.julienprr.eventmanager.event_service.controller;
+
+import com.julienprr.eventmanager.event_service.catalog.CatalogEvent;
+import com.julienprr.eventmanager.event_service.catalog.EventCatalogQuery;
+import com.julienprr.eventmanager.event_service.catalog.EventCursor;
+import com.julienprr.eventmanager.event_service.dto.event.CreateEventRequest;
+import com.julienprr.eventmanager.event_service.dto.event.EventPageResponse;
+import com.julienprr.eventmanager.event_service.dto.event.EventResponse;
+import com.julienprr.eventmanager.event_service.dto.event.UpdateEventRequest;
+import com.julienprr.eventmanager.event_service.mapper.EventMapper;
+import com.julienprr.eventmanager.event_service.model.EventCategory;
+import com.julienprr.eventmanager.event_service.service.EventCaller;
+import com.julienprr.eventmanager.event_service.service.IEventService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Window;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+@Tag(name = "Events", description = "Browsing and management of events")
+public class EventController {
+
+    private final IEventService eventService;
+    private final EventMapper eventMapper;
+
+    @GetMapping
+    @Operation(summary = "List upcoming events", description = "Returns one page of upcoming events ordered by start date, optionally filtered by city, category and start date range. Served from the in-memory catalog. Pass the returned nextCursor to get the following page. No authentication required.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page of events retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    public EventPageResponse listEvents(
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) EventCategory category,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Window<CatalogEvent> window = eventService.listUpcomingEvents(
+                new EventCatalogQuery(city, category, from, to), cursor, size);
+        List<EventResponse> items = window.stream()
+                .map(eventMapper::toResponse)
+                .toList();
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? EventCursor.encode(window.getContent().getLast().key())
+                : null;
+        return new EventPageResponse(items, nextCursor);
+    }
+
+    @GetMapping("/{eventId}")
+    @Operation(summary = "Get event by ID", description = "Returns an event, including past and cancelled ones. No authentication required.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Event retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Event not found")
+    })
+    public EventResponse getEvent(@PathVariable Long eventId) {
+        return eventMapper.toResponse(eventService.getEvent(eventId));
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    @PreAuthorize("hasAnyRole('ORGANIZER', 'ADMIN')")
+    @Operation(summary = "Create an event", description = "Creates an event owned by the calling organizer. Accessible only by organizers and admins.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Event successfully created"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Access forbidden for non-organizers")
+    })
+    public EventResponse createEvent(@Valid @RequestBody CreateEventRequest request, Authentication authentication) {
+        return eventMapper.toResponse(eventService.createEvent(request, EventCaller.of(authentication)));
+    }
+
+    @PutMapping("/{eventId}")
+    @PreAuthorize("hasAnyRole('ORGANIZER', 'ADMIN')")
+    @Operation(summary = "Update an event", description = "Updates the given fields of an event. Organizers can only update their own events.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Event updated successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Not the organizer of this event"),
+            @ApiResponse(responseCode = "404", description = "Event not found"),
+            @ApiResponse(responseCode = "409", description = "Event cancelled or modified concurrently")
+    })
+    public EventResponse updateEvent(@PathVariable Long eventId,
+                                     @Valid @RequestBody UpdateEventRequest request,
+                                     Authentication authentication) {
+        return eventMapper.toResponse(eventService.updateEvent(eventId, request, EventCaller.of(authentication)));
+    }
+
+    @PostMapping("/{eventId}/cancel")
+    @PreAuthorize("hasAnyRole('ORGANIZER', 'ADMIN')")
+    @Operation(summary = "Cancel an event", description = "Cancels an event, which removes it from the listing. Organizers can only cancel their own events.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Event cancelled"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Not the organizer of this event"),
+            @ApiResponse(responseCode = "404", description = "Event not found"),
+            @ApiResponse(responseCode = "409", description = "Event already cancelled")
+    })
+    public EventResponse cancelEvent(@PathVariable Long eventId, Authentication authentication) {
+        return eventMapper.toResponse(eventService.cancelEvent(eventId, EventCaller.of(authentication)));
+    }
+}
@@ -0,0 +1,89 @@
+package com.julienprr.eventmanager.event_service.controller;
+
+import com.julienprr.eventmanager.event_service.dto.reservation.AvailabilityResponse;
+import com.julienprr.eventmanager.event_service.dto.reservation.CreateReservationRequest;
+import com.julienprr.eventmanager.event_service.dto.reservation.ReservationResponse;
+import com.julienprr.eventmanager.event_service.inventory.SeatHold;
+import com.julienprr.eventmanager.event_service.model.ReservationStatus;
+import com.julienprr.eventmanager.event_service.service.EventCaller;
+import com.julienprr.eventmanager.event_service.service.IEventService;
+import com.julienprr.eventmanager.event_service.service.IReservationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@Tag(name = "Reservations", description = "Seat reservations for events")
+public class ReservationController {
+
+    private final IReservationService reservationService;
+    private final IEventService eventService;
+
+    @PostMapping("/events/{eventId}/reservations")
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(summary = "Hold seats", description = "Sets seats aside for the caller. The hold must be confirmed before it expires, otherwise the seats go back on sale.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Seats held"),
+            @ApiResponse(responseCode = "400", description = "Invalid seat count or event already ended"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "404", description = "Event not found"),
+            @ApiResponse(responseCode = "409", description = "Sold out or event cancelled")
+    })
+    public ReservationResponse holdSeats(@PathVariable Long eventId,
+                                         @Valid @RequestBody(required = false) CreateReservationRequest request,
+                                         Authentication authentication) {
+        int seats = request == null || request.getSeats() == null ? 1 : request.getSeats();
+        SeatHold hold = reservationService.holdSeats(eventId, seats, EventCaller.of(authentication));
+        return new ReservationResponse(hold.reservationId(), hold.eventId(), hold.seats(),
+                ReservationStatus.HELD, hold.expiresAt(), null);
+    }
+
+    @PostMapping("/reservations/{reservationId}/confirm")
+    @Operation(summary = "Confirm a hold", description = "Turns a hold of the caller into a confirmed reservation.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Reservation confirmed"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Hold belongs to another participant"),
+            @ApiResponse(responseCode = "404", description = "Hold not found or expired")
+    })
+    public CompletableFuture<ReservationResponse> confirmReservation(@PathVariable String reservationId,
+                                                                    Authentication authentication) {
+        return reservationService.confirmReservation(reservationId, EventCaller.of(authentication))
+                .thenApply(reservation -> new ReservationResponse(reservation.getId(), reservation.getEventId(),
+                        reservation.getSeats(), reservation.getStatus(), null, reservation.getConfirmedAt()));
+    }
+
+    @DeleteMapping("/reservations/{reservationId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Release a hold", description = "Gives the held seats back before the hold expires.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Hold released"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Hold belongs to another participant"),
+            @ApiResponse(responseCode = "404", description = "Hold not found or expired")
+    })
+    public void releaseHold(@PathVariable String reservationId, Authentication authentication) {
+        reservationService.releaseHold(reservationId, EventCaller.of(authentication));
+    }
+
+    @GetMapping("/events/{eventId}/availability")
+    @Operation(summary = "Seats left", description = "Returns the capacity of the event and the seats neither confirmed nor held. No authentication required.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Availability retrieved"),
+            @ApiResponse(responseCode = "404", description = "Event not found")
+    })
+    public AvailabilityResponse getAvailability(@PathVariable Long eventId) {
+        int remaining = reservationService.remainingSeats(eventId);
+        return new AvailabilityResponse(eventId, eventService.getEvent(eventId).capacity(), remaining);
+    }
+}
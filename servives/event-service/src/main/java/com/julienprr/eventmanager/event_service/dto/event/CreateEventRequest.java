@@ -0,0 +1,44 @@
+package com.julienprr.eventmanager.event_service.dto.event;
+
+import com.julienprr.eventmanager.event_service.model.EventCategory;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class CreateEventRequest {
+
+    @NotBlank
+    private String title;
+
+    @Size(max = 4000)
+    private String description;
+
+    @NotNull
+    private EventCategory category;
+
+    private String venue;
+
+    @NotBlank
+    private String city;
+
+    private String country;
+
+    @NotNull
+    @Future
+    private LocalDateTime startAt;
+
+    @NotNull
+    private LocalDateTime endAt;
+
+    @Positive
+    private int capacity;
+}
@@ -0,0 +1,17 @@
+package com.julienprr.eventmanager.event_service.dto.event;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventPageResponse {
+    private List<EventResponse> items;
+
+    // Pass back as "cursor" to get the next page; null on the last page
+    private String nextCursor;
+}
@@ -0,0 +1,31 @@
+package com.julienprr.eventmanager.event_service.dto.event;
+
+import com.julienprr.eventmanager.event_service.model.EventCategory;
+import com.julienprr.eventmanager.event_service.model.EventStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventResponse {
+    private Long id;
+    private String title;
+    private String description;
+    private EventCategory category;
+
+    private String venue;
+    private String city;
+    private String country;
+
+    private LocalDateTime startAt;
+    private LocalDateTime endAt;
+    private int capacity;
+
+    private String organizerId;
+    private EventStatus status;
+    private Long version;
+}
@@ -0,0 +1,34 @@
+package com.julienprr.eventmanager.event_service.dto.event;
+
+import com.julienprr.eventmanager.event_service.model.EventCategory;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// Null fields are left unchanged
+@Getter
+@Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class UpdateEventRequest {
+
+    private String title;
+
+    @Size(max = 4000)
+    private String description;
+
+    private EventCategory category;
+    private String venue;
+    private String city;
+    private String country;
+    private LocalDateTime startAt;
+    private LocalDateTime endAt;
+
+    @Positive
+    private Integer capacity;
+
+    // Version from the last read; the update is rejected if the event changed since
+    private Long version;
+}
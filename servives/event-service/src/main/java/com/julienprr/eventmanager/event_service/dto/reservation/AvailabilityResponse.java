@@ -0,0 +1,14 @@
+package com.julienprr.eventmanager.event_service.dto.reservation;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AvailabilityResponse {
+    private Long eventId;
+    private int capacity;
+    private int remainingSeats;
+}
@@ -0,0 +1,15 @@
+package com.julienprr.eventmanager.event_service.dto.reservation;
+
+import jakarta.validation.constraints.Positive;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class CreateReservationRequest {
+
+    // Defaults to 1
+    @Positive
+    private Integer seats;
+}
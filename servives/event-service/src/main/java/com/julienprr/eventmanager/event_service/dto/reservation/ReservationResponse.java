@@ -0,0 +1,22 @@
+package com.julienprr.eventmanager.event_service.dto.reservation;
+
+import com.julienprr.eventmanager.event_service.model.ReservationStatus;
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservationResponse {
+    private String reservationId;
+    private Long eventId;
+    private int seats;
+    private ReservationStatus status;
+
+    // Set while HELD: confirm before this instant or the seats go back on sale
+    private Instant expiresAt;
+    private Instant confirmedAt;
+}
@@ -0,0 +1,7 @@
+package com.julienprr.eventmanager.event_service.exception;
+
+public class EventCancelledException extends RuntimeException {
+    public EventCancelledException(Long eventId) {
+        super("Event " + eventId + " is cancelled and can no longer be changed");
+    }
+}
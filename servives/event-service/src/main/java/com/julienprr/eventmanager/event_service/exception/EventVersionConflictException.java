@@ -0,0 +1,7 @@
+package com.julienprr.eventmanager.event_service.exception;
+
+public class EventVersionConflictException extends RuntimeException {
+    public EventVersionConflictException(Long expectedVersion) {
+        super("Event was modified concurrently, expected version " + expectedVersion + " is stale");
+    }
+}
@@ -0,0 +1,125 @@
+package com.julienprr.eventmanager.event_service.exception;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public Map<String, String> handleResourceNotFoundException(ResourceNotFoundException e) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "NOT_FOUND");
+        error.put("message", e.getMessage());
+        return error;
+    }
+
+    @ExceptionHandler({EventVersionConflictException.class, OptimisticLockingFailureException.class})
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public Map<String, String> handleVersionConflict(RuntimeException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "VERSION_CONFLICT");
+        error.put("message", ex.getMessage());
+        return error;
+    }
+
+    @ExceptionHandler(EventCancelledException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public Map<String, String> handleEventCancelled(EventCancelledException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "EVENT_CANCELLED");
+        error.put("message", ex.getMessage());
+        return error;
+    }
+
+    @ExceptionHandler(SoldOutException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public Map<String, String> handleSoldOut(SoldOutException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "SOLD_OUT");
+        error.put("message", ex.getMessage());
+        return error;
+    }
+
+    @ExceptionHandler(InvalidReservationException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Map<String, String> handleInvalidReservation(InvalidReservationException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "INVALID_RESERVATION");
+        error.put("message", ex.getMessage());
+        return error;
+    }
+
+    @ExceptionHandler(InvalidEventException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Map<String, String> handleInvalidEvent(InvalidEventException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "INVALID_EVENT");
+        error.put("message", ex.getMessage());
+        return error;
+    }
+
+    // No connection could be obtained in time, e.g. when the connection limiter refuses a caller
+    @ExceptionHandler({CannotGetJdbcConnectionException.class, CannotCreateTransactionException.class,
+            TransientDataAccessResourceException.class})
+    public ResponseEntity<Map<String, String>> handleDatabaseBusy(RuntimeException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "SERVICE_UNAVAILABLE");
+        error.put("message", "Database is busy, please retry later");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Map<String, String> handleInvalidCursor(InvalidCursorException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "INVALID_CURSOR");
+        error.put("message", ex.getMessage());
+        return error;
+    }
+
+    // Thrown by @PreAuthorize and ownership checks; without this the generic handler would answer 500
+    @ExceptionHandler(AccessDeniedException.class)
+    @ResponseStatus(HttpStatus.FORBIDDEN)
+    public Map<String, String> handleAccessDenied(AccessDeniedException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "FORBIDDEN");
+        error.put("message", ex.getMessage());
+        return error;
+    }
+
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Map<String, String> handleValidationErrors(MethodArgumentNotValidException ex) {
+        Map<String, String> errors = new HashMap<>();
+        ex.getBindingResult().getFieldErrors().forEach(err ->
+                errors.put(err.getField(), err.getDefaultMessage())
+        );
+        return errors;
+    }
+
+    @ExceptionHandler(Exception.class)
+    @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
+    public Map<String, String> handleGenericException(Exception ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "INTERNAL_SERVER_ERROR");
+        error.put("message", ex.getMessage());
+        return error;
+    }
+}
@@ -0,0 +1,7 @@
+package com.julienprr.eventmanager.event_service.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String cursor) {
+        super("Invalid pagination cursor: " + cursor);
+    }
+}
@@ -0,0 +1,7 @@
+package com.julienprr.eventmanager.event_service.exception;
+
+public class InvalidEventException extends RuntimeException {
+    public InvalidEventException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.julienprr.eventmanager.event_service.exception;
+
+public class InvalidReservationException extends RuntimeException {
+    public InvalidReservationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.julienprr.eventmanager.event_service.exception;
+
+public class SoldOutException extends RuntimeException {
+    public SoldOutException(Long eventId, int seats) {
+        super("Not enough seats left for event " + eventId + " to reserve " + seats);
+    }
+}
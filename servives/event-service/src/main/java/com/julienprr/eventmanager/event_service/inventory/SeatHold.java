@@ -0,0 +1,10 @@
+package com.julienprr.eventmanager.event_service.inventory;
+
+import java.time.Instant;
+
+/**
+ * Seats set aside for a participant until {@code expiresAt}, unless confirmed or released before.
+ */
+public record SeatHold(String reservationId, Long eventId, String participantId, int seats,
+                       Instant heldAt, Instant expiresAt) {
+}
@@ -0,0 +1,204 @@
+package com.julienprr.eventmanager.event_service.inventory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remaining seats of the events currently open for reservation, and the holds taken on them.
+ * <p>
+ * Nothing here takes a lock or touches the database: seats come out of a
+ * {@link StripedSeatCounter} per event and holds live in a concurrent map that
+ * {@link #releaseExpired()} sweeps. Callers open an event with its unsold seats before the first
+ * hold, and persist a hold once {@link #confirm} has taken it out of the inventory.
+ * <p>
+ * The counters are exact only if a single instance owns the inventory of an event. Should two
+ * sell the same event anyway, the database still refuses to store more confirmed seats than the
+ * capacity, see {@code ReservationJdbcRepository#insertAll}.
+ */
+public class SeatInventory {
+
+    private final Map<Long, EventSeats> events = new ConcurrentHashMap<>();
+    private final Map<String, SeatHold> holds = new ConcurrentHashMap<>();
+    private final int stripes;
+    private final Duration holdTimeout;
+    private final Clock clock;
+    private final Counter held;
+    private final Counter soldOut;
+    private final Counter expired;
+
+    public SeatInventory(int stripes, Duration holdTimeout, Clock clock, MeterRegistry meterRegistry) {
+        this.stripes = stripes;
+        this.holdTimeout = holdTimeout;
+        this.clock = clock;
+        this.held = outcome(meterRegistry, "held");
+        this.soldOut = outcome(meterRegistry, "sold_out");
+        this.expired = outcome(meterRegistry, "expired");
+        Gauge.builder("seat.holds.active", holds, Map::size)
+                .description("Seat holds waiting for confirmation")
+                .register(meterRegistry);
+    }
+
+    public boolean isOpen(Long eventId) {
+        return events.containsKey(eventId);
+    }
+
+    /**
+     * Opens the event with the given capacity, of which {@code unsoldSeats} are still available.
+     * Does nothing if the event is already open.
+     */
+    public void open(Long eventId, int capacity, int unsoldSeats) {
+        events.putIfAbsent(eventId, new EventSeats(capacity, new StripedSeatCounter(Math.max(0, unsoldSeats), stripes)));
+    }
+
+    /**
+     * Stops reservations for the event; its pending holds can no longer be confirmed.
+     */
+    public void close(Long eventId) {
+        events.remove(eventId);
+        holds.values().removeIf(hold -> hold.eventId().equals(eventId));
+    }
+
+    /**
+     * Sets aside seats for the participant, or returns empty if not enough are left.
+     */
+    public Optional<SeatHold> hold(Long eventId, String participantId, int seats) {
+        EventSeats eventSeats = events.get(eventId);
+        if (eventSeats == null) {
+            throw new IllegalStateException("Event " + eventId + " is not open for reservation");
+        }
+        if (!eventSeats.counter.tryAcquire(seats)) {
+            soldOut.increment();
+            return Optional.empty();
+        }
+        Instant now = clock.instant();
+        SeatHold hold = new SeatHold(UUID.randomUUID().toString(), eventId, participantId, seats, now, now.plus(holdTimeout));
+        eventSeats.held.add(seats);
+        holds.put(hold.reservationId(), hold);
+        held.increment();
+        return Optional.of(hold);
+    }
+
+    public Optional<SeatHold> findHold(String reservationId) {
+        return Optional.ofNullable(holds.get(reservationId));
+    }
+
+    /**
+     * Takes the hold out of the inventory for good: its seats are now sold. Returns false if the
+     * hold has expired or was released meanwhile.
+     */
+    public boolean confirm(SeatHold hold) {
+        // The sweep may not have run yet; an expired hold goes back on sale rather than being sold
+        if (hold.expiresAt().isBefore(clock.instant())) {
+            if (release(hold)) {
+                expired.increment();
+            }
+            return false;
+        }
+        if (!holds.remove(hold.reservationId(), hold)) {
+            return false;
+        }
+        EventSeats eventSeats = events.get(hold.eventId());
+        if (eventSeats != null) {
+            eventSeats.held.add(-hold.seats());
+        }
+        return true;
+    }
+
+    /**
+     * Puts the seats of a confirmed hold back, e.g. when persisting the confirmation failed.
+     */
+    public void restore(SeatHold hold) {
+        EventSeats eventSeats = events.get(hold.eventId());
+        if (eventSeats != null) {
+            eventSeats.counter.release(hold.seats());
+        }
+    }
+
+    public boolean release(SeatHold hold) {
+        if (!holds.remove(hold.reservationId(), hold)) {
+            return false;
+        }
+        EventSeats eventSeats = events.get(hold.eventId());
+        if (eventSeats != null) {
+            eventSeats.held.add(-hold.seats());
+            eventSeats.counter.release(hold.seats());
+        }
+        return true;
+    }
+
+    /**
+     * Releases every hold past its expiry and returns how many were released.
+     */
+    public int releaseExpired() {
+        Instant now = clock.instant();
+        int released = 0;
+        for (SeatHold hold : holds.values()) {
+            if (hold.expiresAt().isBefore(now) && release(hold)) {
+                released++;
+            }
+        }
+        expired.increment(released);
+        return released;
+    }
+
+    /**
+     * Applies a capacity change to an open event. Seats can only be withdrawn while unsold;
+     * returns false if fewer than requested could be withdrawn.
+     */
+    public boolean changeCapacity(Long eventId, int capacity) {
+        EventSeats eventSeats = events.get(eventId);
+        if (eventSeats == null) {
+            return true;
+        }
+        synchronized (eventSeats) {
+            int delta = capacity - eventSeats.capacity;
+            if (delta >= 0) {
+                eventSeats.counter.release(delta);
+                eventSeats.capacity = capacity;
+                return true;
+            }
+            int withdrawn = eventSeats.counter.drain(-delta);
+            eventSeats.capacity -= withdrawn;
+            return withdrawn == -delta;
+        }
+    }
+
+    public int remainingSeats(Long eventId) {
+        EventSeats eventSeats = events.get(eventId);
+        return eventSeats == null ? 0 : Math.max(0, eventSeats.counter.remaining());
+    }
+
+    public int heldSeats(Long eventId) {
+        EventSeats eventSeats = events.get(eventId);
+        return eventSeats == null ? 0 : (int) eventSeats.held.sum();
+    }
+
+    private static Counter outcome(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("seat.reservations")
+                .description("Seat hold attempts and expirations")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static final class EventSeats {
+
+        private final StripedSeatCounter counter;
+        private final LongAdder held = new LongAdder();
+        private int capacity;
+
+        EventSeats(int capacity, StripedSeatCounter counter) {
+            this.capacity = capacity;
+            this.counter = counter;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.julienprr.eventmanager.event_service.inventory;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Remaining seats of one event, split across independent stripes so concurrent reservers mostly
+ * compare-and-set different cache lines. A stripe never goes below zero, so the total handed
+ * out can never exceed what was put in.
+ * <p>
+ * A request that no single stripe can serve collects seats from several stripes and gives them
+ * back if the total falls short. While that happens those seats are briefly unavailable to
+ * others, so near sell-out a request may fail even though the sum would have been enough.
+ */
+final class StripedSeatCounter {
+
+    // 16 ints = 64 bytes, so two stripes never share a cache line
+    private static final int PADDING = 16;
+
+    private final AtomicIntegerArray cells;
+    private final int stripes;
+
+    StripedSeatCounter(int seats, int stripes) {
+        this.stripes = Math.max(1, stripes);
+        this.cells = new AtomicIntegerArray(this.stripes * PADDING);
+        int share = seats / this.stripes;
+        int extra = seats % this.stripes;
+        for (int i = 0; i < this.stripes; i++) {
+            cells.set(i * PADDING, share + (i < extra ? 1 : 0));
+        }
+    }
+
+    boolean tryAcquire(int seats) {
+        int start = ThreadLocalRandom.current().nextInt(stripes);
+        for (int i = 0; i < stripes; i++) {
+            int cell = ((start + i) % stripes) * PADDING;
+            int available;
+            while ((available = cells.get(cell)) >= seats) {
+                if (cells.compareAndSet(cell, available, available - seats)) {
+                    return true;
+                }
+            }
+        }
+        return seats > 1 && tryAcquireAcrossStripes(seats, start);
+    }
+
+    void release(int seats) {
+        cells.getAndAdd(ThreadLocalRandom.current().nextInt(stripes) * PADDING, seats);
+    }
+
+    /**
+     * Takes up to {@code seats} seats and returns how many were taken.
+     */
+    int drain(int seats) {
+        int taken = 0;
+        for (int i = 0; i < stripes && taken < seats; i++) {
+            taken += takeUpTo(i * PADDING, seats - taken);
+        }
+        return taken;
+    }
+
+    // Exact only when no reservation is in flight
+    int remaining() {
+        int remaining = 0;
+        for (int i = 0; i < stripes; i++) {
+            remaining += cells.get(i * PADDING);
+        }
+        return remaining;
+    }
+
+    private boolean tryAcquireAcrossStripes(int seats, int start) {
+        int taken = 0;
+        for (int i = 0; i < stripes && taken < seats; i++) {
+            taken += takeUpTo(((start + i) % stripes) * PADDING, seats - taken);
+        }
+        if (taken == seats) {
+            return true;
+        }
+        if (taken > 0) {
+            release(taken);
+        }
+        return false;
+    }
+
+    private int takeUpTo(int cell, int wanted) {
+        int available;
+        while ((available = cells.get(cell)) > 0) {
+            int take = Math.min(available, wanted);
+            if (cells.compareAndSet(cell, available, available - take)) {
+                return take;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,27 @@
+package com.julienprr.eventmanager.event_service.mapper;
+
+import com.julienprr.eventmanager.event_service.catalog.CatalogEvent;
+import com.julienprr.eventmanager.event_service.dto.event.EventResponse;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EventMapper {
+
+    public EventResponse toResponse(CatalogEvent event) {
+        EventResponse response = new EventResponse();
+        response.setId(event.id());
+        response.setTitle(event.title());
+        response.setDescription(event.description());
+        response.setCategory(event.category());
+        response.setVenue(event.venue());
+        response.setCity(event.city());
+        response.setCountry(event.country());
+        response.setStartAt(event.startAt());
+        response.setEndAt(event.endAt());
+        response.setCapacity(event.capacity());
+        response.setOrganizerId(event.organizerId());
+        response.setStatus(event.status());
+        response.setVersion(event.version());
+        return response;
+    }
+}
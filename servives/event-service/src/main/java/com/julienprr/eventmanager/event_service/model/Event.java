@@ -0,0 +1,80 @@
+package com.julienprr.eventmanager.event_service.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "events", indexes = {
+        // The catalog loads upcoming events at startup
+        @Index(name = "idx_events_end_at", columnList = "end_at")
+})
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class Event {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(length = 4000)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EventCategory category;
+
+    private String venue;
+
+    @Column(nullable = false)
+    private String city;
+
+    private String country;
+
+    @Column(nullable = false)
+    private LocalDateTime startAt;
+
+    @Column(nullable = false)
+    private LocalDateTime endAt;
+
+    @Column(nullable = false)
+    private int capacity;
+
+    // Maintained by ReservationJdbcRepository under the event's row lock, never written through JPA;
+    // null until the first flush for the event counts its reservations
+    @Column(insertable = false, updatable = false)
+    private Integer confirmedSeats;
+
+    // Keycloak subject of the organizer who created the event
+    @Column(nullable = false)
+    private String organizerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EventStatus status;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,12 @@
+package com.julienprr.eventmanager.event_service.model;
+
+public enum EventCategory {
+    CONFERENCE,
+    CONCERT,
+    EXHIBITION,
+    FESTIVAL,
+    MEETUP,
+    SPORT,
+    WORKSHOP,
+    OTHER
+}
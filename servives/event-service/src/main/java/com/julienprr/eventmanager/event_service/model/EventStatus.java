@@ -0,0 +1,6 @@
+package com.julienprr.eventmanager.event_service.model;
+
+public enum EventStatus {
+    SCHEDULED,
+    CANCELLED
+}
@@ -0,0 +1,40 @@
+package com.julienprr.eventmanager.event_service.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+// Only confirmed reservations are stored; holds live in the seat inventory
+@Entity
+@Table(name = "reservations", indexes = {
+        @Index(name = "idx_reservations_event_id", columnList = "event_id")
+})
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class Reservation {
+
+    // Assigned when the seats are held
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(nullable = false)
+    private Long eventId;
+
+    @Column(nullable = false)
+    private String participantId;
+
+    @Column(nullable = false)
+    private int seats;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ReservationStatus status;
+
+    @Column(nullable = false)
+    private Instant heldAt;
+
+    private Instant confirmedAt;
+}
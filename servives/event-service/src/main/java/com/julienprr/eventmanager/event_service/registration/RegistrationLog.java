@@ -0,0 +1,277 @@
+package com.julienprr.eventmanager.event_service.registration;
+
+import com.julienprr.eventmanager.event_service.model.Reservation;
+import com.julienprr.eventmanager.event_service.model.ReservationStatus;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log of confirmed registrations, split into numbered segment files.
+ * <p>
+ * Each record is framed as {@code [payload length][CRC32C of payload][payload]}, so a record cut
+ * short by a crash is detected and dropped on recovery. A checkpoint file remembers up to which
+ * position records have reached the database; segments entirely before it are deleted. Records
+ * the database refused for good are copied to a set-aside file, which recovery never reads.
+ * <p>
+ * Writing and syncing belong to one thread, checkpointing and setting aside to another.
+ */
+@Slf4j
+final class RegistrationLog implements Closeable {
+
+    private static final String SEGMENT_PREFIX = "registrations-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String CHECKPOINT = "checkpoint";
+    private static final String SET_ASIDE = "set-aside.dat";
+    private static final int HEADER_BYTES = 8;
+    private static final int MAX_PAYLOAD_BYTES = 64 * 1024;
+
+    record Position(long segment, long offset) {
+    }
+
+    record Entry(Reservation reservation, Position end) {
+    }
+
+    private final Path directory;
+    private final long segmentSize;
+    private FileChannel channel;
+    private long segment;
+    private long offset;
+
+    RegistrationLog(Path directory, long segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Reads every record after the checkpoint, dropping a torn record at the end of the last
+     * segment, then opens a fresh segment for new records.
+     */
+    List<Entry> recover() throws IOException {
+        Files.createDirectories(directory);
+        Position checkpoint = readCheckpoint();
+        List<Long> segments = segmentNumbers();
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < segments.size(); i++) {
+            long number = segments.get(i);
+            if (number < checkpoint.segment()) {
+                continue;
+            }
+            long start = number == checkpoint.segment() ? checkpoint.offset() : 0;
+            readSegment(number, start, entries, i == segments.size() - 1);
+        }
+        long last = segments.isEmpty() ? checkpoint.segment() : Math.max(checkpoint.segment(), segments.getLast());
+        openSegment(last + 1);
+        return entries;
+    }
+
+    Position write(Reservation reservation) throws IOException {
+        if (offset >= segmentSize) {
+            channel.force(false);
+            channel.close();
+            openSegment(segment + 1);
+        }
+        ByteBuffer frame = frame(reservation);
+        while (frame.hasRemaining()) {
+            offset += channel.write(frame);
+        }
+        return new Position(segment, offset);
+    }
+
+    // One fsync acknowledges every record written since the previous one
+    void sync() throws IOException {
+        channel.force(false);
+    }
+
+    Position position() {
+        return new Position(segment, offset);
+    }
+
+    // Drops records written after the given position of the current segment, after a failed write
+    void truncate(Position position) throws IOException {
+        if (position.segment() != segment) {
+            throw new IOException("Cannot truncate to a previous segment");
+        }
+        channel.truncate(position.offset());
+        channel.position(position.offset());
+        offset = position.offset();
+    }
+
+    // Framed like the segment records, so that they can be read back the same way once the cause is fixed
+    void setAside(Reservation reservation) throws IOException {
+        ByteBuffer frame = frame(reservation);
+        try (FileChannel file = FileChannel.open(directory.resolve(SET_ASIDE), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (frame.hasRemaining()) {
+                file.write(frame);
+            }
+            file.force(false);
+        }
+        syncDirectory();
+    }
+
+    void checkpoint(Position position) throws IOException {
+        Path temporary = directory.resolve(CHECKPOINT + ".tmp");
+        ByteBuffer content = ByteBuffer.allocate(16).putLong(position.segment()).putLong(position.offset()).flip();
+        try (FileChannel file = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (content.hasRemaining()) {
+                file.write(content);
+            }
+            file.force(true);
+        }
+        try {
+            Files.move(temporary, directory.resolve(CHECKPOINT), StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, directory.resolve(CHECKPOINT), StandardCopyOption.REPLACE_EXISTING);
+        }
+        syncDirectory();
+        for (long number : segmentNumbers()) {
+            if (number < position.segment()) {
+                Files.deleteIfExists(segmentPath(number));
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.force(false);
+            channel.close();
+        }
+    }
+
+    private void openSegment(long number) throws IOException {
+        channel = FileChannel.open(segmentPath(number), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        channel.position(channel.size());
+        segment = number;
+        offset = channel.size();
+        syncDirectory();
+    }
+
+    // Syncing a file does not persist its directory entry: without this a crash could lose a new
+    // segment, or the rename of the checkpoint, although their content was synced
+    private void syncDirectory() throws IOException {
+        try (FileChannel entries = FileChannel.open(directory, StandardOpenOption.READ)) {
+            entries.force(true);
+        }
+    }
+
+    private void readSegment(long number, long start, List<Entry> entries, boolean last) throws IOException {
+        Path path = segmentPath(number);
+        byte[] bytes = Files.readAllBytes(path);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long position = start;
+        while (position < bytes.length) {
+            buffer.position((int) position);
+            Reservation reservation = null;
+            if (buffer.remaining() >= HEADER_BYTES) {
+                int length = buffer.getInt();
+                int checksum = buffer.getInt();
+                if (length > 0 && length <= MAX_PAYLOAD_BYTES && buffer.remaining() >= length) {
+                    CRC32C crc = new CRC32C();
+                    crc.update(bytes, buffer.position(), length);
+                    if ((int) crc.getValue() == checksum) {
+                        reservation = decode(bytes, buffer.position(), length);
+                        position = buffer.position() + length;
+                    }
+                }
+            }
+            if (reservation == null) {
+                if (!last) {
+                    throw new IOException("Corrupt registration log segment " + path + " at offset " + position);
+                }
+                log.warn("Dropping torn registration record at the end of {} (offset {})", path, position);
+                try (FileChannel file = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                    file.truncate(position);
+                    file.force(true);
+                }
+                return;
+            }
+            entries.add(new Entry(reservation, new Position(number, position)));
+        }
+    }
+
+    private Position readCheckpoint() throws IOException {
+        Path path = directory.resolve(CHECKPOINT);
+        if (!Files.exists(path)) {
+            return new Position(0, 0);
+        }
+        ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(path));
+        return new Position(content.getLong(), content.getLong());
+    }
+
+    private List<Long> segmentNumbers() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve(SEGMENT_PREFIX + String.format("%020d", number) + SEGMENT_SUFFIX);
+    }
+
+    private static ByteBuffer frame(Reservation reservation) {
+        byte[] payload = encode(reservation);
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        return ByteBuffer.allocate(HEADER_BYTES + payload.length)
+                .putInt(payload.length)
+                .putInt((int) crc.getValue())
+                .put(payload)
+                .flip();
+    }
+
+    private static byte[] encode(Reservation reservation) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(reservation.getId());
+            out.writeLong(reservation.getEventId());
+            out.writeUTF(reservation.getParticipantId());
+            out.writeInt(reservation.getSeats());
+            out.writeLong(reservation.getHeldAt().getEpochSecond());
+            out.writeInt(reservation.getHeldAt().getNano());
+            out.writeLong(reservation.getConfirmedAt().getEpochSecond());
+            out.writeInt(reservation.getConfirmedAt().getNano());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Reservation decode(byte[] bytes, int from, int length) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, from, length))) {
+            return Reservation.builder()
+                    .id(in.readUTF())
+                    .eventId(in.readLong())
+                    .participantId(in.readUTF())
+                    .seats(in.readInt())
+                    .heldAt(Instant.ofEpochSecond(in.readLong(), in.readInt()))
+                    .confirmedAt(Instant.ofEpochSecond(in.readLong(), in.readInt()))
+                    .status(ReservationStatus.CONFIRMED)
+                    .build();
+        }
+    }
+}
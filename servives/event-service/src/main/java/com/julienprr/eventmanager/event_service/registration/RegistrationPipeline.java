@@ -0,0 +1,358 @@
+package com.julienprr.eventmanager.event_service.registration;
+
+import com.julienprr.eventmanager.event_service.model.Reservation;
+import com.julienprr.eventmanager.event_service.repository.ReservationJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind store for confirmed reservations.
+ * <p>
+ * {@link #append} returns a future completed once the reservation is fsynced to the local
+ * {@link RegistrationLog}: a single writer thread syncs whatever accumulated while the previous
+ * fsync ran, so a burst of registrations shares one fsync. A flusher thread then copies the log
+ * to Postgres in batches of {@code batchSize}, one statement each, and checkpoints the log.
+ * <p>
+ * On start, records after the checkpoint are written to the database again before anything else;
+ * the insert skips ids already present, so a batch flushed just before a crash is not duplicated.
+ * Until a reservation is flushed its seats are counted by {@link #pendingSeats}.
+ * <p>
+ * The database refuses reservations past their event's capacity, which only happens if another
+ * instance sold the same seats. They were acknowledged already, so they are logged with their ids
+ * and counted for someone to follow up. Rows it refuses with an error are set aside in the log
+ * directory, logged and counted the same way, and the pipeline goes on with the next ones.
+ */
+@Slf4j
+public class RegistrationPipeline implements Closeable {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+    private static final Duration MAX_RETRY_DELAY = Duration.ofSeconds(5);
+
+    private record Append(Reservation reservation, CompletableFuture<Void> acknowledged, long startedAt) {
+    }
+
+    private final Path directory;
+    private final RegistrationLog registrationLog;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final int maxGroupSize;
+    private final ReservationJdbcRepository reservationJdbcRepository;
+
+    private final BlockingQueue<Append> appends = new LinkedBlockingQueue<>();
+    private final BlockingQueue<RegistrationLog.Entry> unflushed = new LinkedBlockingQueue<>();
+    private final Map<Long, Integer> pendingSeats = new ConcurrentHashMap<>();
+
+    private final Timer acknowledgeTimer;
+    private final DistributionSummary groupSizes;
+    private final Timer flushTimer;
+    private final Counter rejected;
+    private final Counter setAside;
+
+    private volatile boolean accepting;
+    private volatile boolean running;
+    private volatile IOException failure;
+    private Thread writer;
+    private Thread flusher;
+
+    public RegistrationPipeline(Path directory, int batchSize, Duration flushInterval, long segmentSize,
+                                int maxGroupSize, ReservationJdbcRepository reservationJdbcRepository,
+                                MeterRegistry meterRegistry) {
+        this.directory = directory;
+        this.registrationLog = new RegistrationLog(directory, segmentSize);
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.maxGroupSize = maxGroupSize;
+        this.reservationJdbcRepository = reservationJdbcRepository;
+        this.acknowledgeTimer = Timer.builder("registration.log.acknowledge")
+                .description("Time from append to fsync of a registration")
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .register(meterRegistry);
+        this.groupSizes = DistributionSummary.builder("registration.log.group")
+                .description("Registrations acknowledged by one fsync")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("registration.flush")
+                .description("Time to write one batch of registrations to the database")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("registration.rejected")
+                .description("Acknowledged registrations the database refused as over capacity")
+                .register(meterRegistry);
+        this.setAside = Counter.builder("registration.set.aside")
+                .description("Registrations the database refused with an error, set aside in the log directory")
+                .register(meterRegistry);
+        Gauge.builder("registration.unflushed", unflushed, BlockingQueue::size)
+                .description("Registrations in the log but not yet in the database")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Replays what the log holds after its checkpoint, then starts acknowledging and flushing.
+     */
+    public void start() throws IOException {
+        List<RegistrationLog.Entry> recovered = registrationLog.recover();
+        try {
+            for (int from = 0; from < recovered.size(); from += batchSize) {
+                if (!flush(recovered.subList(from, Math.min(recovered.size(), from + batchSize)))) {
+                    throw new IOException("Could not replay the registration log, the database is unavailable");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while replaying the registration log");
+        }
+        if (!recovered.isEmpty()) {
+            log.info("Replayed {} registrations from the registration log", recovered.size());
+        }
+        running = true;
+        accepting = true;
+        writer = Thread.ofPlatform().name("registration-log-writer").start(this::writeLoop);
+        flusher = Thread.ofPlatform().name("registration-log-flusher").start(this::flushLoop);
+    }
+
+    public CompletableFuture<Void> append(Reservation reservation) {
+        CompletableFuture<Void> acknowledged = new CompletableFuture<>();
+        if (!accepting) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Registration log is not accepting writes"));
+        }
+        if (failure != null) {
+            return CompletableFuture.failedFuture(failure);
+        }
+        // Counted before the write so the seats are never missing from both the log and the table
+        pendingSeats.merge(reservation.getEventId(), reservation.getSeats(), Integer::sum);
+        appends.add(new Append(reservation, acknowledged, System.nanoTime()));
+        return acknowledged.whenComplete((ignored, error) -> {
+            if (error != null) {
+                releasePending(List.of(reservation));
+            }
+        });
+    }
+
+    // Seats of reservations acknowledged, or about to be, but not yet in the database
+    public int pendingSeats(Long eventId) {
+        return pendingSeats.getOrDefault(eventId, 0);
+    }
+
+    public int unflushed() {
+        return unflushed.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        accepting = false;
+        running = false;
+        try {
+            if (writer != null) {
+                writer.join();
+            }
+            if (flusher != null) {
+                flusher.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        registrationLog.close();
+    }
+
+    private void writeLoop() {
+        List<Append> group = new ArrayList<>(maxGroupSize);
+        while (running || !appends.isEmpty()) {
+            try {
+                Append first = appends.poll(POLL_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+                appends.drainTo(group, maxGroupSize - 1);
+                writeGroup(group);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                group.clear();
+            }
+        }
+    }
+
+    private void writeGroup(List<Append> group) {
+        if (failure != null) {
+            group.forEach(append -> append.acknowledged().completeExceptionally(failure));
+            return;
+        }
+        RegistrationLog.Position start = registrationLog.position();
+        List<RegistrationLog.Entry> entries = new ArrayList<>(group.size());
+        try {
+            for (Append append : group) {
+                entries.add(new RegistrationLog.Entry(append.reservation(), registrationLog.write(append.reservation())));
+            }
+            registrationLog.sync();
+        } catch (IOException e) {
+            log.error("Could not write {} registrations to the log", group.size(), e);
+            try {
+                registrationLog.truncate(start);
+            } catch (IOException truncateFailure) {
+                // The records may be replayed on restart although their callers saw a failure
+                log.error("Could not roll back the registration log, refusing further writes", truncateFailure);
+                failure = e;
+            }
+            group.forEach(append -> append.acknowledged().completeExceptionally(e));
+            return;
+        }
+        unflushed.addAll(entries);
+        groupSizes.record(group.size());
+        long now = System.nanoTime();
+        for (Append append : group) {
+            acknowledgeTimer.record(now - append.startedAt(), TimeUnit.NANOSECONDS);
+            append.acknowledged().complete(null);
+        }
+    }
+
+    private void flushLoop() {
+        List<RegistrationLog.Entry> batch = new ArrayList<>(batchSize);
+        // The writer is joined before the flusher stops, so nothing it acknowledged is left behind
+        while (running || writer.isAlive() || !unflushed.isEmpty()) {
+            try {
+                RegistrationLog.Entry first = unflushed.poll(POLL_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushInterval.toNanos();
+                while (batch.size() < batchSize && running) {
+                    unflushed.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    RegistrationLog.Entry next = unflushed.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next != null) {
+                        batch.add(next);
+                    }
+                }
+                unflushed.drainTo(batch, batchSize - batch.size());
+                if (!flush(batch)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // Transient failures are retried with backoff until the database takes the batch, the log
+    // acknowledging meanwhile; while not running, the rest of the log is left to the replay on the
+    // next start instead. Any other failure would only repeat: the batch is written one row at a
+    // time and the rows still failing are set aside, so that one bad row neither blocks the pipeline
+    // nor takes its batch along.
+    private boolean flush(List<RegistrationLog.Entry> batch) throws InterruptedException {
+        List<Reservation> reservations = batch.stream().map(RegistrationLog.Entry::reservation).toList();
+        try {
+            if (!insert(reservations)) {
+                return false;
+            }
+        } catch (RuntimeException e) {
+            if (reservations.size() == 1) {
+                setAside(reservations.getFirst(), e);
+            } else {
+                log.warn("The database refused a batch of {} registrations, writing them one at a time",
+                        reservations.size(), e);
+                for (Reservation reservation : reservations) {
+                    try {
+                        if (!insert(List.of(reservation))) {
+                            return false;
+                        }
+                    } catch (RuntimeException rowFailure) {
+                        setAside(reservation, rowFailure);
+                    }
+                }
+            }
+        }
+        releasePending(reservations);
+        try {
+            registrationLog.checkpoint(batch.getLast().end());
+        } catch (IOException e) {
+            // Harmless beyond a longer replay: the rows are already in the database
+            log.warn("Could not checkpoint the registration log", e);
+        }
+        return true;
+    }
+
+    // Returns false if it gave up on a transient failure; throws the others
+    private boolean insert(List<Reservation> reservations) throws InterruptedException {
+        Duration delay = POLL_INTERVAL;
+        while (true) {
+            try {
+                reportRejected(flushTimer.record(() -> reservationJdbcRepository.insertAll(reservations)));
+                return true;
+            } catch (RuntimeException e) {
+                if (!isTransient(e)) {
+                    throw e;
+                }
+                if (!running) {
+                    log.warn("Could not flush {} registrations, leaving them to the replay on the next start",
+                            reservations.size() + unflushed.size(), e);
+                    return false;
+                }
+                log.warn("Could not flush {} registrations, retrying in {} ms", reservations.size(), delay.toMillis(), e);
+                Thread.sleep(delay.toMillis());
+                delay = delay.multipliedBy(2).compareTo(MAX_RETRY_DELAY) > 0 ? MAX_RETRY_DELAY : delay.multipliedBy(2);
+            }
+        }
+    }
+
+    // The database could not be reached or the statement lost a race: the same batch may pass later
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException;
+    }
+
+    private void setAside(Reservation reservation, RuntimeException cause) {
+        setAside.increment();
+        try {
+            registrationLog.setAside(reservation);
+            log.error("The database refused registration {}, set aside in {}", reservation.getId(), directory, cause);
+        } catch (IOException e) {
+            // The checkpoint moves past it all the same, so the log line is all that is left of it
+            log.error("The database refused registration {} (event {}, participant {}, {} seats, confirmed at {}) "
+                            + "and it could not be set aside", reservation.getId(), reservation.getEventId(),
+                    reservation.getParticipantId(), reservation.getSeats(), reservation.getConfirmedAt(), cause);
+        }
+    }
+
+    private void reportRejected(List<String> reservationIds) {
+        if (!reservationIds.isEmpty()) {
+            log.error("The database refused {} acknowledged registrations as over capacity: {}",
+                    reservationIds.size(), reservationIds);
+            rejected.increment(reservationIds.size());
+        }
+    }
+
+    private void releasePending(List<Reservation> reservations) {
+        for (Reservation reservation : reservations) {
+            pendingSeats.computeIfPresent(reservation.getEventId(),
+                    (id, seats) -> seats == reservation.getSeats() ? null : seats - reservation.getSeats());
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.julienprr.eventmanager.event_service.replica;
+
+import com.julienprr.eventmanager.event_service.client.ParticipantProfile;
+
+import java.time.LocalDateTime;
+
+// One entry of the user-service change feed; snapshot entries have no type
+record ParticipantChange(long offset, Long participantId, String type, long version, String status,
+                         ParticipantProfile profile, LocalDateTime occurredAt) {
+}
@@ -0,0 +1,6 @@
+package com.julienprr.eventmanager.event_service.replica;
+
+import java.util.List;
+
+record ParticipantChangePage(List<ParticipantChange> changes, long lastOffset) {
+}
@@ -0,0 +1,93 @@
+package com.julienprr.eventmanager.event_service.replica;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.julienprr.eventmanager.event_service.config.ParticipantReplicaProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Keeps the {@link ParticipantReplica} up to date: loads a snapshot of user-service once, then
+ * reads the change feed from the offset the snapshot was taken at. Should user-service be
+ * unreachable, the next poll resumes from the last offset applied.
+ */
+@Component
+@ConditionalOnProperty(prefix = "participant-replica", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class ParticipantFeedConsumer {
+
+    static final String CHANGES_PATH = "/api/participants/changes";
+    static final String SNAPSHOT_PATH = CHANGES_PATH + "/snapshot";
+    static final String FEED_OFFSET_HEADER = "X-Feed-Offset";
+
+    private final RestClient userServiceRestClient;
+    private final ParticipantReplica replica;
+    private final ObjectMapper objectMapper;
+    private final int pageSize;
+
+    public ParticipantFeedConsumer(RestClient userServiceRestClient, ParticipantReplica replica,
+                                   ObjectMapper objectMapper, ParticipantReplicaProperties properties) {
+        this.userServiceRestClient = userServiceRestClient;
+        this.replica = replica;
+        this.objectMapper = objectMapper;
+        this.pageSize = properties.pageSize();
+    }
+
+    @Scheduled(fixedDelayString = "${participant-replica.poll-interval:1s}")
+    public void poll() {
+        try {
+            if (!replica.isReady()) {
+                loadSnapshot();
+            }
+            ParticipantChangePage page;
+            do {
+                page = userServiceRestClient.get()
+                        .uri(uri -> uri.path(CHANGES_PATH)
+                                .queryParam("after", replica.offset())
+                                .queryParam("limit", pageSize)
+                                .build())
+                        .retrieve()
+                        .body(ParticipantChangePage.class);
+                if (page == null) {
+                    return;
+                }
+                page.changes().forEach(replica::apply);
+                replica.advanceTo(page.lastOffset());
+            } while (page.changes().size() == pageSize);
+        } catch (RestClientException e) {
+            log.warn("Could not read the participant change feed: {}", e.getMessage());
+        }
+    }
+
+    private void loadSnapshot() {
+        long offset = userServiceRestClient.get()
+                .uri(SNAPSHOT_PATH)
+                .exchange((request, response) -> {
+                    if (!response.getStatusCode().is2xxSuccessful()) {
+                        throw new RestClientException("Snapshot request failed with status " + response.getStatusCode());
+                    }
+                    long count = 0;
+                    try (BufferedReader reader = new BufferedReader(
+                            new InputStreamReader(response.getBody(), StandardCharsets.UTF_8))) {
+                        String line;
+                        while ((line = reader.readLine()) != null) {
+                            if (!line.isBlank()) {
+                                replica.apply(objectMapper.readValue(line, ParticipantChange.class));
+                                count++;
+                            }
+                        }
+                    }
+                    String header = response.getHeaders().getFirst(FEED_OFFSET_HEADER);
+                    log.info("Participant replica loaded {} participants from a snapshot at offset {}", count, header);
+                    return header == null ? 0L : Long.parseLong(header);
+                });
+        replica.advanceTo(offset);
+    }
+}
@@ -0,0 +1,54 @@
+package com.julienprr.eventmanager.event_service.replica;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local, eventually consistent copy of the public participant data of user-service, fed by
+ * {@link ParticipantFeedConsumer}. A change only replaces a newer or equal version, so
+ * duplicated or replayed changes are harmless.
+ */
+@Component
+public class ParticipantReplica {
+
+    private final Map<Long, ReplicatedParticipant> participants = new ConcurrentHashMap<>();
+    private volatile long offset = -1;
+
+    public ParticipantReplica(MeterRegistry meterRegistry) {
+        Gauge.builder("participant.replica.size", participants, Map::size)
+                .description("Participants held by the local replica")
+                .register(meterRegistry);
+        Gauge.builder("participant.replica.offset", this, replica -> replica.offset)
+                .description("Last user-service change feed offset applied")
+                .register(meterRegistry);
+    }
+
+    // False until a snapshot has been loaded: a missing participant then proves nothing
+    public boolean isReady() {
+        return offset >= 0;
+    }
+
+    public Optional<ReplicatedParticipant> find(Long participantId) {
+        return Optional.ofNullable(participants.get(participantId));
+    }
+
+    long offset() {
+        return offset;
+    }
+
+    void apply(ParticipantChange change) {
+        ReplicatedParticipant replicated = new ReplicatedParticipant(
+                change.participantId(), change.version(), change.status(), change.profile());
+        participants.merge(change.participantId(), replicated,
+                (current, candidate) -> candidate.version() >= current.version() ? candidate : current);
+    }
+
+    void advanceTo(long offset) {
+        this.offset = offset;
+    }
+}
@@ -0,0 +1,6 @@
+package com.julienprr.eventmanager.event_service.replica;
+
+import com.julienprr.eventmanager.event_service.client.ParticipantProfile;
+
+public record ReplicatedParticipant(Long id, long version, String status, ParticipantProfile profile) {
+}
@@ -0,0 +1,24 @@
+package com.julienprr.eventmanager.event_service.repository;
+
+import com.julienprr.eventmanager.event_service.model.Event;
+import com.julienprr.eventmanager.event_service.model.EventStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+public interface EventRepository extends JpaRepository<Event, Long> {
+
+    // Must be consumed inside a read-only transaction; rows are fetched in batches and not tracked
+    @Query("select e from Event e where e.status = :status and e.endAt > :after")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Event> streamByStatusEndingAfter(@Param("status") EventStatus status, @Param("after") LocalDateTime after);
+}
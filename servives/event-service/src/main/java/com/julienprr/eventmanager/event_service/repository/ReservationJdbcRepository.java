@@ -0,0 +1,115 @@
+package com.julienprr.eventmanager.event_service.repository;
+
+import com.julienprr.eventmanager.event_service.model.Reservation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ReservationJdbcRepository {
+
+    // Seats confirmed for event e, summed from its reservations if the event has no count yet
+    private static final String CONFIRMED_SEATS = """
+            coalesce(e.confirmed_seats,
+                     (SELECT coalesce(sum(r.seats), 0) FROM reservations r WHERE r.event_id = e.id AND r.status = 'CONFIRMED'))""";
+
+    // Taken in id order so that concurrent flushes cannot deadlock. Under read committed the insert
+    // that follows gets a snapshot of its own, so it sees what the previous holder committed.
+    private static final String LOCK_EVENTS = "SELECT id FROM events WHERE id = ANY(?) ORDER BY id FOR UPDATE";
+
+    // The whole batch is one statement: rows travel as arrays and unnest expands them server side.
+    // Rows already present are skipped, so replaying a batch after a crash is harmless. A row is only
+    // stored if its event's confirmed seats, plus those of the rows before it in the batch, stay
+    // within capacity; the statement returns the ids of the rows it refused. The count of confirmed
+    // seats is kept on the event row and moved on by the same statement, so a flush costs the same
+    // whatever the number of reservations its events already have.
+    private static final String INSERT_ALL = """
+            WITH batch AS (
+                SELECT r.*, sum(r.seats) OVER (PARTITION BY r.event_id ORDER BY r.ord) AS batch_seats
+                FROM unnest(?::varchar[], ?::bigint[], ?::varchar[], ?::int[], ?::varchar[], ?::timestamptz[], ?::timestamptz[])
+                    WITH ORDINALITY AS r(id, event_id, participant_id, seats, status, held_at, confirmed_at, ord)
+                WHERE NOT EXISTS (SELECT 1 FROM reservations stored WHERE stored.id = r.id)
+            ), counted AS (
+                SELECT e.id, e.capacity, %s AS seats
+                FROM events e
+                WHERE e.id IN (SELECT event_id FROM batch)
+            ), checked AS (
+                SELECT b.*, coalesce(b.batch_seats + c.seats <= c.capacity, false) AS fits
+                FROM batch b
+                LEFT JOIN counted c ON c.id = b.event_id
+            ), inserted AS (
+                INSERT INTO reservations (id, event_id, participant_id, seats, status, held_at, confirmed_at)
+                SELECT id, event_id, participant_id, seats, status, held_at, confirmed_at
+                FROM checked
+                WHERE fits
+                ON CONFLICT (id) DO NOTHING
+                RETURNING event_id, seats
+            ), counters AS (
+                UPDATE events e
+                SET confirmed_seats = c.seats + coalesce((SELECT sum(i.seats) FROM inserted i WHERE i.event_id = c.id), 0)
+                FROM counted c
+                WHERE e.id = c.id
+            )
+            SELECT id FROM checked WHERE NOT fits
+            """.formatted(CONFIRMED_SEATS);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Stores the batch, except for the reservations that would take their event past its capacity,
+     * and returns the ids of those. The events are locked for the duration, so flushes from several
+     * instances cannot each find room for the same seats.
+     */
+    @Transactional
+    public List<String> insertAll(List<Reservation> reservations) {
+        int size = reservations.size();
+        String[] ids = new String[size];
+        Long[] eventIds = new Long[size];
+        String[] participantIds = new String[size];
+        Integer[] seats = new Integer[size];
+        String[] statuses = new String[size];
+        Timestamp[] heldAt = new Timestamp[size];
+        Timestamp[] confirmedAt = new Timestamp[size];
+        for (int i = 0; i < size; i++) {
+            Reservation reservation = reservations.get(i);
+            ids[i] = reservation.getId();
+            eventIds[i] = reservation.getEventId();
+            participantIds[i] = reservation.getParticipantId();
+            seats[i] = reservation.getSeats();
+            statuses[i] = reservation.getStatus().name();
+            heldAt[i] = Timestamp.from(reservation.getHeldAt());
+            confirmedAt[i] = reservation.getConfirmedAt() == null ? null : Timestamp.from(reservation.getConfirmedAt());
+        }
+        Long[] lockedEventIds = Arrays.stream(eventIds).distinct().toArray(Long[]::new);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(LOCK_EVENTS);
+            statement.setArray(1, connection.createArrayOf("bigint", lockedEventIds));
+            return statement;
+        }, (rs, rowNum) -> rs.getLong(1));
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_ALL);
+            statement.setArray(1, connection.createArrayOf("varchar", ids));
+            statement.setArray(2, connection.createArrayOf("bigint", eventIds));
+            statement.setArray(3, connection.createArrayOf("varchar", participantIds));
+            statement.setArray(4, connection.createArrayOf("int4", seats));
+            statement.setArray(5, connection.createArrayOf("varchar", statuses));
+            statement.setArray(6, connection.createArrayOf("timestamptz", heldAt));
+            statement.setArray(7, connection.createArrayOf("timestamptz", confirmedAt));
+            return statement;
+        }, (rs, rowNum) -> rs.getString(1));
+    }
+
+    public int confirmedSeats(Long eventId) {
+        Integer seats = jdbcTemplate.queryForObject(
+                "SELECT coalesce((SELECT %s FROM events e WHERE e.id = ?), 0)".formatted(CONFIRMED_SEATS),
+                Integer.class, eventId);
+        return seats == null ? 0 : seats;
+    }
+}
@@ -0,0 +1,34 @@
+package com.julienprr.eventmanager.event_service.security;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns the Keycloak realm roles of a token ({@code realm_access.roles}) into ROLE_ authorities.
+ */
+public class RealmRolesAuthoritiesConverter implements Converter<Jwt, Collection<GrantedAuthority>> {
+
+    private static final String REALM_ROLES_CLAIM = "realm_access";
+    private static final String REALM_ROLES_KEY = "roles";
+
+    @Override
+    public Collection<GrantedAuthority> convert(Jwt jwt) {
+        var realmAccess = (Map<String, Object>) jwt.getClaims().get(REALM_ROLES_CLAIM);
+        if (realmAccess == null) {
+            return List.of();
+        }
+        var roles = (Collection<String>) realmAccess.get(REALM_ROLES_KEY);
+        if (roles == null) {
+            return List.of();
+        }
+        return roles.stream()
+                .<GrantedAuthority>map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                .toList();
+    }
+}
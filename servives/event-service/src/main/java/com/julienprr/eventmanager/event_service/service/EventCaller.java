@@ -0,0 +1,15 @@
+package com.julienprr.eventmanager.event_service.service;
+
+import org.springframework.security.core.Authentication;
+
+/**
+ * Who is calling a write operation: the token subject, and whether they hold the ADMIN role.
+ */
+public record EventCaller(String subject, boolean admin) {
+
+    public static EventCaller of(Authentication authentication) {
+        boolean admin = authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+        return new EventCaller(authentication.getName(), admin);
+    }
+}
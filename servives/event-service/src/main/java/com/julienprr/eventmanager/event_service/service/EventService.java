@@ -0,0 +1,178 @@
+package com.julienprr.eventmanager.event_service.service;
+
+import com.julienprr.eventmanager.event_service.catalog.CatalogEvent;
+import com.julienprr.eventmanager.event_service.catalog.CatalogKey;
+import com.julienprr.eventmanager.event_service.catalog.EventCatalog;
+import com.julienprr.eventmanager.event_service.catalog.EventCatalogQuery;
+import com.julienprr.eventmanager.event_service.catalog.EventChanged;
+import com.julienprr.eventmanager.event_service.catalog.EventCursor;
+import com.julienprr.eventmanager.event_service.dto.event.CreateEventRequest;
+import com.julienprr.eventmanager.event_service.dto.event.UpdateEventRequest;
+import com.julienprr.eventmanager.event_service.exception.EventCancelledException;
+import com.julienprr.eventmanager.event_service.exception.EventVersionConflictException;
+import com.julienprr.eventmanager.event_service.exception.InvalidEventException;
+import com.julienprr.eventmanager.event_service.exception.ResourceNotFoundException;
+import com.julienprr.eventmanager.event_service.inventory.SeatInventory;
+import com.julienprr.eventmanager.event_service.model.Event;
+import com.julienprr.eventmanager.event_service.model.EventStatus;
+import com.julienprr.eventmanager.event_service.registration.RegistrationPipeline;
+import com.julienprr.eventmanager.event_service.repository.EventRepository;
+import com.julienprr.eventmanager.event_service.repository.ReservationJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventService implements IEventService {
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 200;
+
+    private final EventRepository eventRepository;
+    private final EventCatalog eventCatalog;
+    private final SeatInventory seatInventory;
+    private final ReservationJdbcRepository reservationJdbcRepository;
+    private final RegistrationPipeline registrationPipeline;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public CatalogEvent createEvent(CreateEventRequest request, EventCaller caller) {
+        checkDates(request.getStartAt(), request.getEndAt());
+        Event event = Event.builder()
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .category(request.getCategory())
+                .venue(request.getVenue())
+                .city(request.getCity())
+                .country(request.getCountry())
+                .startAt(request.getStartAt())
+                .endAt(request.getEndAt())
+                .capacity(request.getCapacity())
+                .organizerId(caller.subject())
+                .status(EventStatus.SCHEDULED)
+                .build();
+
+        Event savedEvent = eventRepository.save(event);
+        log.info("Event {} created by {}", savedEvent.getId(), caller.subject());
+        return published(savedEvent);
+    }
+
+    @Override
+    @Transactional
+    public CatalogEvent updateEvent(Long eventId, UpdateEventRequest request, EventCaller caller) {
+        Event event = loadForWrite(eventId, caller, request.getVersion());
+        if (request.getTitle() != null) {
+            event.setTitle(request.getTitle());
+        }
+        if (request.getDescription() != null) {
+            event.setDescription(request.getDescription());
+        }
+        if (request.getCategory() != null) {
+            event.setCategory(request.getCategory());
+        }
+        if (request.getVenue() != null) {
+            event.setVenue(request.getVenue());
+        }
+        if (request.getCity() != null) {
+            event.setCity(request.getCity());
+        }
+        if (request.getCountry() != null) {
+            event.setCountry(request.getCountry());
+        }
+        if (request.getStartAt() != null) {
+            event.setStartAt(request.getStartAt());
+        }
+        if (request.getEndAt() != null) {
+            event.setEndAt(request.getEndAt());
+        }
+        if (request.getCapacity() != null && request.getCapacity() != event.getCapacity()) {
+            int taken = reservationJdbcRepository.confirmedSeats(eventId) + registrationPipeline.pendingSeats(eventId)
+                    + seatInventory.heldSeats(eventId);
+            if (request.getCapacity() < taken) {
+                throw new InvalidEventException("Capacity cannot go below the " + taken + " seats already reserved");
+            }
+            event.setCapacity(request.getCapacity());
+        }
+        checkDates(event.getStartAt(), event.getEndAt());
+
+        // Flushed here so the published copy carries the new version
+        return published(eventRepository.saveAndFlush(event));
+    }
+
+    @Override
+    @Transactional
+    public CatalogEvent cancelEvent(Long eventId, EventCaller caller) {
+        Event event = loadForWrite(eventId, caller, null);
+        event.setStatus(EventStatus.CANCELLED);
+        Event cancelledEvent = eventRepository.saveAndFlush(event);
+        log.info("Event {} cancelled by {}", eventId, caller.subject());
+        return published(cancelledEvent);
+    }
+
+    @Override
+    public CatalogEvent getEvent(Long eventId) {
+        // Past and cancelled events are not in the catalog
+        return eventCatalog.get(eventId)
+                .orElseGet(() -> eventRepository.findById(eventId)
+                        .map(CatalogEvent::of)
+                        .orElseThrow(() -> new ResourceNotFoundException("Event not found")));
+    }
+
+    @Override
+    public Window<CatalogEvent> listUpcomingEvents(EventCatalogQuery query, String cursor, int size) {
+        int limit = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        LocalDateTime from = query.from() == null ? LocalDateTime.now() : query.from();
+        EventCatalogQuery upcoming = new EventCatalogQuery(query.city(), query.category(), from, query.to());
+
+        List<CatalogEvent> found = eventCatalog.find(upcoming, EventCursor.decode(cursor), limit + 1);
+        boolean hasNext = found.size() > limit;
+        List<CatalogEvent> page = hasNext ? found.subList(0, limit) : found;
+        return Window.from(page, index -> position(page.get(index)), hasNext);
+    }
+
+    private Event loadForWrite(Long eventId, EventCaller caller, Long expectedVersion) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
+        if (!caller.admin() && !event.getOrganizerId().equals(caller.subject())) {
+            throw new AccessDeniedException("Only the organizer of the event can change it");
+        }
+        if (event.getStatus() == EventStatus.CANCELLED) {
+            throw new EventCancelledException(eventId);
+        }
+        if (expectedVersion != null && !expectedVersion.equals(event.getVersion())) {
+            throw new EventVersionConflictException(expectedVersion);
+        }
+        return event;
+    }
+
+    private static void checkDates(LocalDateTime startAt, LocalDateTime endAt) {
+        if (!endAt.isAfter(startAt)) {
+            throw new InvalidEventException("Event must end after it starts");
+        }
+    }
+
+    // The catalog applies the change once the transaction has committed
+    private CatalogEvent published(Event event) {
+        CatalogEvent snapshot = CatalogEvent.of(event);
+        boolean listed = event.getStatus() == EventStatus.SCHEDULED && event.getEndAt().isAfter(LocalDateTime.now());
+        eventPublisher.publishEvent(new EventChanged(snapshot, listed));
+        return snapshot;
+    }
+
+    private static ScrollPosition position(CatalogEvent event) {
+        CatalogKey key = event.key();
+        return ScrollPosition.forward(Map.of("startAt", key.startAt(), "id", key.id()));
+    }
+}
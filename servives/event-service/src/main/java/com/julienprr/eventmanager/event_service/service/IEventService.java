@@ -0,0 +1,20 @@
+package com.julienprr.eventmanager.event_service.service;
+
+import com.julienprr.eventmanager.event_service.catalog.CatalogEvent;
+import com.julienprr.eventmanager.event_service.catalog.EventCatalogQuery;
+import com.julienprr.eventmanager.event_service.dto.event.CreateEventRequest;
+import com.julienprr.eventmanager.event_service.dto.event.UpdateEventRequest;
+import org.springframework.data.domain.Window;
+
+public interface IEventService {
+
+    CatalogEvent createEvent(CreateEventRequest request, EventCaller caller);
+
+    CatalogEvent updateEvent(Long eventId, UpdateEventRequest request, EventCaller caller);
+
+    CatalogEvent cancelEvent(Long eventId, EventCaller caller);
+
+    CatalogEvent getEvent(Long eventId);
+
+    Window<CatalogEvent> listUpcomingEvents(EventCatalogQuery query, String cursor, int size);
+}
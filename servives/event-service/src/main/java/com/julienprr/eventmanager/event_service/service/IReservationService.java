@@ -0,0 +1,17 @@
+package com.julienprr.eventmanager.event_service.service;
+
+import com.julienprr.eventmanager.event_service.inventory.SeatHold;
+import com.julienprr.eventmanager.event_service.model.Reservation;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface IReservationService {
+
+    SeatHold holdSeats(Long eventId, int seats, EventCaller caller);
+
+    CompletableFuture<Reservation> confirmReservation(String reservationId, EventCaller caller);
+
+    void releaseHold(String reservationId, EventCaller caller);
+
+    int remainingSeats(Long eventId);
+}
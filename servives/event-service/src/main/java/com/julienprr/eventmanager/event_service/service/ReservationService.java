@@ -0,0 +1,144 @@
+package com.julienprr.eventmanager.event_service.service;
+
+import com.julienprr.eventmanager.event_service.catalog.CatalogEvent;
+import com.julienprr.eventmanager.event_service.catalog.EventCatalog;
+import com.julienprr.eventmanager.event_service.catalog.EventChanged;
+import com.julienprr.eventmanager.event_service.config.SeatInventoryProperties;
+import com.julienprr.eventmanager.event_service.exception.EventCancelledException;
+import com.julienprr.eventmanager.event_service.exception.InvalidReservationException;
+import com.julienprr.eventmanager.event_service.exception.ResourceNotFoundException;
+import com.julienprr.eventmanager.event_service.exception.SoldOutException;
+import com.julienprr.eventmanager.event_service.inventory.SeatHold;
+import com.julienprr.eventmanager.event_service.inventory.SeatInventory;
+import com.julienprr.eventmanager.event_service.model.EventStatus;
+import com.julienprr.eventmanager.event_service.model.Reservation;
+import com.julienprr.eventmanager.event_service.model.ReservationStatus;
+import com.julienprr.eventmanager.event_service.registration.RegistrationPipeline;
+import com.julienprr.eventmanager.event_service.repository.EventRepository;
+import com.julienprr.eventmanager.event_service.repository.ReservationJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Reservations go through the in-memory {@link SeatInventory}: holding seats never touches the
+ * database once the event is open. A confirmation is acknowledged once it is in the local
+ * {@link RegistrationPipeline} log and reaches the database later, in a batch.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationService implements IReservationService {
+
+    private final SeatInventory seatInventory;
+    private final EventCatalog eventCatalog;
+    private final EventRepository eventRepository;
+    private final ReservationJdbcRepository reservationJdbcRepository;
+    private final RegistrationPipeline registrationPipeline;
+    private final SeatInventoryProperties properties;
+
+    @Override
+    public SeatHold holdSeats(Long eventId, int seats, EventCaller caller) {
+        if (seats <= 0 || seats > properties.maxSeatsPerReservation()) {
+            throw new InvalidReservationException("A reservation holds between 1 and "
+                    + properties.maxSeatsPerReservation() + " seats");
+        }
+        openIfNeeded(eventId);
+        return seatInventory.hold(eventId, caller.subject(), seats)
+                .orElseThrow(() -> new SoldOutException(eventId, seats));
+    }
+
+    @Override
+    public CompletableFuture<Reservation> confirmReservation(String reservationId, EventCaller caller) {
+        SeatHold hold = ownHold(reservationId, caller);
+        if (!seatInventory.confirm(hold)) {
+            throw holdNotFound();
+        }
+        Reservation reservation = Reservation.builder()
+                .id(hold.reservationId())
+                .eventId(hold.eventId())
+                .participantId(hold.participantId())
+                .seats(hold.seats())
+                .status(ReservationStatus.CONFIRMED)
+                .heldAt(hold.heldAt())
+                .confirmedAt(Instant.now())
+                .build();
+        return registrationPipeline.append(reservation)
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        seatInventory.restore(hold);
+                    }
+                })
+                .thenApply(ignored -> reservation);
+    }
+
+    @Override
+    public void releaseHold(String reservationId, EventCaller caller) {
+        if (!seatInventory.release(ownHold(reservationId, caller))) {
+            throw holdNotFound();
+        }
+    }
+
+    @Override
+    public int remainingSeats(Long eventId) {
+        openIfNeeded(eventId);
+        return seatInventory.remainingSeats(eventId);
+    }
+
+    @Scheduled(fixedDelayString = "${seat-inventory.sweep-interval:1s}")
+    public void releaseExpiredHolds() {
+        int released = seatInventory.releaseExpired();
+        if (released > 0) {
+            log.debug("Released {} expired seat holds", released);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEventChanged(EventChanged change) {
+        CatalogEvent event = change.event();
+        if (!change.listed()) {
+            seatInventory.close(event.id());
+        } else if (!seatInventory.changeCapacity(event.id(), event.capacity())) {
+            // EventService refuses capacities below the seats already taken, so only a race gets here
+            log.warn("Event {} capacity lowered to {} below the seats already taken", event.id(), event.capacity());
+        }
+    }
+
+    private void openIfNeeded(Long eventId) {
+        if (seatInventory.isOpen(eventId)) {
+            return;
+        }
+        CatalogEvent event = eventCatalog.get(eventId)
+                .orElseGet(() -> eventRepository.findById(eventId)
+                        .map(CatalogEvent::of)
+                        .orElseThrow(() -> new ResourceNotFoundException("Event not found")));
+        if (event.status() == EventStatus.CANCELLED) {
+            throw new EventCancelledException(eventId);
+        }
+        if (!event.endAt().isAfter(LocalDateTime.now())) {
+            throw new InvalidReservationException("Event " + eventId + " has already ended");
+        }
+        int confirmed = reservationJdbcRepository.confirmedSeats(eventId) + registrationPipeline.pendingSeats(eventId);
+        seatInventory.open(eventId, event.capacity(), event.capacity() - confirmed);
+    }
+
+    private SeatHold ownHold(String reservationId, EventCaller caller) {
+        SeatHold hold = seatInventory.findHold(reservationId).orElseThrow(ReservationService::holdNotFound);
+        if (!hold.participantId().equals(caller.subject())) {
+            throw new AccessDeniedException("This reservation belongs to another participant");
+        }
+        return hold;
+    }
+
+    private static ResourceNotFoundException holdNotFound() {
+        return new ResourceNotFoundException("Reservation hold not found or expired");
+    }
+}
@@ -0,0 +1,128 @@
+package com.julienprr.eventmanager.event_service.catalog;
+
+import com.julienprr.eventmanager.event_service.model.EventCategory;
+import com.julienprr.eventmanager.event_service.model.EventStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+class EventCatalogTests {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2030, 6, 1, 12, 0);
+
+    private final EventCatalog catalog = new EventCatalog(new SimpleMeterRegistry());
+
+    @Test
+    void shouldListInStartOrderAndFilterByCityAndCategory() {
+        catalog.put(event(1L, "Lyon", EventCategory.CONCERT, 3, 0L));
+        catalog.put(event(2L, "Paris", EventCategory.CONCERT, 1, 0L));
+        catalog.put(event(3L, "lyon ", EventCategory.WORKSHOP, 2, 0L));
+        catalog.put(event(4L, "Lyon", EventCategory.CONCERT, 5, 0L));
+
+        Assertions.assertEquals(List.of(2L, 3L, 1L, 4L), ids(catalog.find(query(null, null), null, 10)));
+        Assertions.assertEquals(List.of(3L, 1L, 4L), ids(catalog.find(query("LYON", null), null, 10)));
+        Assertions.assertEquals(List.of(1L, 4L), ids(catalog.find(query("Lyon", EventCategory.CONCERT), null, 10)));
+        Assertions.assertEquals(List.of(2L, 1L, 4L), ids(catalog.find(query(null, EventCategory.CONCERT), null, 10)));
+        Assertions.assertTrue(catalog.find(query("Brest", null), null, 10).isEmpty());
+    }
+
+    @Test
+    void shouldPageAfterKeyWithinDateRange() {
+        for (long id = 1; id <= 6; id++) {
+            catalog.put(event(id, "Paris", EventCategory.MEETUP, (int) id, 0L));
+        }
+        EventCatalogQuery range = new EventCatalogQuery(null, null, NOW.plusDays(2), NOW.plusDays(5));
+
+        List<CatalogEvent> first = catalog.find(range, null, 2);
+        List<CatalogEvent> second = catalog.find(range, first.getLast().key(), 2);
+        List<CatalogEvent> third = catalog.find(range, second.getLast().key(), 2);
+
+        Assertions.assertEquals(List.of(2L, 3L), ids(first));
+        Assertions.assertEquals(List.of(4L, 5L), ids(second));
+        Assertions.assertTrue(third.isEmpty());
+    }
+
+    @Test
+    void shouldMoveEventBetweenIndexesOnUpdate() {
+        catalog.put(event(1L, "Lyon", EventCategory.CONCERT, 1, 0L));
+        long sizeBefore = catalog.estimatedBytes();
+
+        catalog.put(event(1L, "Nice", EventCategory.FESTIVAL, 4, 1L));
+
+        Assertions.assertTrue(catalog.find(query("Lyon", null), null, 10).isEmpty());
+        Assertions.assertTrue(catalog.find(query(null, EventCategory.CONCERT), null, 10).isEmpty());
+        Assertions.assertEquals(List.of(1L), ids(catalog.find(query("Nice", EventCategory.FESTIVAL), null, 10)));
+        Assertions.assertEquals(1, catalog.find(query(null, null), null, 10).size());
+        Assertions.assertEquals(sizeBefore, catalog.estimatedBytes());
+    }
+
+    @Test
+    void shouldIgnoreChangesOlderThanHeldVersion() {
+        catalog.put(event(1L, "Lyon", EventCategory.CONCERT, 1, 2L));
+        catalog.put(event(1L, "Paris", EventCategory.CONCERT, 1, 1L));
+        Assertions.assertEquals("Lyon", catalog.get(1L).orElseThrow().city());
+
+        catalog.remove(event(1L, "Lyon", EventCategory.CONCERT, 1, 3L));
+        catalog.put(event(1L, "Paris", EventCategory.CONCERT, 1, 2L));
+        Assertions.assertTrue(catalog.get(1L).isEmpty());
+        Assertions.assertEquals(0, catalog.estimatedBytes());
+    }
+
+    @Test
+    void shouldDropEndedEvents() {
+        catalog.put(event(1L, "Lyon", EventCategory.CONCERT, 1, 0L));
+        catalog.put(event(2L, "Lyon", EventCategory.CONCERT, 10, 0L));
+
+        Assertions.assertEquals(1, catalog.removeEndedBefore(NOW.plusDays(5)));
+        Assertions.assertEquals(List.of(2L), ids(catalog.find(query("Lyon", null), null, 10)));
+        Assertions.assertEquals(1, catalog.size());
+    }
+
+    @Test
+    void shouldKeepRemovalsUntilTheEventEnds() {
+        catalog.remove(event(1L, "Lyon", EventCategory.CONCERT, 1, 2L));
+        catalog.remove(event(2L, "Lyon", EventCategory.CONCERT, 10, 2L));
+
+        catalog.removeEndedBefore(NOW.plusDays(5));
+        catalog.put(event(1L, "Lyon", EventCategory.CONCERT, 1, 1L));
+        catalog.put(event(2L, "Lyon", EventCategory.CONCERT, 10, 1L));
+
+        Assertions.assertTrue(catalog.get(1L).isPresent());
+        Assertions.assertTrue(catalog.get(2L).isEmpty());
+    }
+
+    @Test
+    void shouldReloadFromTheDatabaseAndDropWhatItNoLongerLists() {
+        catalog.put(event(1L, "Lyon", EventCategory.CONCERT, 1, 0L));
+        catalog.put(event(2L, "Lyon", EventCategory.CONCERT, 2, 0L));
+
+        int dropped = catalog.reload(loaded -> {
+            loaded.accept(event(2L, "Nice", EventCategory.CONCERT, 2, 1L));
+            loaded.accept(event(3L, "Lyon", EventCategory.CONCERT, 3, 0L));
+        });
+
+        Assertions.assertEquals(1, dropped);
+        Assertions.assertEquals(List.of(3L), ids(catalog.find(query("Lyon", null), null, 10)));
+        Assertions.assertEquals(List.of(2L), ids(catalog.find(query("Nice", null), null, 10)));
+        // A late notification of the dropped event's older state does not bring it back
+        catalog.put(event(1L, "Lyon", EventCategory.CONCERT, 1, 0L));
+        Assertions.assertTrue(catalog.get(1L).isEmpty());
+    }
+
+    private static EventCatalogQuery query(String city, EventCategory category) {
+        return new EventCatalogQuery(city, category, null, null);
+    }
+
+    private static CatalogEvent event(Long id, String city, EventCategory category, int startInDays, Long version) {
+        LocalDateTime startAt = NOW.plusDays(startInDays);
+        return new CatalogEvent(id, "Event " + id, "Description", category, "Venue", city, "France",
+                startAt, startAt.plusHours(3), 100, "organizer", EventStatus.SCHEDULED, NOW, NOW, version);
+    }
+
+    private static List<Long> ids(List<CatalogEvent> events) {
+        return events.stream().map(CatalogEvent::id).toList();
+    }
+}
@@ -0,0 +1,104 @@
+package com.julienprr.eventmanager.event_service.client;
+
+import com.julienprr.eventmanager.event_service.replica.ParticipantReplica;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class ParticipantClientTests {
+
+    private static final String LOOKUP_URL = "http://user-service" + ParticipantClient.LOOKUP_PATH;
+    private static final String RESPONSE = """
+            {"profiles": {"1": {"firstname": "Jane", "lastname": "Doe"},
+                          "2": {"firstname": "John", "lastname": "Smith"}},
+             "missingIds": [3]}
+            """;
+
+    private final RestClient.Builder builder = RestClient.builder().baseUrl("http://user-service");
+    private final MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
+    private final ParticipantReplica replica = new ParticipantReplica(new SimpleMeterRegistry());
+    private ParticipantClient client;
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+    }
+
+    @Test
+    void shouldCoalesceConcurrentLookupsIntoOneCall() throws Exception {
+        client = new ParticipantClient(builder.build(), Duration.ofMillis(200), 100, replica);
+        server.expect(once(), requestTo(LOOKUP_URL))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(jsonPath("$.ids.length()").value(3))
+                .andRespond(withSuccess(RESPONSE, MediaType.APPLICATION_JSON));
+
+        List<CompletableFuture<Optional<ParticipantProfile>>> lookups = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<CompletableFuture<Optional<ParticipantProfile>>>> started = new ArrayList<>();
+            for (int i = 0; i < 30; i++) {
+                long id = 1 + i % 3;
+                started.add(CompletableFuture.supplyAsync(() -> client.getPublicProfile(id), executor));
+            }
+            for (CompletableFuture<CompletableFuture<Optional<ParticipantProfile>>> lookup : started) {
+                lookups.add(lookup.join());
+            }
+        }
+
+        for (int i = 0; i < lookups.size(); i++) {
+            Optional<ParticipantProfile> profile = lookups.get(i).join();
+            switch (i % 3) {
+                case 0 -> Assertions.assertEquals("Jane", profile.orElseThrow().firstname());
+                case 1 -> Assertions.assertEquals("John", profile.orElseThrow().firstname());
+                default -> Assertions.assertTrue(profile.isEmpty());
+            }
+        }
+        server.verify();
+    }
+
+    @Test
+    void shouldSendAFullBatchWithoutWaitingForTheWindow() {
+        client = new ParticipantClient(builder.build(), Duration.ofHours(1), 2, replica);
+        server.expect(once(), requestTo(LOOKUP_URL))
+                .andExpect(jsonPath("$.ids.length()").value(2))
+                .andRespond(withSuccess(RESPONSE, MediaType.APPLICATION_JSON));
+
+        CompletableFuture<Optional<ParticipantProfile>> first = client.getPublicProfile(1L);
+        CompletableFuture<Optional<ParticipantProfile>> second = client.getPublicProfile(2L);
+
+        Assertions.assertEquals("Jane", first.join().orElseThrow().firstname());
+        Assertions.assertEquals("John", second.join().orElseThrow().firstname());
+        server.verify();
+    }
+
+    @Test
+    void shouldFailTheBatchAndLetLaterLookupsRetry() {
+        client = new ParticipantClient(builder.build(), Duration.ofMillis(10), 100, replica);
+        server.expect(once(), requestTo(LOOKUP_URL)).andRespond(withServerError());
+        server.expect(once(), requestTo(LOOKUP_URL)).andRespond(withSuccess(RESPONSE, MediaType.APPLICATION_JSON));
+
+        Assertions.assertThrows(CompletionException.class, () -> client.getPublicProfile(1L).join());
+        Assertions.assertEquals("Jane", client.getPublicProfile(1L).join().orElseThrow().firstname());
+        server.verify();
+    }
+}
@@ -0,0 +1,171 @@
+package com.julienprr.eventmanager.event_service.inventory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class SeatInventoryTests {
+
+    private static final Long EVENT_ID = 1L;
+    private static final int RESERVERS = 10_000;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2030-01-01T10:00:00Z"));
+    private final SeatInventory inventory = new SeatInventory(8, Duration.ofMinutes(5), clock, new SimpleMeterRegistry());
+
+    @Test
+    void shouldHandOutExactlyCapacityToConcurrentReservers() throws Exception {
+        inventory.open(EVENT_ID, 1_000, 1_000);
+
+        List<Future<Optional<SeatHold>>> attempts = race(() -> inventory.hold(EVENT_ID, "participant", 1));
+
+        int held = 0;
+        for (Future<Optional<SeatHold>> attempt : attempts) {
+            held += attempt.get().isPresent() ? 1 : 0;
+        }
+        Assertions.assertEquals(1_000, held);
+        Assertions.assertEquals(0, inventory.remainingSeats(EVENT_ID));
+        Assertions.assertEquals(1_000, inventory.heldSeats(EVENT_ID));
+    }
+
+    @Test
+    void shouldNeverOversellUnderMixedHoldsConfirmationsAndReleases() throws Exception {
+        inventory.open(EVENT_ID, 2_500, 2_500);
+        AtomicInteger confirmedSeats = new AtomicInteger();
+
+        race(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Optional<SeatHold> hold = inventory.hold(EVENT_ID, "participant", 1 + random.nextInt(4));
+            hold.ifPresent(h -> {
+                if (random.nextBoolean()) {
+                    if (inventory.confirm(h)) {
+                        confirmedSeats.addAndGet(h.seats());
+                    }
+                } else {
+                    inventory.release(h);
+                }
+            });
+            return hold;
+        });
+
+        Assertions.assertTrue(confirmedSeats.get() <= 2_500);
+        Assertions.assertEquals(0, inventory.heldSeats(EVENT_ID));
+        Assertions.assertEquals(2_500, confirmedSeats.get() + inventory.remainingSeats(EVENT_ID));
+    }
+
+    @Test
+    void shouldPutExpiredHoldsBackOnSale() {
+        inventory.open(EVENT_ID, 3, 3);
+        SeatHold hold = inventory.hold(EVENT_ID, "participant", 3).orElseThrow();
+        Assertions.assertTrue(inventory.hold(EVENT_ID, "other", 1).isEmpty());
+
+        clock.advance(Duration.ofMinutes(6));
+        Assertions.assertEquals(1, inventory.releaseExpired());
+
+        Assertions.assertEquals(3, inventory.remainingSeats(EVENT_ID));
+        Assertions.assertFalse(inventory.confirm(hold));
+    }
+
+    @Test
+    void shouldRefuseToConfirmAnExpiredHoldBeforeTheSweep() {
+        inventory.open(EVENT_ID, 3, 3);
+        SeatHold hold = inventory.hold(EVENT_ID, "participant", 3).orElseThrow();
+
+        clock.advance(Duration.ofMinutes(6));
+
+        Assertions.assertFalse(inventory.confirm(hold));
+        Assertions.assertEquals(3, inventory.remainingSeats(EVENT_ID));
+        Assertions.assertEquals(0, inventory.heldSeats(EVENT_ID));
+        Assertions.assertEquals(0, inventory.releaseExpired());
+    }
+
+    @Test
+    void shouldGatherSeatsAcrossStripes() {
+        // 8 stripes with one seat each: no stripe alone can serve a request for 5
+        inventory.open(EVENT_ID, 8, 8);
+
+        Assertions.assertTrue(inventory.hold(EVENT_ID, "participant", 5).isPresent());
+        Assertions.assertTrue(inventory.hold(EVENT_ID, "participant", 4).isEmpty());
+        Assertions.assertEquals(3, inventory.remainingSeats(EVENT_ID));
+    }
+
+    @Test
+    void shouldOnlyWithdrawUnsoldSeatsOnCapacityChange() {
+        inventory.open(EVENT_ID, 10, 10);
+        inventory.hold(EVENT_ID, "participant", 6).orElseThrow();
+
+        Assertions.assertTrue(inventory.changeCapacity(EVENT_ID, 12));
+        Assertions.assertEquals(6, inventory.remainingSeats(EVENT_ID));
+        Assertions.assertFalse(inventory.changeCapacity(EVENT_ID, 4));
+        Assertions.assertEquals(0, inventory.remainingSeats(EVENT_ID));
+    }
+
+    @Test
+    void shouldDropHoldsWhenEventCloses() {
+        inventory.open(EVENT_ID, 5, 5);
+        SeatHold hold = inventory.hold(EVENT_ID, "participant", 2).orElseThrow();
+
+        inventory.close(EVENT_ID);
+
+        Assertions.assertFalse(inventory.isOpen(EVENT_ID));
+        Assertions.assertFalse(inventory.confirm(hold));
+    }
+
+    // Starts every reserver on its own virtual thread and releases them at once
+    private static <T> List<Future<T>> race(java.util.concurrent.Callable<T> reserver) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>(RESERVERS);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < RESERVERS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return reserver.call();
+                }));
+            }
+            start.countDown();
+        }
+        return futures;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
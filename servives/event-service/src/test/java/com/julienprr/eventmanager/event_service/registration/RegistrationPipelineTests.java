@@ -0,0 +1,280 @@
+package com.julienprr.eventmanager.event_service.registration;
+
+import com.julienprr.eventmanager.event_service.model.Reservation;
+import com.julienprr.eventmanager.event_service.model.ReservationStatus;
+import com.julienprr.eventmanager.event_service.repository.ReservationJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Stream;
+
+class RegistrationPipelineTests {
+
+    private static final Long EVENT_ID = 1L;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldAcknowledgeEveryRegistrationAndFlushThemInBatches() throws Exception {
+        RecordingRepository repository = new RecordingRepository();
+        RegistrationPipeline pipeline = pipeline(repository, 50);
+        pipeline.start();
+
+        List<CompletableFuture<Void>> acknowledgements = new ArrayList<>();
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < 1_000; i++) {
+            Reservation reservation = reservation();
+            ids.add(reservation.getId());
+            acknowledgements.add(CompletableFuture.supplyAsync(() -> pipeline.append(reservation))
+                    .thenCompose(acknowledged -> acknowledged));
+        }
+        CompletableFuture.allOf(acknowledgements.toArray(CompletableFuture[]::new)).join();
+        pipeline.close();
+
+        Assertions.assertEquals(ids, repository.ids());
+        Assertions.assertEquals(1_000, repository.inserted().size());
+        Assertions.assertTrue(repository.batches.stream().allMatch(batch -> batch.size() <= 50));
+        Assertions.assertEquals(0, pipeline.pendingSeats(EVENT_ID));
+    }
+
+    @Test
+    void shouldCountSeatsAsPendingUntilFlushed() throws Exception {
+        CountDownLatch databaseAvailable = new CountDownLatch(1);
+        RecordingRepository repository = new RecordingRepository() {
+            @Override
+            public List<String> insertAll(List<Reservation> reservations) {
+                try {
+                    databaseAvailable.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.insertAll(reservations);
+            }
+        };
+        RegistrationPipeline pipeline = pipeline(repository, 10);
+        pipeline.start();
+
+        pipeline.append(reservation()).join();
+        pipeline.append(reservation()).join();
+        Assertions.assertEquals(4, pipeline.pendingSeats(EVENT_ID));
+
+        databaseAvailable.countDown();
+        pipeline.close();
+        Assertions.assertEquals(0, pipeline.pendingSeats(EVENT_ID));
+        Assertions.assertEquals(2, repository.inserted().size());
+    }
+
+    @Test
+    void shouldCountRegistrationsTheDatabaseRefuses() throws Exception {
+        Reservation refused = reservation();
+        RecordingRepository repository = new RecordingRepository() {
+            @Override
+            public List<String> insertAll(List<Reservation> reservations) {
+                super.insertAll(reservations);
+                return reservations.contains(refused) ? List.of(refused.getId()) : List.of();
+            }
+        };
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RegistrationPipeline pipeline = new RegistrationPipeline(directory, 10, Duration.ofMillis(20), 1024 * 1024,
+                256, repository, meterRegistry);
+        pipeline.start();
+
+        pipeline.append(reservation()).join();
+        pipeline.append(refused).join();
+        pipeline.close();
+
+        Assertions.assertEquals(1, meterRegistry.get("registration.rejected").counter().count());
+        Assertions.assertEquals(0, pipeline.pendingSeats(EVENT_ID));
+    }
+
+    @Test
+    void shouldSetAsideRegistrationsTheDatabaseFailsOnAndGoOn() throws Exception {
+        Reservation failing = reservation();
+        RecordingRepository repository = new RecordingRepository() {
+            @Override
+            public List<String> insertAll(List<Reservation> reservations) {
+                if (reservations.contains(failing)) {
+                    throw new DataIntegrityViolationException("value too long for type character varying(255)");
+                }
+                return super.insertAll(reservations);
+            }
+        };
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RegistrationPipeline pipeline = new RegistrationPipeline(directory, 10, Duration.ofMillis(20), 1024 * 1024,
+                256, repository, meterRegistry);
+        pipeline.start();
+
+        Reservation before = reservation();
+        Reservation after = reservation();
+        CompletableFuture.allOf(pipeline.append(before), pipeline.append(failing), pipeline.append(after)).join();
+        Reservation next = reservation();
+        pipeline.append(next).join();
+        pipeline.close();
+
+        Assertions.assertEquals(Set.of(before.getId(), after.getId(), next.getId()), repository.ids());
+        Assertions.assertEquals(1, meterRegistry.get("registration.set.aside").counter().count());
+        Assertions.assertTrue(Files.size(directory.resolve("set-aside.dat")) > 0);
+        Assertions.assertEquals(0, pipeline.pendingSeats(EVENT_ID));
+
+        RecordingRepository afterRestart = new RecordingRepository();
+        RegistrationPipeline restarted = pipeline(afterRestart, 10);
+        restarted.start();
+        restarted.close();
+        Assertions.assertTrue(afterRestart.inserted().isEmpty());
+    }
+
+    @Test
+    void shouldReplayRegistrationsNotFlushedBeforeShutdown() throws Exception {
+        RecordingRepository unavailable = new RecordingRepository() {
+            @Override
+            public List<String> insertAll(List<Reservation> reservations) {
+                throw new DataAccessResourceFailureException("Database down");
+            }
+        };
+        RegistrationPipeline first = pipeline(unavailable, 10);
+        first.start();
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < 25; i++) {
+            Reservation reservation = reservation();
+            ids.add(reservation.getId());
+            first.append(reservation).join();
+        }
+        first.close();
+
+        RecordingRepository repository = new RecordingRepository();
+        RegistrationPipeline second = pipeline(repository, 10);
+        second.start();
+        second.close();
+
+        Assertions.assertEquals(ids, repository.ids());
+        Assertions.assertEquals(List.of(10, 10, 5), repository.batches.stream().map(List::size).toList());
+    }
+
+    @Test
+    void shouldNotReplayPastTheCheckpoint() throws Exception {
+        RecordingRepository repository = new RecordingRepository();
+        RegistrationPipeline first = pipeline(repository, 10);
+        first.start();
+        first.append(reservation()).join();
+        first.close();
+
+        RecordingRepository afterRestart = new RecordingRepository();
+        RegistrationPipeline second = pipeline(afterRestart, 10);
+        second.start();
+        second.close();
+
+        Assertions.assertEquals(1, repository.inserted().size());
+        Assertions.assertTrue(afterRestart.inserted().isEmpty());
+    }
+
+    @Test
+    void shouldDropATornRecordAtTheEndOfTheLog() throws Exception {
+        RegistrationLog registrationLog = new RegistrationLog(directory, 1024 * 1024);
+        registrationLog.recover();
+        List<RegistrationLog.Position> ends = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ends.add(registrationLog.write(reservation()));
+        }
+        registrationLog.sync();
+        registrationLog.close();
+        Path segment = segments().getLast();
+        // A crash in the middle of a write leaves a header without its payload
+        Files.write(segment, new byte[]{0, 0, 0, 90, 1, 2, 3, 4, 5}, StandardOpenOption.APPEND);
+
+        RegistrationLog recovered = new RegistrationLog(directory, 1024 * 1024);
+        List<RegistrationLog.Entry> entries = recovered.recover();
+
+        Assertions.assertEquals(3, entries.size());
+        Assertions.assertEquals(ends.getLast(), entries.getLast().end());
+        Assertions.assertEquals(ends.getLast().offset(), Files.size(segment));
+
+        recovered.checkpoint(ends.get(1));
+        recovered.close();
+        Assertions.assertEquals(1, new RegistrationLog(directory, 1024 * 1024).recover().size());
+    }
+
+    @Test
+    void shouldDeleteSegmentsBehindTheCheckpoint() throws Exception {
+        RegistrationLog registrationLog = new RegistrationLog(directory, 200);
+        registrationLog.recover();
+        RegistrationLog.Position end = null;
+        for (int i = 0; i < 20; i++) {
+            end = registrationLog.write(reservation());
+        }
+        registrationLog.sync();
+        Assertions.assertTrue(segments().size() > 2);
+
+        registrationLog.checkpoint(end);
+        registrationLog.close();
+
+        Assertions.assertEquals(1, segments().size());
+        Assertions.assertTrue(new RegistrationLog(directory, 200).recover().isEmpty());
+    }
+
+    private RegistrationPipeline pipeline(ReservationJdbcRepository repository, int batchSize) {
+        return new RegistrationPipeline(directory, batchSize, Duration.ofMillis(20), 1024 * 1024, 256,
+                repository, new SimpleMeterRegistry());
+    }
+
+    private List<Path> segments() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".log")).sorted().toList();
+        }
+    }
+
+    private static Reservation reservation() {
+        Instant now = Instant.now();
+        return Reservation.builder()
+                .id(UUID.randomUUID().toString())
+                .eventId(EVENT_ID)
+                .participantId("participant")
+                .seats(2)
+                .status(ReservationStatus.CONFIRMED)
+                .heldAt(now.minusSeconds(30))
+                .confirmedAt(now)
+                .build();
+    }
+
+    private static class RecordingRepository extends ReservationJdbcRepository {
+
+        final List<List<Reservation>> batches = new CopyOnWriteArrayList<>();
+
+        RecordingRepository() {
+            super(null);
+        }
+
+        @Override
+        public List<String> insertAll(List<Reservation> reservations) {
+            batches.add(List.copyOf(reservations));
+            return List.of();
+        }
+
+        List<Reservation> inserted() {
+            return batches.stream().flatMap(List::stream).toList();
+        }
+
+        Set<String> ids() {
+            Set<String> ids = new HashSet<>();
+            inserted().forEach(reservation -> ids.add(reservation.getId()));
+            return ids;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.julienprr.eventmanager.event_service.replica;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.julienprr.eventmanager.event_service.client.ParticipantClient;
+import com.julienprr.eventmanager.event_service.client.ParticipantProfile;
+import com.julienprr.eventmanager.event_service.config.ParticipantReplicaProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class ParticipantFeedConsumerTests {
+
+    private static final String BASE_URL = "http://user-service";
+    private static final String SNAPSHOT = """
+            {"offset":7,"participantId":1,"type":null,"version":3,"status":"ACTIVE","profile":{"firstname":"Jane","lastname":"Doe"}}
+            {"offset":7,"participantId":2,"type":null,"version":1,"status":"ACTIVE","profile":{"firstname":"John","lastname":"Smith"}}
+            """;
+
+    private final RestClient.Builder builder = RestClient.builder().baseUrl(BASE_URL);
+    private final MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
+    private final ParticipantReplica replica = new ParticipantReplica(new SimpleMeterRegistry());
+    private final ParticipantFeedConsumer consumer = new ParticipantFeedConsumer(builder.build(), replica,
+            new ObjectMapper().findAndRegisterModules(), new ParticipantReplicaProperties(true, null, 2));
+
+    @Test
+    void shouldLoadSnapshotThenFollowTheFeedFromItsOffset() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(ParticipantFeedConsumer.FEED_OFFSET_HEADER, "7");
+        server.expect(once(), requestTo(BASE_URL + ParticipantFeedConsumer.SNAPSHOT_PATH))
+                .andRespond(withSuccess(SNAPSHOT, MediaType.APPLICATION_NDJSON).headers(headers));
+        // Version 2 of participant 1 was published before the snapshot read version 3: it is stale
+        server.expect(once(), requestTo(BASE_URL + ParticipantFeedConsumer.CHANGES_PATH + "?after=7&limit=2"))
+                .andRespond(withSuccess("""
+                        {"changes":[
+                          {"offset":8,"participantId":1,"type":"PROFILE_UPDATED","version":2,"status":"ACTIVE","profile":{"firstname":"Old"}},
+                          {"offset":9,"participantId":2,"type":"STATUS_CHANGED","version":2,"status":"SUSPENDED","profile":{"firstname":"John"}}
+                        ],"lastOffset":9}
+                        """, MediaType.APPLICATION_JSON));
+        server.expect(once(), requestTo(BASE_URL + ParticipantFeedConsumer.CHANGES_PATH + "?after=9&limit=2"))
+                .andRespond(withSuccess("""
+                        {"changes":[{"offset":10,"participantId":3,"type":"CREATED","version":0,"status":"ACTIVE","profile":{"firstname":"Ann"}}],
+                         "lastOffset":10}
+                        """, MediaType.APPLICATION_JSON));
+
+        consumer.poll();
+
+        server.verify();
+        Assertions.assertTrue(replica.isReady());
+        Assertions.assertEquals(10, replica.offset());
+        Assertions.assertEquals("Jane", replica.find(1L).orElseThrow().profile().firstname());
+        Assertions.assertEquals("SUSPENDED", replica.find(2L).orElseThrow().status());
+        Assertions.assertEquals("Ann", replica.find(3L).orElseThrow().profile().firstname());
+    }
+
+    @Test
+    void shouldResumeFromTheLastAppliedOffsetAfterAFailure() {
+        replica.advanceTo(4);
+        server.expect(once(), requestTo(BASE_URL + ParticipantFeedConsumer.CHANGES_PATH + "?after=4&limit=2"))
+                .andRespond(withServerError());
+        server.expect(once(), requestTo(BASE_URL + ParticipantFeedConsumer.CHANGES_PATH + "?after=4&limit=2"))
+                .andRespond(withSuccess("""
+                        {"changes":[{"offset":5,"participantId":1,"type":"CREATED","version":0,"status":"ACTIVE","profile":{"firstname":"Jane"}}],
+                         "lastOffset":5}
+                        """, MediaType.APPLICATION_JSON));
+
+        consumer.poll();
+        Assertions.assertEquals(4, replica.offset());
+        consumer.poll();
+
+        server.verify();
+        Assertions.assertEquals(5, replica.offset());
+    }
+
+    @Test
+    void shouldServeReplicatedProfilesWithoutCallingUserService() {
+        replica.apply(new ParticipantChange(1, 1L, "CREATED", 0, "ACTIVE",
+                new ParticipantProfile("Jane", "Doe", null, null, null, null), null));
+        replica.advanceTo(1);
+        try (ParticipantClient client = new ParticipantClient(builder.build(), Duration.ofMillis(5), 100, replica)) {
+            Assertions.assertEquals("Jane", client.getPublicProfile(1L).join().orElseThrow().firstname());
+        }
+        server.verify();
+    }
+}
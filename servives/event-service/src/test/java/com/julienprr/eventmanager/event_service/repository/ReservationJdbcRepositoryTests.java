@@ -0,0 +1,158 @@
+package com.julienprr.eventmanager.event_service.repository;
+
+import com.julienprr.eventmanager.event_service.model.Reservation;
+import com.julienprr.eventmanager.event_service.model.ReservationStatus;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The capacity check of the batch insert, against a real Postgres.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReservationJdbcRepositoryTests {
+
+    private static final Long EVENT_ID = 1L;
+
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate transactionTemplate;
+    private static ReservationJdbcRepository repository;
+
+    @BeforeAll
+    static void start() {
+        postgres.start();
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(postgres.getJdbcUrl(),
+                postgres.getUsername(), postgres.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        // What the @Transactional proxy does in the application
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        repository = new ReservationJdbcRepository(jdbcTemplate);
+        jdbcTemplate.execute("""
+                DROP TABLE IF EXISTS reservations, events;
+                CREATE TABLE events (id bigint PRIMARY KEY, capacity integer NOT NULL, confirmed_seats integer);
+                CREATE TABLE reservations (
+                    id             varchar(36) PRIMARY KEY,
+                    event_id       bigint       NOT NULL,
+                    participant_id varchar(255) NOT NULL,
+                    seats          integer      NOT NULL,
+                    status         varchar(255) NOT NULL,
+                    held_at        timestamp(6) with time zone NOT NULL,
+                    confirmed_at   timestamp(6) with time zone
+                );
+                """);
+    }
+
+    @AfterAll
+    static void stop() {
+        postgres.stop();
+    }
+
+    @BeforeEach
+    void createEvent() {
+        jdbcTemplate.execute("TRUNCATE reservations, events");
+        jdbcTemplate.update("INSERT INTO events (id, capacity) VALUES (?, 5)", EVENT_ID);
+    }
+
+    @Test
+    void shouldRefuseReservationsPastCapacity() {
+        Reservation third = reservation(2);
+
+        Assertions.assertEquals(List.of(third.getId()), insertAll(List.of(reservation(2), reservation(2), third)));
+        Assertions.assertEquals(List.of(), insertAll(List.of(reservation(1))));
+        Assertions.assertEquals(1, insertAll(List.of(reservation(1))).size());
+        Assertions.assertEquals(5, repository.confirmedSeats(EVENT_ID));
+    }
+
+    @Test
+    void shouldNotCountReplayedReservationsTwice() {
+        Reservation flushed = reservation(2);
+        insertAll(List.of(flushed));
+
+        Assertions.assertEquals(List.of(), insertAll(List.of(flushed, reservation(3))));
+        Assertions.assertEquals(5, repository.confirmedSeats(EVENT_ID));
+    }
+
+    @Test
+    void shouldCountReservationsStoredBeforeTheEventHadACount() {
+        insertAll(List.of(reservation(2), reservation(1)));
+        jdbcTemplate.update("UPDATE events SET confirmed_seats = NULL WHERE id = ?", EVENT_ID);
+        Assertions.assertEquals(3, repository.confirmedSeats(EVENT_ID));
+
+        Reservation third = reservation(2);
+        Assertions.assertEquals(List.of(third.getId()), insertAll(List.of(reservation(2), third)));
+        Assertions.assertEquals(5, jdbcTemplate.queryForObject("SELECT confirmed_seats FROM events WHERE id = ?",
+                Integer.class, EVENT_ID));
+    }
+
+    @Test
+    void shouldRefuseReservationsOfUnknownEvents() {
+        Reservation orphan = reservation(99L, 1);
+
+        Assertions.assertEquals(List.of(orphan.getId()), insertAll(List.of(orphan)));
+    }
+
+    @Test
+    void shouldNotLetConcurrentFlushesShareTheLastSeats() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            createEvent();
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<String>>> flushes = new ArrayList<>();
+            try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+                for (int i = 0; i < 2; i++) {
+                    flushes.add(executor.submit(() -> {
+                        start.await();
+                        return insertAll(List.of(reservation(3)));
+                    }));
+                }
+                start.countDown();
+            }
+
+            int refused = 0;
+            for (Future<List<String>> flush : flushes) {
+                refused += flush.get().size();
+            }
+            Assertions.assertEquals(1, refused);
+            Assertions.assertEquals(3, repository.confirmedSeats(EVENT_ID));
+        }
+    }
+
+    private static List<String> insertAll(List<Reservation> reservations) {
+        return transactionTemplate.execute(status -> repository.insertAll(reservations));
+    }
+
+    private static Reservation reservation(int seats) {
+        return reservation(EVENT_ID, seats);
+    }
+
+    private static Reservation reservation(Long eventId, int seats) {
+        Instant now = Instant.now();
+        return Reservation.builder()
+                .id(UUID.randomUUID().toString())
+                .eventId(eventId)
+                .participantId("participant")
+                .seats(seats)
+                .status(ReservationStatus.CONFIRMED)
+                .heldAt(now.minusSeconds(30))
+                .confirmedAt(now)
+                .build();
+    }
+}
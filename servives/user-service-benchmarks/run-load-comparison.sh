@@ -0,0 +1,45 @@
+#!/usr/bin/env sh
+# Starts user-service twice, once on platform threads and once with the virtual-threads profile,
+# drives each with the same closed-loop load and writes both results to
+# results/load-<commit>.jsonl. Needs the database from application.properties to be reachable.
+#
+# Environment: URL (default http://localhost:8081/actuator/health), CONCURRENCY (1000),
+# WARMUP (10s), DURATION (30s), TOKEN (optional bearer token for protected endpoints).
+set -e
+
+cd "$(dirname "$0")"
+mvn -q -f ../user-service/pom.xml install -DskipTests
+mvn -q package
+
+URL=${URL:-http://localhost:8081/actuator/health}
+CONCURRENCY=${CONCURRENCY:-1000}
+WARMUP=${WARMUP:-10s}
+DURATION=${DURATION:-30s}
+service_jar=$(ls ../user-service/target/user-service-*-exec.jar)
+
+commit=$(git rev-parse --short HEAD)
+mkdir -p results
+out="results/load-$commit.jsonl"
+: > "$out"
+
+for mode in platform virtual-threads; do
+  profile=""
+  if [ "$mode" = "virtual-threads" ]; then
+    profile="--spring.profiles.active=virtual-threads"
+  fi
+  java -jar "$service_jar" $profile --spring.jpa.show-sql=false > "results/load-$mode.log" 2>&1 &
+  pid=$!
+  trap 'kill $pid 2>/dev/null' EXIT
+  until curl -sf http://localhost:8081/actuator/health > /dev/null; do
+    kill -0 $pid || { echo "user-service failed to start, see results/load-$mode.log"; exit 1; }
+    sleep 1
+  done
+
+  java -cp target/benchmarks.jar com.julienprr.eventmanager.user_service.benchmarks.LoadGenerator \
+    --url="$URL" --concurrency="$CONCURRENCY" --warmup="$WARMUP" --duration="$DURATION" \
+    --label="$mode" ${TOKEN:+--token="$TOKEN"} | tee -a "$out"
+
+  kill $pid
+  wait $pid 2>/dev/null || true
+done
+echo "Results written to $out"
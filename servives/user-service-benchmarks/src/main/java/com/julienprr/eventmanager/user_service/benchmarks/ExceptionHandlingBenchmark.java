@@ -0,0 +1,64 @@
+package com.julienprr.eventmanager.user_service.benchmarks;
+
+import com.julienprr.eventmanager.user_service.controller.ParticipantController;
+import com.julienprr.eventmanager.user_service.dto.participant.ParticipantSignupRequest;
+import com.julienprr.eventmanager.user_service.exception.EmailAlreadyUsedException;
+import com.julienprr.eventmanager.user_service.exception.GlobalExceptionHandler;
+import com.julienprr.eventmanager.user_service.exception.ResourceNotFoundException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the GlobalExceptionHandler error paths, including creating the exception
+ * (and its stack trace), since that is what every failed request pays.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExceptionHandlingBenchmark {
+
+    private GlobalExceptionHandler exceptionHandler;
+    private MethodParameter signupParameter;
+    private ParticipantSignupRequest invalidSignup;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        exceptionHandler = new GlobalExceptionHandler();
+        signupParameter = new MethodParameter(
+                ParticipantController.class.getMethod("signup", ParticipantSignupRequest.class), 0);
+        invalidSignup = new ParticipantSignupRequest("", "Doe", "not-an-email", "short");
+    }
+
+    @Benchmark
+    public Map<String, String> resourceNotFound() {
+        return exceptionHandler.handleResourceNotFoundException(new ResourceNotFoundException("Participant not found"));
+    }
+
+    @Benchmark
+    public Map<String, String> emailAlreadyUsed() {
+        return exceptionHandler.handleEmailAlreadyExists(new EmailAlreadyUsedException("john.doe@example.com"));
+    }
+
+    @Benchmark
+    public Map<String, String> validationErrors() {
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(invalidSignup, "participantSignupRequest");
+        bindingResult.addError(new FieldError("participantSignupRequest", "firstname", "must not be blank"));
+        bindingResult.addError(new FieldError("participantSignupRequest", "email", "must be a well-formed email address"));
+        bindingResult.addError(new FieldError("participantSignupRequest", "password", "size must be between 8 and 2147483647"));
+        return exceptionHandler.handleValidationErrors(new MethodArgumentNotValidException(signupParameter, bindingResult));
+    }
+
+    @Benchmark
+    public Map<String, String> unexpectedError() {
+        return exceptionHandler.handleGenericException(new IllegalStateException("Unexpected failure"));
+    }
+}
@@ -0,0 +1,73 @@
+package com.julienprr.eventmanager.user_service.benchmarks;
+
+import com.julienprr.eventmanager.user_service.security.RealmRolesAuthoritiesConverter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of turning a decoded Keycloak token into an Authentication, as configured
+ * in SecurityConfig: the realm role conversion alone, against the per-request allocation it
+ * replaced, and the full JwtAuthenticationConverter.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthoritiesBenchmark {
+
+    private RealmRolesAuthoritiesConverter authoritiesConverter;
+    private JwtAuthenticationConverter authenticationConverter;
+    private Jwt jwt;
+
+    @Setup
+    public void setUp() {
+        authoritiesConverter = new RealmRolesAuthoritiesConverter();
+        authenticationConverter = new JwtAuthenticationConverter();
+        authenticationConverter.setJwtGrantedAuthoritiesConverter(authoritiesConverter);
+        jwt = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("6f1c2a7e-0d5b-4c55-9a57-1f0f4b2d9e10")
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(300))
+                .claim("email", "john.doe@example.com")
+                .claim("realm_access", Map.of("roles", List.of("PARTICIPANT", "ADMIN", "offline_access", "uma_authorization")))
+                .build();
+    }
+
+    @Benchmark
+    public Collection<GrantedAuthority> realmRoleAuthorities() {
+        return authoritiesConverter.convert(jwt);
+    }
+
+    // The conversion SecurityConfig did inline before RealmRolesAuthoritiesConverter
+    @Benchmark
+    public Collection<GrantedAuthority> realmRoleAuthoritiesAllocatedPerRequest() {
+        var authorities = new ArrayList<GrantedAuthority>();
+        var realmAccess = (Map<String, Object>) jwt.getClaims().get("realm_access");
+        if (realmAccess != null) {
+            var roles = (Collection<String>) realmAccess.get("roles");
+            if (roles != null) {
+                roles.forEach(r -> authorities.add(new SimpleGrantedAuthority("ROLE_" + r)));
+            }
+        }
+        return authorities;
+    }
+
+    @Benchmark
+    public AbstractAuthenticationToken jwtAuthentication() {
+        return authenticationConverter.convert(jwt);
+    }
+}
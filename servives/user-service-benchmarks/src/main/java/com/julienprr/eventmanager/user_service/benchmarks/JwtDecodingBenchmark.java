@@ -0,0 +1,77 @@
+package com.julienprr.eventmanager.user_service.benchmarks;
+
+import com.julienprr.eventmanager.user_service.security.CachingJwtDecoder;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of decoding a Keycloak access token as configured in SecurityConfig: the
+ * Nimbus decoder verifying the RS256 signature and the claims every time, against
+ * {@link CachingJwtDecoder} answering for a token it has already verified.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtDecodingBenchmark {
+
+    private static final String ISSUER = "http://localhost:8090/realms/event-manager";
+
+    private NimbusJwtDecoder nimbusDecoder;
+    private CachingJwtDecoder cachingDecoder;
+    private String token;
+
+    @Setup
+    public void setUp() throws NoSuchAlgorithmException, JOSEException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        Instant now = Instant.now();
+        SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.RS256), new JWTClaimsSet.Builder()
+                .issuer(ISSUER)
+                .subject("6f1c2a7e-0d5b-4c55-9a57-1f0f4b2d9e10")
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plusSeconds(3_600)))
+                .claim("email", "john.doe@example.com")
+                .claim("realm_access", Map.of("roles", List.of("PARTICIPANT", "offline_access", "uma_authorization")))
+                .build());
+        jwt.sign(new RSASSASigner(keyPair.getPrivate()));
+        token = jwt.serialize();
+
+        nimbusDecoder = NimbusJwtDecoder.withPublicKey((RSAPublicKey) keyPair.getPublic()).build();
+        nimbusDecoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(ISSUER));
+        cachingDecoder = new CachingJwtDecoder(nimbusDecoder, 10_000, Clock.systemUTC());
+        cachingDecoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt verifiedEveryRequest() {
+        return nimbusDecoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt cachedAfterFirstRequest() {
+        return cachingDecoder.decode(token);
+    }
+}
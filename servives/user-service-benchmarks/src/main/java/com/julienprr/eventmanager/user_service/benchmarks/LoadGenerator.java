@@ -0,0 +1,134 @@
+package com.julienprr.eventmanager.user_service.benchmarks;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Closed-loop HTTP load generator: {@code concurrency} clients each send one request, wait for
+ * the answer and send the next, for {@code warmup + duration}. Prints one JSON line with the
+ * throughput and latency percentiles of the measured part.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.julienprr.eventmanager.user_service.benchmarks.LoadGenerator \
+ *     --url=http://localhost:8081/actuator/health --concurrency=1000 --duration=30s --label=virtual
+ * </pre>
+ *
+ * {@code --token=...} adds an {@code Authorization: Bearer} header for protected endpoints.
+ */
+public class LoadGenerator {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        URI url = URI.create(options.getOrDefault("url", "http://localhost:8081/actuator/health"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "500"));
+        Duration warmup = Duration.parse("PT" + options.getOrDefault("warmup", "10s").toUpperCase());
+        Duration duration = Duration.parse("PT" + options.getOrDefault("duration", "30s").toUpperCase());
+        String label = options.getOrDefault("label", "run");
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(url).timeout(Duration.ofSeconds(30)).GET();
+        if (options.containsKey("token")) {
+            builder.header("Authorization", "Bearer " + options.get("token"));
+        }
+        HttpRequest request = builder.build();
+
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        List<Future<Worker>> futures = new ArrayList<>(concurrency);
+        try (HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(clients.submit(() -> new Worker().run(client, request, measureFrom, end)));
+            }
+            long count = 0;
+            long errors = 0;
+            List<long[]> samples = new ArrayList<>(concurrency);
+            for (Future<Worker> future : futures) {
+                Worker worker = future.get();
+                count += worker.count;
+                errors += worker.errors;
+                samples.add(Arrays.copyOf(worker.latencies, worker.count));
+            }
+            long[] latencies = merge(samples, (int) count);
+
+            System.out.printf(java.util.Locale.ROOT,
+                    "{\"label\":\"%s\",\"url\":\"%s\",\"concurrency\":%d,\"requests\":%d,\"errors\":%d,"
+                            + "\"throughput\":%.1f,\"p50Ms\":%.2f,\"p99Ms\":%.2f,\"p999Ms\":%.2f,\"maxMs\":%.2f}%n",
+                    label, url, concurrency, count, errors, count / (duration.toNanos() / 1e9),
+                    percentile(latencies, 0.50), percentile(latencies, 0.99),
+                    percentile(latencies, 0.999), percentile(latencies, 1.0));
+        }
+    }
+
+    private static final class Worker {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        Worker run(HttpClient client, HttpRequest request, long measureFrom, long end) {
+            long now;
+            while ((now = System.nanoTime()) < end) {
+                boolean ok;
+                try {
+                    ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() < 400;
+                } catch (Exception e) {
+                    ok = false;
+                }
+                long elapsed = System.nanoTime() - now;
+                if (now < measureFrom) {
+                    continue;
+                }
+                if (!ok) {
+                    errors++;
+                }
+                if (count == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, count * 2);
+                }
+                latencies[count++] = elapsed;
+            }
+            return this;
+        }
+    }
+
+    private static long[] merge(List<long[]> samples, int size) {
+        long[] merged = new long[size];
+        int offset = 0;
+        for (long[] sample : samples) {
+            System.arraycopy(sample, 0, merged, offset, sample.length);
+            offset += sample.length;
+        }
+        Arrays.sort(merged);
+        return merged;
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            int eq = arg.indexOf('=');
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        return options;
+    }
+}
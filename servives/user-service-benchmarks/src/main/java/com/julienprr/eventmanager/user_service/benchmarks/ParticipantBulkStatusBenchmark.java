@@ -0,0 +1,115 @@
+package com.julienprr.eventmanager.user_service.benchmarks;
+
+import com.julienprr.eventmanager.user_service.config.ParticipantBulkStatusProperties;
+import com.julienprr.eventmanager.user_service.config.ParticipantCacheProperties;
+import com.julienprr.eventmanager.user_service.dto.participant.BulkChangeParticipantStatusReport;
+import com.julienprr.eventmanager.user_service.dto.participant.BulkChangeParticipantStatusRequest;
+import com.julienprr.eventmanager.user_service.model.ParticipantStatus;
+import com.julienprr.eventmanager.user_service.repository.ParticipantJdbcRepository;
+import com.julienprr.eventmanager.user_service.repository.ParticipantOutboxRepository;
+import com.julienprr.eventmanager.user_service.service.ParticipantBulkStatusService;
+import com.julienprr.eventmanager.user_service.service.ParticipantCache;
+import com.julienprr.eventmanager.user_service.service.SecondLevelCacheEvictor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One admin bulk status change over {@code participants} rows against a Testcontainers Postgres
+ * (Docker required), by id list and by filter, at two chunk sizes. Every operation flips all the
+ * rows between ACTIVE and SUSPENDED, so each one changes them all and writes their change feed
+ * entries.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParticipantBulkStatusBenchmark {
+
+    @Param({"50000"})
+    private int participants;
+
+    @Param({"100", "1000"})
+    private int chunkSize;
+
+    private PostgresFixture postgres;
+    private JdbcTemplate jdbcTemplate;
+    private ParticipantBulkStatusService service;
+    private List<Long> ids;
+    private ParticipantStatus current = ParticipantStatus.ACTIVE;
+
+    @Setup(Level.Trial)
+    public void startDatabase() throws Exception {
+        postgres = new PostgresFixture();
+        jdbcTemplate = new JdbcTemplate(postgres.dataSource());
+        jdbcTemplate.update("""
+                INSERT INTO participants (firstname, lastname, email, password, city, country, status,
+                                          created_at, updated_at, email_notifications_enabled, sms_notifications_enabled)
+                SELECT 'First' || n, 'Last' || n, 'participant' || n || '@example.com', 'hash', 'Lyon', 'France', 'ACTIVE',
+                       localtimestamp, localtimestamp, false, false
+                FROM generate_series(1, ?) AS n
+                """, participants);
+        jdbcTemplate.execute("ANALYZE participants");
+        ids = jdbcTemplate.queryForList("SELECT id FROM participants ORDER BY id", Long.class);
+        service = new ParticipantBulkStatusService(new ParticipantJdbcRepository(jdbcTemplate),
+                new ParticipantOutboxRepository(jdbcTemplate),
+                new ParticipantCache(new ParticipantCacheProperties(10_000L, Duration.ofMinutes(10)), new SimpleMeterRegistry()),
+                new TransactionTemplate(new DataSourceTransactionManager(postgres.dataSource())),
+                withoutSecondLevelCache(), new ParticipantBulkStatusProperties(chunkSize));
+    }
+
+    // The feed entries of the previous iteration would otherwise pile up
+    @Setup(Level.Iteration)
+    public void clearChangeFeed() {
+        jdbcTemplate.execute("TRUNCATE participant_outbox");
+    }
+
+    @TearDown(Level.Trial)
+    public void stopDatabase() {
+        postgres.close();
+    }
+
+    @Benchmark
+    public BulkChangeParticipantStatusReport byIds() {
+        return service.changeParticipantStatuses(BulkChangeParticipantStatusRequest.builder()
+                .status(flip())
+                .ids(ids)
+                .build());
+    }
+
+    @Benchmark
+    public BulkChangeParticipantStatusReport byFilter() {
+        ParticipantStatus from = current;
+        return service.changeParticipantStatuses(BulkChangeParticipantStatusRequest.builder()
+                .status(flip())
+                .currentStatus(from)
+                .country("France")
+                .build());
+    }
+
+    private ParticipantStatus flip() {
+        current = current == ParticipantStatus.ACTIVE ? ParticipantStatus.SUSPENDED : ParticipantStatus.ACTIVE;
+        return current;
+    }
+
+    // No entity manager here: the second-level cache has nothing to evict
+    private static SecondLevelCacheEvictor withoutSecondLevelCache() {
+        ClassLoader classLoader = ParticipantBulkStatusBenchmark.class.getClassLoader();
+        Cache cache = (Cache) Proxy.newProxyInstance(classLoader, new Class<?>[]{Cache.class},
+                (proxy, method, args) -> null);
+        EntityManagerFactory entityManagerFactory = (EntityManagerFactory) Proxy.newProxyInstance(classLoader,
+                new Class<?>[]{EntityManagerFactory.class}, (proxy, method, args) -> cache);
+        return new SecondLevelCacheEvictor(entityManagerFactory);
+    }
+}
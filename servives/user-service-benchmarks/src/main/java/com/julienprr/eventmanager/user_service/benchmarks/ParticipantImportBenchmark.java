@@ -0,0 +1,88 @@
+package com.julienprr.eventmanager.user_service.benchmarks;
+
+import com.julienprr.eventmanager.user_service.model.Participant;
+import com.julienprr.eventmanager.user_service.model.ParticipantStatus;
+import com.julienprr.eventmanager.user_service.repository.ParticipantJdbcRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Insert throughput of the bulk import against a Testcontainers Postgres (Docker required).
+ * <p>
+ * Each operation writes {@code rows} new participants, either with the single unnest-based
+ * statement used by the import or one INSERT per row as the signup endpoint does.
+ * Passwords are pre-hashed so only the database path is measured; rows/s is
+ * {@code rows * 1000 / score}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParticipantImportBenchmark {
+
+    private static final String INSERT_ONE = """
+            INSERT INTO participants (firstname, lastname, email, password, status,
+                                      created_at, updated_at, email_notifications_enabled, sms_notifications_enabled)
+            VALUES (?, ?, ?, ?, ?, ?, ?, false, false)
+            """;
+
+    @Param({"100", "1000", "5000"})
+    private int rows;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private PostgresFixture postgres;
+    private JdbcTemplate jdbcTemplate;
+    private ParticipantJdbcRepository participantJdbcRepository;
+
+    @Setup(Level.Trial)
+    public void startDatabase() throws Exception {
+        postgres = new PostgresFixture();
+        jdbcTemplate = new JdbcTemplate(postgres.dataSource());
+        participantJdbcRepository = new ParticipantJdbcRepository(jdbcTemplate);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopDatabase() {
+        postgres.close();
+    }
+
+    @Benchmark
+    public int batchedInsert() {
+        return participantJdbcRepository.insertIgnoringDuplicates(nextParticipants()).size();
+    }
+
+    @Benchmark
+    public int rowByRowInsert() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int inserted = 0;
+        for (Participant participant : nextParticipants()) {
+            inserted += jdbcTemplate.update(INSERT_ONE, participant.getFirstname(), participant.getLastname(),
+                    participant.getEmail(), participant.getPassword(), participant.getStatus().name(), now, now);
+        }
+        return inserted;
+    }
+
+    private List<Participant> nextParticipants() {
+        List<Participant> participants = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            long n = sequence.incrementAndGet();
+            participants.add(Participant.builder()
+                    .firstname("First" + n)
+                    .lastname("Last" + n)
+                    .email("participant" + n + "@example.com")
+                    .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z6Yb4ZbV0xLxL5YjGZ8F9H6e")
+                    .status(ParticipantStatus.ACTIVE)
+                    .build());
+        }
+        return participants;
+    }
+}
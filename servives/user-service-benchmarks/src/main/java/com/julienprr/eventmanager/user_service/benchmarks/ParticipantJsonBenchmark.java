@@ -0,0 +1,60 @@
+package com.julienprr.eventmanager.user_service.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.julienprr.eventmanager.user_service.dto.participant.AdminParticipantResponse;
+import com.julienprr.eventmanager.user_service.model.ParticipantStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of admin participant lists with an ObjectMapper built the way Spring Boot
+ * builds the one used by the controllers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParticipantJsonBenchmark {
+
+    @Param({"1", "50", "500"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<AdminParticipantResponse> participants;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        participants = new ArrayList<>(size);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < size; i++) {
+            participants.add(AdminParticipantResponse.builder()
+                    .firstname("First" + i)
+                    .lastname("Last" + i)
+                    .email("participant" + i + "@example.com")
+                    .avatarUrl("https://cdn.example.com/avatars/" + i + ".png")
+                    .bio("Enjoys jazz concerts and food festivals")
+                    .city("London")
+                    .country("United Kingdom")
+                    .emailNotificationsEnabled(true)
+                    .status(ParticipantStatus.ACTIVE)
+                    .createdAt(now.minusDays(i))
+                    .updatedAt(now)
+                    .lastLoginAt(now)
+                    .version(3L)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeAdminParticipants() throws Exception {
+        return objectMapper.writeValueAsBytes(participants);
+    }
+}
@@ -0,0 +1,93 @@
+package com.julienprr.eventmanager.user_service.benchmarks;
+
+import com.julienprr.eventmanager.user_service.dto.participant.AdminParticipantResponse;
+import com.julienprr.eventmanager.user_service.dto.participant.ParticipantProfileResponse;
+import com.julienprr.eventmanager.user_service.dto.participant.ParticipantPublicProfileResponse;
+import com.julienprr.eventmanager.user_service.dto.participant.ParticipantResponse;
+import com.julienprr.eventmanager.user_service.mapper.ParticipantMapper;
+import com.julienprr.eventmanager.user_service.model.Participant;
+import com.julienprr.eventmanager.user_service.model.ParticipantStatus;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of the hand-written {@link ParticipantMapper} against the reflective
+ * {@link ModelMapper} it replaced, for every participant response type.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParticipantMappingBenchmark {
+
+    private ModelMapper modelMapper;
+    private ParticipantMapper participantMapper;
+    private Participant participant;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        participantMapper = new ParticipantMapper();
+        participant = Participant.builder()
+                .id(7L)
+                .firstname("John")
+                .lastname("Doe")
+                .email("john.doe@example.com")
+                .password("$2a$10$hash")
+                .avatarUrl("https://cdn.example.com/john.png")
+                .bio("Jazz lover")
+                .city("London")
+                .country("United Kingdom")
+                .status(ParticipantStatus.ACTIVE)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .lastLoginAt(LocalDateTime.now())
+                .emailNotificationsEnabled(true)
+                .build();
+    }
+
+    @Benchmark
+    public ParticipantResponse modelMapperResponse() {
+        return modelMapper.map(participant, ParticipantResponse.class);
+    }
+
+    @Benchmark
+    public ParticipantResponse participantMapperResponse() {
+        return participantMapper.toResponse(participant);
+    }
+
+    @Benchmark
+    public AdminParticipantResponse modelMapperAdminResponse() {
+        return modelMapper.map(participant, AdminParticipantResponse.class);
+    }
+
+    @Benchmark
+    public AdminParticipantResponse participantMapperAdminResponse() {
+        return participantMapper.toAdminResponse(participant);
+    }
+
+    @Benchmark
+    public ParticipantProfileResponse modelMapperProfileResponse() {
+        return modelMapper.map(participant, ParticipantProfileResponse.class);
+    }
+
+    @Benchmark
+    public ParticipantProfileResponse participantMapperProfileResponse() {
+        return participantMapper.toProfileResponse(participant);
+    }
+
+    @Benchmark
+    public ParticipantPublicProfileResponse modelMapperPublicProfileResponse() {
+        return modelMapper.map(participant, ParticipantPublicProfileResponse.class);
+    }
+
+    @Benchmark
+    public ParticipantPublicProfileResponse participantMapperPublicProfileResponse() {
+        return participantMapper.toPublicProfileResponse(participant);
+    }
+}
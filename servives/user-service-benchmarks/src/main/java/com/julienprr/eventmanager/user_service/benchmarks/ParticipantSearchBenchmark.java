@@ -0,0 +1,93 @@
+package com.julienprr.eventmanager.user_service.benchmarks;
+
+import com.julienprr.eventmanager.user_service.model.Participant;
+import com.julienprr.eventmanager.user_service.repository.ParticipantJdbcRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of the participant search over {@code participants} rows in a Testcontainers Postgres
+ * (Docker required). The table is filled once per trial with generated names, cities and
+ * countries; the target is well under 50 ms per page at a million rows.
+ * <p>
+ * Queries cover an exact name, a typo, a prefix and a city shared by many participants. The
+ * {@code fullScan} variant ranks without the index, as a baseline.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParticipantSearchBenchmark {
+
+    private static final String FILL = """
+            INSERT INTO participants (firstname, lastname, email, password, status, city, country,
+                                      created_at, updated_at, email_notifications_enabled, sms_notifications_enabled)
+            SELECT (ARRAY['Julien','Marie','Thomas','Camille','Lucas','Chloe','Hugo','Emma','Louis','Lea',
+                          'Nathan','Manon','Arthur','Ines','Jules','Sarah','Adam','Lina','Paul','Zoe'])[1 + n % 20] || (n % 97),
+                   (ARRAY['Martin','Bernard','Dubois','Durand','Lefebvre','Moreau','Laurent','Simon','Michel','Garcia',
+                          'Fournier','Girard','Bonnet','Dupont','Lambert','Fontaine','Rousseau','Vincent','Muller','Faure'])[1 + n / 20 % 20]
+                       || (n % 89),
+                   'participant' || n || '@example.com',
+                   'x', 'ACTIVE',
+                   (ARRAY['Paris','Lyon','Marseille','Toulouse','Nice','Nantes','Strasbourg','Montpellier','Bordeaux','Lille',
+                          'Rennes','Reims','Brussels','Geneva','Montreal','Quebec','Dakar','Abidjan','Casablanca','Tunis'])[1 + n / 400 % 20],
+                   (ARRAY['France','Belgium','Switzerland','Canada','Senegal','Morocco','Tunisia'])[1 + n % 7],
+                   now(), now(), false, false
+            FROM generate_series(1, ?) AS n
+            """;
+
+    private static final String FULL_SCAN = """
+            SELECT id FROM participants
+            ORDER BY word_similarity(?, firstname || ' ' || lastname || ' ' || coalesce(city, '') || ' ' || coalesce(country, '')) DESC, id
+            LIMIT 20
+            """;
+
+    @Param({"1000000"})
+    private int participants;
+
+    @Param({"Julien42", "Jullien42", "Cami", "Montpellier"})
+    private String query;
+
+    private PostgresFixture postgres;
+    private JdbcTemplate jdbcTemplate;
+    private ParticipantJdbcRepository participantJdbcRepository;
+    private TransactionTemplate readOnly;
+
+    @Setup(Level.Trial)
+    public void fillDatabase() throws Exception {
+        postgres = new PostgresFixture();
+        jdbcTemplate = new JdbcTemplate(postgres.dataSource());
+        jdbcTemplate.update(FILL, participants);
+        jdbcTemplate.execute("ANALYZE participants");
+        participantJdbcRepository = new ParticipantJdbcRepository(jdbcTemplate);
+        readOnly = new TransactionTemplate(new DataSourceTransactionManager(postgres.dataSource()));
+        readOnly.setReadOnly(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopDatabase() {
+        postgres.close();
+    }
+
+    @Benchmark
+    public List<Participant> firstPage() {
+        return readOnly.execute(status -> participantJdbcRepository.search(query, 0.5, 21, 0));
+    }
+
+    @Benchmark
+    public List<Participant> fifthPage() {
+        return readOnly.execute(status -> participantJdbcRepository.search(query, 0.5, 21, 80));
+    }
+
+    @Benchmark
+    public List<Long> fullScan() {
+        return jdbcTemplate.queryForList(FULL_SCAN, Long.class, query);
+    }
+}
@@ -0,0 +1,49 @@
+package com.julienprr.eventmanager.user_service.benchmarks;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Throwaway Postgres for the database benchmarks, with the participants schema and the
+ * user-service schema.sql already applied.
+ */
+final class PostgresFixture implements AutoCloseable {
+
+    private final PostgreSQLContainer<?> container;
+    private final HikariDataSource dataSource;
+
+    PostgresFixture() throws SQLException {
+        container = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15"));
+        container.start();
+
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(container.getJdbcUrl());
+        config.setUsername(container.getUsername());
+        config.setPassword(container.getPassword());
+        config.setMaximumPoolSize(8);
+        dataSource = new HikariDataSource(config);
+
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("participants-schema.sql"));
+            // user-service's own startup script (search index), shipped in its jar
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("schema.sql"));
+        }
+    }
+
+    HikariDataSource dataSource() {
+        return dataSource;
+    }
+
+    @Override
+    public void close() {
+        dataSource.close();
+        container.stop();
+    }
+}
@@ -0,0 +1,30 @@
+-- Mirrors the participants table Hibernate creates for the Participant entity
+CREATE TABLE IF NOT EXISTS participants (
+    id                          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    firstname                   VARCHAR(255) NOT NULL,
+    lastname                    VARCHAR(255) NOT NULL,
+    email                       VARCHAR(255) NOT NULL UNIQUE,
+    password                    VARCHAR(255) NOT NULL,
+    avatar_url                  VARCHAR(255),
+    bio                         VARCHAR(255),
+    city                        VARCHAR(255),
+    country                     VARCHAR(255),
+    status                      VARCHAR(255) NOT NULL,
+    created_at                  TIMESTAMP(6),
+    updated_at                  TIMESTAMP(6),
+    last_login_at               TIMESTAMP(6),
+    email_notifications_enabled BOOLEAN NOT NULL,
+    sms_notifications_enabled   BOOLEAN NOT NULL,
+    version                     BIGINT DEFAULT 0 NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_participants_created_at_id ON participants (created_at, id);
+-- Mirrors the participant_outbox table Hibernate creates for the ParticipantOutboxEntry entity
+CREATE TABLE IF NOT EXISTS participant_outbox (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    participant_id      BIGINT       NOT NULL,
+    change_type         VARCHAR(255) NOT NULL,
+    participant_version BIGINT       NOT NULL,
+    status              VARCHAR(255) NOT NULL,
+    payload             TEXT         NOT NULL,
+    created_at          TIMESTAMP(6) NOT NULL
+);
@@ -0,0 +1,56 @@
+package com.julienprr.eventmanager.user_service.config;
+
+import com.julienprr.eventmanager.user_service.datasource.ConcurrencyLimitedDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Puts a {@link ConcurrencyLimitedDataSource} sized like the Hikari pool in front of it.
+ * Enabled by the virtual-threads profile, where the request thread count is no longer a
+ * natural bound on how many callers reach the pool.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceConcurrencyProperties.class)
+@ConditionalOnProperty(prefix = "datasource.concurrency-limit", name = "enabled", havingValue = "true")
+public class DataSourceConcurrencyConfig {
+
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(
+            ObjectProvider<DataSourceConcurrencyProperties> properties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ConcurrencyLimitingPostProcessor(properties, meterRegistry);
+    }
+
+    // Ordered ahead of the replica routing, which then sends its primary connections through the limiter
+    private record ConcurrencyLimitingPostProcessor(ObjectProvider<DataSourceConcurrencyProperties> properties,
+                                                    ObjectProvider<MeterRegistry> meterRegistry)
+            implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof HikariDataSource hikari)) {
+                return bean;
+            }
+            DataSourceConcurrencyProperties limits = properties.getObject();
+            ConcurrencyLimitedDataSource limited = new ConcurrencyLimitedDataSource(
+                    hikari, hikari.getMaximumPoolSize(), limits.maxWaiting(), limits.waitTimeout());
+            meterRegistry.ifAvailable(registry -> Gauge.builder("datasource.concurrency.waiting", limited, ConcurrencyLimitedDataSource::getWaiting)
+                    .description("Callers waiting for a database connection permit")
+                    .register(registry));
+            return limited;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
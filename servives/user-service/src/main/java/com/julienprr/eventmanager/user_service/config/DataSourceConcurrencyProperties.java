@@ -0,0 +1,25 @@
+package com.julienprr.eventmanager.user_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Admission control in front of the connection pool, used with virtual threads.
+ *
+ * @param enabled      whether connections are handed out through the limiter
+ * @param maxWaiting   callers allowed to wait for a connection before new ones are refused
+ * @param waitTimeout  how long a caller may wait for a connection
+ */
+@ConfigurationProperties(prefix = "datasource.concurrency-limit")
+public record DataSourceConcurrencyProperties(boolean enabled, Integer maxWaiting, Duration waitTimeout) {
+
+    public DataSourceConcurrencyProperties {
+        if (maxWaiting == null || maxWaiting < 0) {
+            maxWaiting = 500;
+        }
+        if (waitTimeout == null) {
+            waitTimeout = Duration.ofSeconds(5);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.julienprr.eventmanager.user_service.config;
+
+import com.julienprr.eventmanager.user_service.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the application data source with a {@link ReplicaRoutingDataSource} over the primary
+ * pool and one pool per replica URL. Schema initialization and every write keep going to the
+ * primary; only read-only transactions reach the replicas.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceReplicaProperties.class)
+@ConditionalOnProperty(prefix = "datasource.replicas", name = "enabled", havingValue = "true")
+public class DataSourceReplicaConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor replicaRoutingDataSourcePostProcessor(
+            ObjectProvider<DataSourceReplicaProperties> properties,
+            ObjectProvider<DataSourceProperties> primaryProperties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ReplicaRoutingPostProcessor(properties, primaryProperties, meterRegistry);
+    }
+
+    private record ReplicaRoutingPostProcessor(ObjectProvider<DataSourceReplicaProperties> properties,
+                                               ObjectProvider<DataSourceProperties> primaryProperties,
+                                               ObjectProvider<MeterRegistry> meterRegistry)
+            implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof DataSource primary)) {
+                return bean;
+            }
+            DataSourceReplicaProperties replicaProperties = properties.getObject();
+            DataSourceProperties primaryConnection = primaryProperties.getObject();
+            List<DataSource> replicas = new ArrayList<>(replicaProperties.urls().size());
+            for (int i = 0; i < replicaProperties.urls().size(); i++) {
+                HikariDataSource replica = new HikariDataSource();
+                replica.setPoolName("replica-" + (i + 1));
+                replica.setJdbcUrl(replicaProperties.urls().get(i));
+                replica.setUsername(replicaProperties.username() != null
+                        ? replicaProperties.username() : primaryConnection.determineUsername());
+                replica.setPassword(replicaProperties.password() != null
+                        ? replicaProperties.password() : primaryConnection.determinePassword());
+                replica.setMaximumPoolSize(replicaProperties.maximumPoolSize());
+                replica.setConnectionTimeout(replicaProperties.connectionTimeout().toMillis());
+                replica.setReadOnly(true);
+                // Lets the application start, and fall back to the primary, while a replica is down
+                replica.setInitializationFailTimeout(-1);
+                replicas.add(replica);
+            }
+            ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replicas, replicaProperties.retryAfter());
+            meterRegistry.ifAvailable(registry -> Gauge.builder("datasource.replicas.available", routing, ReplicaRoutingDataSource::getAvailableReplicas)
+                    .description("Replicas currently taking read-only transactions")
+                    .register(registry));
+            return routing;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.julienprr.eventmanager.user_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read replicas serving the read-only transactions.
+ *
+ * @param enabled           whether read-only transactions are routed to the replicas
+ * @param urls              JDBC URLs of the replicas
+ * @param username          replica user; the primary's when not set
+ * @param password          replica password; the primary's when not set
+ * @param maximumPoolSize   connections per replica
+ * @param connectionTimeout how long to wait for a replica connection before falling back to the primary
+ * @param retryAfter        how long a replica that failed to connect is left out
+ */
+@ConfigurationProperties(prefix = "datasource.replicas")
+public record DataSourceReplicaProperties(boolean enabled, List<String> urls, String username, String password,
+                                          Integer maximumPoolSize, Duration connectionTimeout, Duration retryAfter) {
+
+    public DataSourceReplicaProperties {
+        if (urls == null) {
+            urls = List.of();
+        }
+        if (maximumPoolSize == null || maximumPoolSize <= 0) {
+            maximumPoolSize = 10;
+        }
+        if (connectionTimeout == null) {
+            connectionTimeout = Duration.ofSeconds(1);
+        }
+        if (retryAfter == null) {
+            retryAfter = Duration.ofSeconds(10);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.julienprr.eventmanager.user_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Sizing of the in-memory filter of registered emails consulted before a signup is hashed.
+ *
+ * @param expectedParticipants participants the filter is sized for, at least; it is resized to
+ *                             twice the table size when loaded
+ * @param falsePositiveRate    share of new emails that still need a database check
+ */
+@ConfigurationProperties(prefix = "email-filter")
+public record EmailFilterProperties(Long expectedParticipants, Double falsePositiveRate) {
+
+    public EmailFilterProperties {
+        if (expectedParticipants == null || expectedParticipants <= 0) {
+            expectedParticipants = 1_000_000L;
+        }
+        if (falsePositiveRate == null || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            falsePositiveRate = 0.01;
+        }
+    }
+}
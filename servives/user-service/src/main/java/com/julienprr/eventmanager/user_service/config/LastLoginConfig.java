@@ -0,0 +1,25 @@
+package com.julienprr.eventmanager.user_service.config;
+
+import com.julienprr.eventmanager.user_service.repository.ParticipantJdbcRepository;
+import com.julienprr.eventmanager.user_service.service.LastLoginTracker;
+import com.julienprr.eventmanager.user_service.service.ParticipantCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+@EnableConfigurationProperties(LastLoginProperties.class)
+public class LastLoginConfig {
+
+    @Bean
+    public LastLoginTracker lastLoginTracker(ParticipantJdbcRepository participantJdbcRepository,
+                                             ParticipantCache participantCache,
+                                             LastLoginProperties properties,
+                                             MeterRegistry meterRegistry) {
+        return new LastLoginTracker(participantJdbcRepository, participantCache, properties.batchSize(),
+                Clock.systemDefaultZone()).monitor(meterRegistry);
+    }
+}
@@ -0,0 +1,24 @@
+package com.julienprr.eventmanager.user_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Last login tracking, written behind the requests that are authenticated.
+ *
+ * @param flushInterval pause between two writes of the pending times; also how far {@code last_login_at} may lag
+ * @param batchSize     participants updated per statement
+ */
+@ConfigurationProperties(prefix = "last-login")
+public record LastLoginProperties(Duration flushInterval, Integer batchSize) {
+
+    public LastLoginProperties {
+        if (flushInterval == null) {
+            flushInterval = Duration.ofSeconds(30);
+        }
+        if (batchSize == null || batchSize <= 0) {
+            batchSize = 1000;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.julienprr.eventmanager.user_service.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ParticipantBulkStatusProperties.class)
+public class ParticipantBulkStatusConfig {
+}
@@ -0,0 +1,18 @@
+package com.julienprr.eventmanager.user_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Tuning of the admin bulk status change.
+ *
+ * @param chunkSize participants changed by one UPDATE, each chunk committed on its own
+ */
+@ConfigurationProperties(prefix = "participant-bulk-status")
+public record ParticipantBulkStatusProperties(Integer chunkSize) {
+
+    public ParticipantBulkStatusProperties {
+        if (chunkSize == null || chunkSize <= 0) {
+            chunkSize = 1_000;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.julienprr.eventmanager.user_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Bounds of the in-process participant cache.
+ *
+ * @param maximumSize      participants kept in memory before the least used ones are evicted
+ * @param expireAfterWrite how long a cached participant is served before it is reloaded
+ */
+@ConfigurationProperties(prefix = "participant-cache")
+public record ParticipantCacheProperties(Long maximumSize, Duration expireAfterWrite) {
+
+    public ParticipantCacheProperties {
+        if (maximumSize == null || maximumSize < 0) {
+            maximumSize = 10_000L;
+        }
+        if (expireAfterWrite == null) {
+            expireAfterWrite = Duration.ofMinutes(10);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.julienprr.eventmanager.user_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Participant change feed, published from the outbox table.
+ *
+ * @param pollInterval pause between two outbox polls
+ * @param batchSize    outbox entries moved to the feed per statement
+ */
+@ConfigurationProperties(prefix = "participant-feed")
+public record ParticipantFeedProperties(Duration pollInterval, Integer batchSize) {
+
+    public ParticipantFeedProperties {
+        if (pollInterval == null) {
+            pollInterval = Duration.ofMillis(500);
+        }
+        if (batchSize == null || batchSize <= 0) {
+            batchSize = 500;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.julienprr.eventmanager.user_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Tuning of the admin bulk import.
+ *
+ * @param batchSize      rows hashed and inserted together, in one statement
+ * @param hashingThreads threads hashing imported passwords; kept apart from the signup pool
+ */
+@ConfigurationProperties(prefix = "participant-import")
+public record ParticipantImportProperties(Integer batchSize, Integer hashingThreads) {
+
+    public ParticipantImportProperties {
+        if (batchSize == null || batchSize <= 0) {
+            batchSize = 1_000;
+        }
+        if (hashingThreads == null || hashingThreads <= 0) {
+            hashingThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        }
+    }
+}
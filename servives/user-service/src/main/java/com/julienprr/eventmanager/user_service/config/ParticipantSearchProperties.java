@@ -0,0 +1,23 @@
+package com.julienprr.eventmanager.user_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Tuning of the participant search.
+ *
+ * @param minSimilarity trigram word similarity (0 to 1) a participant needs to be returned;
+ *                      lower values tolerate more typos
+ * @param maxResults    deepest result reachable through paging
+ */
+@ConfigurationProperties(prefix = "participant-search")
+public record ParticipantSearchProperties(Double minSimilarity, Integer maxResults) {
+
+    public ParticipantSearchProperties {
+        if (minSimilarity == null || minSimilarity <= 0 || minSimilarity > 1) {
+            minSimilarity = 0.5;
+        }
+        if (maxResults == null || maxResults <= 0) {
+            maxResults = 1_000;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.julienprr.eventmanager.user_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Sizing of the executor that runs BCrypt off the request threads.
+ *
+ * @param threads       hashing threads, defaults to the number of available processors
+ * @param queueCapacity hashes allowed to wait for a thread before signups are rejected
+ * @param retryAfter    value of the Retry-After header sent with a rejection
+ */
+@ConfigurationProperties(prefix = "password-hashing")
+public record PasswordHashingProperties(Integer threads, Integer queueCapacity, Duration retryAfter) {
+
+    public PasswordHashingProperties {
+        if (threads == null || threads <= 0) {
+            threads = Runtime.getRuntime().availableProcessors();
+        }
+        if (queueCapacity == null || queueCapacity < 0) {
+            queueCapacity = 100;
+        }
+        if (retryAfter == null) {
+            retryAfter = Duration.ofSeconds(1);
+        }
+    }
+}
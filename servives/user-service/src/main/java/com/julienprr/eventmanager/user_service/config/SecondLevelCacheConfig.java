@@ -0,0 +1,54 @@
+package com.julienprr.eventmanager.user_service.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.julienprr.eventmanager.user_service.model.Organizer;
+import com.julienprr.eventmanager.user_service.model.Participant;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Backs Hibernate's second-level cache with bounded Caffeine caches, one per region. Only the
+ * regions listed here exist: Hibernate is set to fail on any other, rather than create an
+ * unbounded one for an entity that was marked cacheable without being configured.
+ */
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+public class SecondLevelCacheConfig {
+
+    private static final URI CACHE_MANAGER_URI = URI.create("user-service:hibernate");
+
+    static final List<String> REGIONS = List.of(
+            Participant.CACHE_REGION, Participant.EMAIL_CACHE_REGION,
+            Organizer.CACHE_REGION, Organizer.EMAIL_CACHE_REGION);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(SecondLevelCacheProperties properties) {
+        CaffeineCachingProvider provider = (CaffeineCachingProvider) Caching.getCachingProvider(
+                CaffeineCachingProvider.class.getName());
+        // A manager of its own rather than the provider's shared default, as it is closed with the context
+        CacheManager cacheManager = provider.getCacheManager(CACHE_MANAGER_URI, getClass().getClassLoader());
+        for (String name : REGIONS) {
+            SecondLevelCacheProperties.Region region = properties.region(name);
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(region.maximumSize()));
+            configuration.setExpireAfterWrite(OptionalLong.of(region.expireAfterWrite().toNanos()));
+            cacheManager.createCache(name, configuration);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+}
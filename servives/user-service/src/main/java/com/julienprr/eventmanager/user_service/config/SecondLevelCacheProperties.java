@@ -0,0 +1,45 @@
+package com.julienprr.eventmanager.user_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Bounds of Hibernate's second-level cache regions.
+ *
+ * @param defaults bounds of every region, where not overridden
+ * @param regions  per-region overrides, by region name; unset bounds fall back to the defaults
+ */
+@ConfigurationProperties(prefix = "second-level-cache")
+public record SecondLevelCacheProperties(Region defaults, Map<String, Region> regions) {
+
+    public SecondLevelCacheProperties {
+        if (defaults == null) {
+            defaults = new Region(null, null);
+        }
+        defaults = new Region(
+                defaults.maximumSize() == null || defaults.maximumSize() < 0 ? 10_000L : defaults.maximumSize(),
+                defaults.expireAfterWrite() == null ? Duration.ofMinutes(10) : defaults.expireAfterWrite());
+        if (regions == null) {
+            regions = Map.of();
+        }
+    }
+
+    public Region region(String name) {
+        Region region = regions.get(name);
+        if (region == null) {
+            return defaults;
+        }
+        return new Region(
+                region.maximumSize() == null || region.maximumSize() < 0 ? defaults.maximumSize() : region.maximumSize(),
+                region.expireAfterWrite() == null ? defaults.expireAfterWrite() : region.expireAfterWrite());
+    }
+
+    /**
+     * @param maximumSize      entries kept before the least used ones are evicted
+     * @param expireAfterWrite how long an entry is served before it is read from the database again
+     */
+    public record Region(Long maximumSize, Duration expireAfterWrite) {
+    }
+}
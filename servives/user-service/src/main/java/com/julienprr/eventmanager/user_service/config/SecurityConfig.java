@@ -1,35 +1,40 @@
 package com.julienprr.eventmanager.user_service.config;
 
+import com.julienprr.eventmanager.user_service.security.CachingJwtDecoder;
+import com.julienprr.eventmanager.user_service.security.RealmRolesAuthoritiesConverter;
+import com.julienprr.eventmanager.user_service.service.LastLoginTracker;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.web.SecurityFilterChain;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Map;
+import java.time.Clock;
 
 @Configuration
 @EnableMethodSecurity
 public class SecurityConfig {
 
-    private static final String REALM_ROLES_CLAIM = "realm_access";
-    private static final String REALM_ROLES_KEY = "roles";
-
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, LastLoginTracker lastLoginTracker) throws Exception {
         http
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(
                                 "/api/participants/signup",
+                                "/api/organizers/verified",
                                 "/actuator/health",
                                 "/actuator/info",
                                 "/v3/api-docs/**",
@@ -40,29 +45,32 @@ public class SecurityConfig {
                         .anyRequest().authenticated()
                 )
                 .oauth2ResourceServer(oauth2 -> oauth2
-                        .jwt(jwt -> jwt.jwtAuthenticationConverter(jwtAuthConverter()))
+                        .jwt(jwt -> jwt.jwtAuthenticationConverter(jwtAuthConverter(lastLoginTracker)))
                 );
 
         return http.build();
     }
 
-    private JwtAuthenticationConverter jwtAuthConverter() {
-        var converter = new JwtAuthenticationConverter();
-        converter.setJwtGrantedAuthoritiesConverter(this::extractAuthoritiesFromJwt);
-        return converter;
+    @Bean
+    public JwtDecoder jwtDecoder(OAuth2ResourceServerProperties properties,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${security.jwt-cache.maximum-size:10000}") long cacheSize) {
+        var jwtProperties = properties.getJwt();
+        NimbusJwtDecoder nimbusJwtDecoder = NimbusJwtDecoder.withJwkSetUri(jwtProperties.getJwkSetUri()).build();
+        nimbusJwtDecoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(jwtProperties.getIssuerUri()));
+        return new CachingJwtDecoder(nimbusJwtDecoder, cacheSize, Clock.systemUTC()).monitor(meterRegistry);
     }
 
-    private Collection<GrantedAuthority> extractAuthoritiesFromJwt(Jwt jwt) {
-        var authorities = new ArrayList<GrantedAuthority>();
-
-        var realmAccess = (Map<String, Object>) jwt.getClaims().get(REALM_ROLES_CLAIM);
-        if (realmAccess != null) {
-            var roles = (Collection<String>) realmAccess.get(REALM_ROLES_KEY);
-            if (roles != null) {
-                roles.forEach(r -> authorities.add(new SimpleGrantedAuthority("ROLE_" + r)));
+    // Only runs for tokens the decoder accepted; service tokens carry no email and are not tracked
+    private Converter<Jwt, AbstractAuthenticationToken> jwtAuthConverter(LastLoginTracker lastLoginTracker) {
+        var converter = new JwtAuthenticationConverter();
+        converter.setJwtGrantedAuthoritiesConverter(new RealmRolesAuthoritiesConverter());
+        return jwt -> {
+            String email = jwt.getClaimAsString("email");
+            if (email != null) {
+                lastLoginTracker.record(email);
             }
-        }
-
-        return authorities;
+            return converter.convert(jwt);
+        };
     }
 }
@@ -0,0 +1,149 @@
+package com.julienprr.eventmanager.user_service.controller;
+
+import com.julienprr.eventmanager.user_service.dto.organizer.ChangeOrganizerVerificationRequest;
+import com.julienprr.eventmanager.user_service.dto.organizer.OrganizerDirectoryEntry;
+import com.julienprr.eventmanager.user_service.dto.organizer.OrganizerRequest;
+import com.julienprr.eventmanager.user_service.dto.organizer.OrganizerResponse;
+import com.julienprr.eventmanager.user_service.mapper.OrganizerMapper;
+import com.julienprr.eventmanager.user_service.service.IOrganizerService;
+import com.julienprr.eventmanager.user_service.service.OrganizerDirectory;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/organizers")
+@RequiredArgsConstructor
+@Tag(name = "Organizers", description = "Organizer directory and its management")
+public class OrganizerController {
+
+    // The same for every visitor, so shared caches may keep it; a minute bounds how stale it gets
+    private static final CacheControl DIRECTORY_CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic();
+
+    private final IOrganizerService organizerService;
+    private final OrganizerMapper organizerMapper;
+
+    @GetMapping("/verified")
+    @Operation(summary = "List verified organizers", description = "Returns the verified organizers by name, optionally in a given city and country (case-insensitive). Public, and served from memory. Supports If-None-Match: an unchanged listing is answered with 304 and no body.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Verified organizers retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Listing unchanged since the given ETag")
+    })
+    public ResponseEntity<List<OrganizerDirectoryEntry>> getVerifiedOrganizers(
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String country,
+            WebRequest webRequest
+    ) {
+        OrganizerDirectory.Listing listing = organizerService.getVerifiedOrganizers(city, country);
+        if (webRequest.checkNotModified(listing.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(DIRECTORY_CACHE_CONTROL).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(listing.etag())
+                .cacheControl(DIRECTORY_CACHE_CONTROL)
+                .body(listing.organizers());
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Create an organizer", description = "Creates an organizer, not verified yet. Accessible only by admins.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Organizer successfully created"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Access forbidden for non-admin participants"),
+            @ApiResponse(responseCode = "409", description = "Contact email already used by another organizer")
+    })
+    public OrganizerResponse createOrganizer(Authentication authentication, @Valid @RequestBody OrganizerRequest request) {
+        Jwt jwt = (Jwt) authentication.getPrincipal();
+        return organizerMapper.toResponse(organizerService.createOrganizer(request, jwt.getClaim("email")));
+    }
+
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get all organizers", description = "Returns every organizer, verified or not, by name. Accessible only by admins.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Organizers retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Access forbidden for non-admin participants")
+    })
+    public List<OrganizerResponse> getOrganizers() {
+        return organizerService.getOrganizers().stream()
+                .map(organizerMapper::toResponse)
+                .toList();
+    }
+
+    @GetMapping("/{organizerId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get organizer by ID", description = "Returns an organizer, verified or not. Accessible only by admins.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Organizer retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Access forbidden for non-admin participants"),
+            @ApiResponse(responseCode = "404", description = "Organizer not found")
+    })
+    public OrganizerResponse getOrganizerById(@PathVariable Long organizerId) {
+        return organizerMapper.toResponse(organizerService.getOrganizerById(organizerId));
+    }
+
+    @PutMapping("/{organizerId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Update an organizer", description = "Replaces the details of an organizer. Accessible only by admins.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Organizer updated successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Access forbidden for non-admin participants"),
+            @ApiResponse(responseCode = "404", description = "Organizer not found"),
+            @ApiResponse(responseCode = "409", description = "Contact email already used by another organizer")
+    })
+    public OrganizerResponse updateOrganizer(@PathVariable Long organizerId, @Valid @RequestBody OrganizerRequest request) {
+        return organizerMapper.toResponse(organizerService.updateOrganizer(organizerId, request));
+    }
+
+    @PatchMapping("/{organizerId}/verification")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Verify or unverify an organizer", description = "Only verified organizers are listed in the public directory. Accessible only by admins.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Verification changed successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Access forbidden for non-admin participants"),
+            @ApiResponse(responseCode = "404", description = "Organizer not found")
+    })
+    public OrganizerResponse changeOrganizerVerification(
+            @PathVariable Long organizerId,
+            @Valid @RequestBody ChangeOrganizerVerificationRequest request
+    ) {
+        return organizerMapper.toResponse(organizerService.changeOrganizerVerification(organizerId, request.getVerified()));
+    }
+
+    @DeleteMapping("/{organizerId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Delete an organizer", description = "Deletes an organizer and removes it from the directory. Accessible only by admins.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Organizer deleted successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Access forbidden for non-admin participants"),
+            @ApiResponse(responseCode = "404", description = "Organizer not found")
+    })
+    public void deleteOrganizer(@PathVariable Long organizerId) {
+        organizerService.deleteOrganizer(organizerId);
+    }
+}
@@ -0,0 +1,85 @@
+package com.julienprr.eventmanager.user_service.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.julienprr.eventmanager.user_service.dto.participant.ParticipantChangePageResponse;
+import com.julienprr.eventmanager.user_service.dto.participant.ParticipantChangeResponse;
+import com.julienprr.eventmanager.user_service.feed.ParticipantChangeFeed;
+import com.julienprr.eventmanager.user_service.service.IParticipantService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/participants/changes")
+@RequiredArgsConstructor
+@Tag(name = "Participant changes", description = "Ordered feed of participant changes for services keeping a local copy")
+public class ParticipantChangeController {
+
+    static final String FEED_OFFSET_HEADER = "X-Feed-Offset";
+    private static final int MAX_CHANGES = 1_000;
+
+    private final ParticipantChangeFeed feed;
+    private final IParticipantService participantService;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Read participant changes", description = "Returns the changes recorded after the given offset, oldest first, up to " + MAX_CHANGES + " at a time. Pass the returned lastOffset as after to continue. The same change may be delivered twice: ignore versions already applied.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Changes after the offset, possibly none"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ParticipantChangePageResponse getChanges(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "500") int limit
+    ) {
+        List<ParticipantChangeResponse> changes = feed.read(after, Math.min(limit, MAX_CHANGES));
+        long lastOffset = changes.isEmpty() ? Math.max(after, 0) : changes.getLast().getOffset();
+        return new ParticipantChangePageResponse(changes, lastOffset);
+    }
+
+    @GetMapping(value = "/snapshot", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Snapshot of every participant", description = "Streams the current public data of every participant as newline-delimited JSON. The " + FEED_OFFSET_HEADER + " header gives the feed offset to read changes from afterwards; changes after it may already be in the snapshot and are recognized by their version.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Snapshot streamed"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<StreamingResponseBody> getSnapshot() {
+        // Taken before reading: whatever is published meanwhile is replayed on top of the snapshot
+        long offset = feed.lastOffset();
+        StreamingResponseBody body = outputStream -> {
+            try (SequenceWriter writer = objectMapper.writerFor(ParticipantChangeResponse.class)
+                    .withRootValueSeparator("\n")
+                    .writeValues(outputStream)) {
+                participantService.streamPublicProfiles(change -> {
+                    change.setOffset(offset);
+                    try {
+                        writer.write(change);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok()
+                .header(FEED_OFFSET_HEADER, Long.toString(offset))
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
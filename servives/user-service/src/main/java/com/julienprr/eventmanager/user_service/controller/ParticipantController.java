@@ -1,22 +1,49 @@
 package com.julienprr.eventmanager.user_service.controller;
 
 import com.julienprr.eventmanager.user_service.dto.participant.*;
+import com.julienprr.eventmanager.user_service.mapper.ParticipantMapper;
 import com.julienprr.eventmanager.user_service.model.Participant;
+import com.julienprr.eventmanager.user_service.model.ParticipantStatus;
+import com.julienprr.eventmanager.user_service.repository.ParticipantProfileView;
+import com.julienprr.eventmanager.user_service.repository.ParticipantPublicProfileView;
+import com.julienprr.eventmanager.user_service.repository.ParticipantVersion;
+import com.julienprr.eventmanager.user_service.service.IParticipantBulkStatusService;
+import com.julienprr.eventmanager.user_service.service.IParticipantExportService;
+import com.julienprr.eventmanager.user_service.service.IParticipantImportService;
 import com.julienprr.eventmanager.user_service.service.IParticipantService;
+import com.julienprr.eventmanager.user_service.service.ParticipantCursor;
+import com.julienprr.eventmanager.user_service.service.ParticipantExportFormat;
+import com.julienprr.eventmanager.user_service.service.ParticipantImportFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/participants")
@@ -24,34 +51,139 @@ import java.util.List;
 @Tag(name = "Participants", description = "Operations related to participant management")
 public class ParticipantController {
 
+    // Clients may keep profiles but must revalidate them, which costs a 304 when nothing changed
+    private static final CacheControl PROFILE_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final IParticipantService participantService;
-    private final ModelMapper modelMapper;
+    private final IParticipantImportService participantImportService;
+    private final IParticipantExportService participantExportService;
+    private final IParticipantBulkStatusService participantBulkStatusService;
+    private final ParticipantMapper participantMapper;
 
     @PostMapping("/signup")
     @ResponseStatus(HttpStatus.CREATED)
     @Operation(summary = "Register a new participant", description = "Creates a new participant in the system")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "Participant successfully created"),
-            @ApiResponse(responseCode = "400", description = "Invalid input data")
+            @ApiResponse(responseCode = "400", description = "Invalid input data"),
+            @ApiResponse(responseCode = "503", description = "Too many signups in progress, retry after the Retry-After delay")
     })
-    public ParticipantResponse signup(@Valid @RequestBody ParticipantSignupRequest request) {
-        Participant participant = participantService.createParticipant(request);
-        return modelMapper.map(participant, ParticipantResponse.class);
+    public CompletableFuture<ParticipantResponse> signup(@Valid @RequestBody ParticipantSignupRequest request) {
+        return participantService.createParticipant(request)
+                .thenApply(participantMapper::toResponse);
+    }
+
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Bulk import participants", description = "Creates participants from an NDJSON file of signup requests, or from a CSV file with a firstname,lastname,email,password header. Returns the rows that were rejected or whose email was already in use. Accessible only by admins.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Import finished, see the report for rejected and duplicate rows"),
+            @ApiResponse(responseCode = "400", description = "Unreadable file"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Access forbidden for non-admin participants")
+    })
+    public ParticipantImportReport importParticipants(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body
+    ) {
+        ParticipantImportFormat format = MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)
+                ? ParticipantImportFormat.NDJSON
+                : ParticipantImportFormat.CSV;
+        return participantImportService.importParticipants(body, format);
     }
 
     @GetMapping("/all")
     @PreAuthorize("hasRole('ADMIN')")
-    @Operation(summary = "Get all participants", description = "Returns a list of all participants. Accessible only by admins.")
+    @Operation(summary = "Get all participants", description = "Returns one page of participants ordered by creation date, optionally filtered by status and country. Pass the returned nextCursor to get the following page. Accessible only by admins.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page of participants retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Access forbidden for non-admin participants")
+    })
+    public ParticipantPageResponse getParticipants(
+            @RequestParam(required = false) ParticipantStatus status,
+            @RequestParam(required = false) String country,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        Window<Participant> window = participantService.getParticipants(status, country, cursor, size);
+        List<ParticipantResponse> items = window.stream()
+                .map(participantMapper::toResponse)
+                .toList();
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? ParticipantCursor.encode(window.positionAt(window.size() - 1))
+                : null;
+        return new ParticipantPageResponse(items, nextCursor);
+    }
+
+    @GetMapping(value = "/all/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Stream all participants", description = "Streams every participant matching the filters as newline-delimited JSON, in creation order, straight from a database cursor. Rows are the same as in an NDJSON export. Accessible only by admins.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Participants streamed successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Access forbidden for non-admin participants")
+    })
+    public ResponseEntity<StreamingResponseBody> streamParticipants(
+            @RequestParam(required = false) ParticipantStatus status,
+            @RequestParam(required = false) String country
+    ) {
+        StreamingResponseBody body = outputStream -> participantExportService.exportParticipants(
+                status, country, null, null, ParticipantExportFormat.NDJSON, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Export participants", description = "Streams every participant matching the filters as an NDJSON or CSV file, oldest first, straight from a database cursor. createdFrom is inclusive and createdTo exclusive. With gzip=true the file is gzip-compressed. Accessible only by admins.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Export streamed"),
+            @ApiResponse(responseCode = "400", description = "Unknown format or status, or unreadable date"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Access forbidden for non-admin participants")
+    })
+    public ResponseEntity<StreamingResponseBody> exportParticipants(
+            @RequestParam(defaultValue = "NDJSON") ParticipantExportFormat format,
+            @RequestParam(required = false) ParticipantStatus status,
+            @RequestParam(required = false) String country,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        String filename = "participants." + format.extension() + (gzip ? ".gz" : "");
+        StreamingResponseBody body = outputStream -> {
+            // Closing the export finishes the gzip stream
+            OutputStream output = gzip ? new GZIPOutputStream(outputStream, 64 * 1024) : outputStream;
+            participantExportService.exportParticipants(status, country, createdFrom, createdTo, format, output);
+        };
+        return ResponseEntity.ok()
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Search participants", description = "Finds participants whose first name, last name, city or country resembles the query, tolerating typos and matching word prefixes. Results are ranked best match first and paginated. Accessible only by admins.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "List of participants retrieved successfully"),
+            @ApiResponse(responseCode = "200", description = "Page of matching participants"),
+            @ApiResponse(responseCode = "400", description = "Query too short or too long"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "403", description = "Access forbidden for non-admin participants")
     })
-    public List<ParticipantResponse> getParticipants() {
-        List<Participant> participantList = participantService.getAllParticipants();
-        return participantList.stream()
-                .map(participant -> modelMapper.map(participant, ParticipantResponse.class))
+    public ParticipantSearchResponse searchParticipants(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Slice<Participant> results = participantService.searchParticipants(q, page, size);
+        List<ParticipantResponse> items = results.stream()
+                .map(participantMapper::toResponse)
                 .toList();
+        return new ParticipantSearchResponse(items, results.getNumber(), results.getSize(), results.hasNext());
     }
 
     @GetMapping("/{participantId}")
@@ -65,7 +197,7 @@ public class ParticipantController {
     })
     public AdminParticipantResponse getParticipantById(@PathVariable Long participantId) {
         Participant participant = participantService.getParticipantById(participantId);
-        return modelMapper.map(participant, AdminParticipantResponse.class);
+        return participantMapper.toAdminResponse(participant);
     }
 
     @GetMapping("/by-email")
@@ -79,36 +211,67 @@ public class ParticipantController {
     })
     public ParticipantResponse getParticipantByEmail(@RequestParam String email) {
         Participant participant = participantService.getParticipantByEmail(email);
-        return modelMapper.map(participant, ParticipantResponse.class);
+        return participantMapper.toResponse(participant);
     }
 
     @GetMapping("/me/profile")
     @PreAuthorize("isAuthenticated()")
-    @Operation(summary = "Get own profile", description = "Returns the currently authenticated participant's profile.")
+    @Operation(summary = "Get own profile", description = "Returns the currently authenticated participant's profile. Supports If-None-Match and If-Modified-Since: an unchanged profile is answered with 304 and no body.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Participant profile retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Profile unchanged since the given ETag or date"),
             @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
-    public ParticipantProfileResponse getOwnProfile(Authentication authentication) {
+    public ResponseEntity<ParticipantProfileResponse> getOwnProfile(Authentication authentication, WebRequest webRequest) {
         Jwt jwt = (Jwt) authentication.getPrincipal();
         String email = jwt.getClaim("email");
-        Participant participant = participantService.getParticipantByEmail(email);
-        return modelMapper.map(participant, ParticipantProfileResponse.class);
+        ParticipantVersion version = participantService.getParticipantVersionByEmail(email);
+        if (webRequest.checkNotModified(version.etag(), version.lastModified())) {
+            return notModified();
+        }
+        ParticipantProfileView profile = participantService.getProfileByEmail(email, version.version());
+        return conditional(profile.participantVersion(), participantMapper.toProfileResponse(profile));
     }
 
     @GetMapping("/{participantId}/public")
     @PreAuthorize("isAuthenticated()")
-    @Operation(summary = "Get public profile of a participant", description = "Returns public profile information of a participant by their ID. Accessible by authenticated participants.")
+    @Operation(summary = "Get public profile of a participant", description = "Returns public profile information of a participant by their ID. Accessible by authenticated participants. Supports If-None-Match and If-Modified-Since: an unchanged profile is answered with 304 and no body.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Participant public profile retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Profile unchanged since the given ETag or date"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "404", description = "Participant not found")
     })
-    public ParticipantPublicProfileResponse getParticipantPublicProfile(@PathVariable Long participantId) {
-        Participant participant = participantService.getParticipantById(participantId);
-        return modelMapper.map(participant, ParticipantPublicProfileResponse.class);
+    public ResponseEntity<ParticipantPublicProfileResponse> getParticipantPublicProfile(@PathVariable Long participantId,
+                                                                                        WebRequest webRequest) {
+        ParticipantVersion version = participantService.getParticipantVersionById(participantId);
+        if (webRequest.checkNotModified(version.etag(), version.lastModified())) {
+            return notModified();
+        }
+        ParticipantPublicProfileView profile = participantService.getPublicProfileById(participantId, version.version());
+        return conditional(profile.participantVersion(), participantMapper.toPublicProfileResponse(profile));
     }
 
+    @PostMapping("/public/lookup")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Get public profiles of several participants", description = "Returns the public profiles of up to " + ParticipantLookupRequest.MAX_IDS + " participants in one call, keyed by id, and lists the ids that match no participant. Meant for other services rendering lists of participants.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Public profiles retrieved, see missingIds for unknown ids"),
+            @ApiResponse(responseCode = "400", description = "No ids or too many ids"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ParticipantPublicProfileBatchResponse getParticipantPublicProfiles(
+            @Valid @RequestBody ParticipantLookupRequest request
+    ) {
+        List<Long> ids = request.getIds().stream().distinct().toList();
+        Map<Long, ParticipantPublicProfileView> found = participantService.getPublicProfilesByIds(ids);
+        Map<Long, ParticipantPublicProfileResponse> profiles = new LinkedHashMap<>();
+        found.forEach((id, profile) -> profiles.put(id, participantMapper.toPublicProfileResponse(profile)));
+        List<Long> missingIds = ids.stream()
+                .filter(id -> !found.containsKey(id))
+                .toList();
+        return new ParticipantPublicProfileBatchResponse(profiles, missingIds);
+    }
 
     @PutMapping("/{participantId}/profile")
     @PreAuthorize("hasRole('ADMIN')")
@@ -118,14 +281,18 @@ public class ParticipantController {
             @ApiResponse(responseCode = "400", description = "Invalid input data"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "403", description = "Access forbidden for non-admin participants"),
-            @ApiResponse(responseCode = "404", description = "Participant not found")
+            @ApiResponse(responseCode = "404", description = "Participant not found"),
+            @ApiResponse(responseCode = "409", description = "Participant changed since the given version"),
+            @ApiResponse(responseCode = "428", description = "Neither a version nor an If-Match header given")
     })
     public AdminParticipantResponse updateParticipantProfile(
             @PathVariable Long participantId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateParticipantProfileRequest request
     ) {
+        request.setVersion(expectedVersion(request.getVersion(), ifMatch));
         Participant updatedParticipant = participantService.updateParticipantProfile(participantId, request);
-        return modelMapper.map(updatedParticipant, AdminParticipantResponse.class);
+        return participantMapper.toAdminResponse(updatedParticipant);
     }
 
     @PutMapping("/me/profile")
@@ -134,16 +301,20 @@ public class ParticipantController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Participant profile updated successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid input data"),
-            @ApiResponse(responseCode = "401", description = "Unauthorized")
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "409", description = "Participant changed since the given version"),
+            @ApiResponse(responseCode = "428", description = "Neither a version nor an If-Match header given")
     })
     public ParticipantProfileResponse updateOwnProfile(
             Authentication authentication,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateParticipantProfileRequest request
     ) {
+        request.setVersion(expectedVersion(request.getVersion(), ifMatch));
         Jwt jwt = (Jwt) authentication.getPrincipal();
         String email = jwt.getClaim("email");
         Participant updatedParticipant = participantService.updateParticipantProfileByEmail(email, request);
-        return modelMapper.map(updatedParticipant, ParticipantProfileResponse.class);
+        return participantMapper.toProfileResponse(updatedParticipant);
     }
 
     @PatchMapping("/{participantId}/notification")
@@ -154,14 +325,18 @@ public class ParticipantController {
             @ApiResponse(responseCode = "400", description = "Invalid input data"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "403", description = "Access forbidden for non-admin participants"),
-            @ApiResponse(responseCode = "404", description = "Participant not found")
+            @ApiResponse(responseCode = "404", description = "Participant not found"),
+            @ApiResponse(responseCode = "409", description = "Participant changed since the given version"),
+            @ApiResponse(responseCode = "428", description = "Neither a version nor an If-Match header given")
     })
     public AdminParticipantResponse updateNotificationSettings(
             @PathVariable Long participantId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateNotificationSettingsRequest request
     ) {
+        request.setVersion(expectedVersion(request.getVersion(), ifMatch));
         Participant updatedParticipant = participantService.updateNotificationSettings(participantId, request);
-        return modelMapper.map(updatedParticipant, AdminParticipantResponse.class);
+        return participantMapper.toAdminResponse(updatedParticipant);
     }
 
     @PatchMapping("/me/notification")
@@ -170,16 +345,20 @@ public class ParticipantController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Notification settings updated successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid input data"),
-            @ApiResponse(responseCode = "401", description = "Unauthorized")
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "409", description = "Participant changed since the given version"),
+            @ApiResponse(responseCode = "428", description = "Neither a version nor an If-Match header given")
     })
     public ParticipantProfileResponse updateOwnNotificationSettings(
             Authentication authentication,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateNotificationSettingsRequest request
     ) {
+        request.setVersion(expectedVersion(request.getVersion(), ifMatch));
         Jwt jwt = (Jwt) authentication.getPrincipal();
         String email = jwt.getClaim("email");
         Participant updatedParticipant = participantService.updateNotificationSettingsByEmail(email, request);
-        return modelMapper.map(updatedParticipant, ParticipantProfileResponse.class);
+        return participantMapper.toProfileResponse(updatedParticipant);
     }
 
     @PatchMapping("/{participantId}/status")
@@ -190,13 +369,64 @@ public class ParticipantController {
             @ApiResponse(responseCode = "400", description = "Invalid input data"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "403", description = "Access forbidden for non-admin participants"),
-            @ApiResponse(responseCode = "404", description = "Participant not found")
+            @ApiResponse(responseCode = "404", description = "Participant not found"),
+            @ApiResponse(responseCode = "409", description = "Participant changed since the given version"),
+            @ApiResponse(responseCode = "428", description = "Neither a version nor an If-Match header given")
     })
     public AdminParticipantResponse changeParticipantStatus(
             @PathVariable Long participantId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody ChangeParticipantStatusRequest request
     ) {
+        request.setVersion(expectedVersion(request.getVersion(), ifMatch));
         Participant updatedParticipant = participantService.changeParticipantStatus(participantId, request);
-        return modelMapper.map(updatedParticipant, AdminParticipantResponse.class);
+        return participantMapper.toAdminResponse(updatedParticipant);
+    }
+
+    @PatchMapping("/status")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Change the status of many participants", description = "Applies a status to a list of participant IDs, or to every participant matching a filter, in chunks. Accessible only by admins.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Statuses changed; the report gives the affected, unchanged and missing counts"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data, or neither IDs nor a filter given"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Access forbidden for non-admin participants")
+    })
+    public BulkChangeParticipantStatusReport changeParticipantStatuses(
+            @Valid @RequestBody BulkChangeParticipantStatusRequest request
+    ) {
+        return participantBulkStatusService.changeParticipantStatuses(request);
+    }
+
+    // The version in the body wins, else the one from If-Match, which holds the ETag of a profile GET
+    private static Long expectedVersion(Long version, String ifMatch) {
+        if (version != null || ifMatch == null) {
+            return version;
+        }
+        String etag = ifMatch.strip();
+        if (etag.length() < 2 || !etag.startsWith("\"") || !etag.endsWith("\"")) {
+            return null;
+        }
+        try {
+            return Long.valueOf(etag.substring(1, etag.length() - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // checkNotModified has already set the status and the validators on the response
+    private static <T> ResponseEntity<T> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(PROFILE_CACHE_CONTROL).build();
+    }
+
+    // Validators of the profile actually returned, which may be newer than the ones just checked
+    private static <T> ResponseEntity<T> conditional(ParticipantVersion version, T body) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(version.etag())
+                .cacheControl(PROFILE_CACHE_CONTROL);
+        if (version.lastModified() >= 0) {
+            response.lastModified(version.lastModified());
+        }
+        return response.body(body);
     }
 }
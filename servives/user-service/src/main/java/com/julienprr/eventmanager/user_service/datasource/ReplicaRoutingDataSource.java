@@ -0,0 +1,164 @@
+package com.julienprr.eventmanager.user_service.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends the connections of read-only transactions to replicas, everything else to the primary.
+ * <p>
+ * Connections are only fetched on the first statement, once the transaction has marked them
+ * read-only, which is what lets {@code @Transactional(readOnly = true)} pick the replica.
+ * Replicas take turns; one that fails to hand out a connection is skipped for
+ * {@code retryAfter}, and reads go to the primary while none is available. A request that
+ * used the primary outside a read-only transaction keeps reading from it, so it sees its own
+ * writes even while the replicas lag behind.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private static final String PRIMARY_PINNED = ReplicaRoutingDataSource.class.getName() + ".PRIMARY_PINNED";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long retryAfterNanos;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration retryAfter) {
+        super(new PinningDataSource(primary));
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.retryAfterNanos = retryAfter.toNanos();
+        setReadOnlyDataSource(new ReplicaDataSource());
+    }
+
+    public int getAvailableReplicas() {
+        long now = System.nanoTime();
+        return (int) replicas.stream().filter(replica -> replica.isAvailable(now)).count();
+    }
+
+    // Same as the inherited check, but reading the defaults must not pin the current request
+    @Override
+    public void checkDefaultConnectionProperties() {
+        if (defaultAutoCommit() != null && defaultTransactionIsolation() != null) {
+            return;
+        }
+        try (Connection connection = primary.getConnection()) {
+            checkDefaultConnectionProperties(connection);
+        } catch (SQLException e) {
+            log.debug("Could not read the default auto-commit and isolation of the primary", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            closeQuietly(replica.dataSource);
+        }
+        closeQuietly(primary);
+    }
+
+    private Connection replicaConnection(String username, String password) throws SQLException {
+        if (!isPrimaryPinned()) {
+            long now = System.nanoTime();
+            for (int attempt = 0; attempt < replicas.size(); attempt++) {
+                Replica replica = replicas.get(Math.floorMod(nextReplica.getAndIncrement(), replicas.size()));
+                if (!replica.isAvailable(now)) {
+                    continue;
+                }
+                try {
+                    return username == null
+                            ? replica.dataSource.getConnection()
+                            : replica.dataSource.getConnection(username, password);
+                } catch (SQLException e) {
+                    replica.downUntil = System.nanoTime() + retryAfterNanos;
+                    log.warn("Replica unavailable, reading from the other replicas or the primary for {} ms",
+                            Duration.ofNanos(retryAfterNanos).toMillis(), e);
+                }
+            }
+        }
+        return username == null ? primary.getConnection() : primary.getConnection(username, password);
+    }
+
+    private static boolean isPrimaryPinned() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        return request != null && request.getAttribute(PRIMARY_PINNED, RequestAttributes.SCOPE_REQUEST) != null;
+    }
+
+    private static void pinPrimary() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            request.setAttribute(PRIMARY_PINNED, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    // Reaches the pool through wrappers such as ConcurrencyLimitedDataSource
+    private static void closeQuietly(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(AutoCloseable.class)) {
+                dataSource.unwrap(AutoCloseable.class).close();
+            }
+        } catch (Exception e) {
+            log.warn("Could not close data source {}", dataSource, e);
+        }
+    }
+
+    private static final class Replica {
+
+        private final DataSource dataSource;
+        private volatile long downUntil;
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+            this.downUntil = System.nanoTime();
+        }
+
+        private boolean isAvailable(long now) {
+            return now - downUntil >= 0;
+        }
+    }
+
+    // Target of connections that were not read-only when first used, i.e. possible writes
+    private static final class PinningDataSource extends DelegatingDataSource {
+
+        private PinningDataSource(DataSource primary) {
+            super(primary);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            pinPrimary();
+            return super.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            pinPrimary();
+            return super.getConnection(username, password);
+        }
+    }
+
+    private final class ReplicaDataSource extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return replicaConnection(null, null);
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return replicaConnection(username, password);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.julienprr.eventmanager.user_service.dto.organizer;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ChangeOrganizerVerificationRequest {
+
+    @NotNull
+    private Boolean verified;
+}
@@ -0,0 +1,17 @@
+package com.julienprr.eventmanager.user_service.dto.organizer;
+
+/**
+ * Public view of a verified organizer, as listed in the directory. Immutable, so that directory
+ * snapshots can share entries between them and with the responses.
+ */
+public record OrganizerDirectoryEntry(
+        Long id,
+        String name,
+        String description,
+        String website,
+        String city,
+        String country,
+        String logoUrl,
+        String bannerUrl
+) {
+}
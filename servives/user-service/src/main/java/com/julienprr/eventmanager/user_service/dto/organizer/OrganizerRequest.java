@@ -0,0 +1,46 @@
+package com.julienprr.eventmanager.user_service.dto.organizer;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class OrganizerRequest {
+
+    @NotBlank
+    @Size(max = 100)
+    private String name;
+
+    @Size(max = 255)
+    private String description;
+
+    @NotBlank
+    @Email
+    @Size(max = 255)
+    private String emailContact;
+
+    @Size(max = 30)
+    private String phoneContact;
+
+    @Size(max = 255)
+    private String website;
+
+    @Size(max = 255)
+    private String address;
+
+    @Size(max = 100)
+    private String city;
+
+    @Size(max = 100)
+    private String country;
+
+    @Size(max = 255)
+    private String logoUrl;
+
+    @Size(max = 255)
+    private String bannerUrl;
+}
@@ -0,0 +1,28 @@
+package com.julienprr.eventmanager.user_service.dto.organizer;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrganizerResponse {
+    private Long id;
+    private String name;
+    private String description;
+    private String emailContact;
+    private String phoneContact;
+    private String website;
+    private String address;
+    private String city;
+    private String country;
+    private String logoUrl;
+    private String bannerUrl;
+    private boolean verified;
+    private String createdBy;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
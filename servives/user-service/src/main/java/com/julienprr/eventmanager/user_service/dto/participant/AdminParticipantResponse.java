@@ -27,4 +27,7 @@ public class AdminParticipantResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private LocalDateTime lastLoginAt;
+
+    // Send back with an update to reject it if the participant changed in the meantime
+    private Long version;
 }
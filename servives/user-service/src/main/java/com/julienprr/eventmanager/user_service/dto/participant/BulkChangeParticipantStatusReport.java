@@ -0,0 +1,18 @@
+package com.julienprr.eventmanager.user_service.dto.participant;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkChangeParticipantStatusReport {
+
+    // Participants whose status was changed
+    private long affectedCount;
+
+    // Only counted for a list of ids: participants that already had the status, and unknown ids
+    private long unchangedCount;
+    private long missingCount;
+}
@@ -0,0 +1,46 @@
+package com.julienprr.eventmanager.user_service.dto.participant;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.julienprr.eventmanager.user_service.model.ParticipantStatus;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkChangeParticipantStatusRequest {
+
+    public static final int MAX_IDS = 100_000;
+
+    @NotNull
+    private ParticipantStatus status;
+
+    // Either the participants to change...
+    @Size(max = MAX_IDS)
+    private List<@NotNull Long> ids;
+
+    // ...or a filter; the creation date range includes createdFrom and excludes createdTo
+    private ParticipantStatus currentStatus;
+    private String country;
+    private LocalDateTime createdFrom;
+    private LocalDateTime createdTo;
+
+    @JsonIgnore
+    public boolean hasFilter() {
+        return currentStatus != null || country != null || createdFrom != null || createdTo != null;
+    }
+
+    // An empty filter would change every participant, so it is refused rather than read as "all"
+    @JsonIgnore
+    @AssertTrue(message = "Give either a non-empty list of ids or at least one filter")
+    public boolean isTargetValid() {
+        return ids == null ? hasFilter() : !ids.isEmpty() && !hasFilter();
+    }
+}
@@ -8,4 +8,6 @@ import lombok.Setter;
 @Setter
 public class ChangeParticipantStatusRequest {
     private ParticipantStatus status;
+
+    private Long version;
 }
@@ -0,0 +1,16 @@
+package com.julienprr.eventmanager.user_service.dto.participant;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ParticipantChangePageResponse {
+    private List<ParticipantChangeResponse> changes;
+    // Pass as "after" to get the following changes
+    private long lastOffset;
+}
@@ -0,0 +1,25 @@
+package com.julienprr.eventmanager.user_service.dto.participant;
+
+import com.julienprr.eventmanager.user_service.model.ParticipantChangeType;
+import com.julienprr.eventmanager.user_service.model.ParticipantStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ParticipantChangeResponse {
+    // Position in the change feed; snapshot entries carry the feed offset the snapshot was taken at
+    private long offset;
+    private Long participantId;
+    // Absent in snapshots
+    private ParticipantChangeType type;
+    // Participant version after the change: an older version than the one already applied is stale
+    private long version;
+    private ParticipantStatus status;
+    private ParticipantPublicProfileResponse profile;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,29 @@
+package com.julienprr.eventmanager.user_service.dto.participant;
+
+import com.julienprr.eventmanager.user_service.model.ParticipantStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class ParticipantExportRow {
+    private Long id;
+    private String firstname;
+    private String lastname;
+    private String email;
+
+    private String avatarUrl;
+    private String bio;
+    private String city;
+    private String country;
+
+    private ParticipantStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime lastLoginAt;
+
+    private boolean emailNotificationsEnabled;
+    private boolean smsNotificationsEnabled;
+}
@@ -0,0 +1,15 @@
+package com.julienprr.eventmanager.user_service.dto.participant;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ParticipantImportRejection {
+    // 1-based line of the row in the uploaded file (CSV header included)
+    private long row;
+    private String email;
+    private String reason;
+}
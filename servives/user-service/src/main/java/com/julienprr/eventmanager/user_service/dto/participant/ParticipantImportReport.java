@@ -0,0 +1,21 @@
+package com.julienprr.eventmanager.user_service.dto.participant;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ParticipantImportReport {
+    private long totalRows;
+    private long importedCount;
+
+    // Rows that could not be read or failed validation
+    private List<ParticipantImportRejection> rejected;
+
+    // Rows whose email already exists, in the database or earlier in the same file
+    private List<ParticipantImportRejection> duplicates;
+}
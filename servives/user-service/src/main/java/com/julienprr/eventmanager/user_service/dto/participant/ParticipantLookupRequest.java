@@ -0,0 +1,21 @@
+package com.julienprr.eventmanager.user_service.dto.participant;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class ParticipantLookupRequest {
+
+    public static final int MAX_IDS = 100;
+
+    @NotEmpty
+    @Size(max = MAX_IDS)
+    private List<@NotNull Long> ids;
+}
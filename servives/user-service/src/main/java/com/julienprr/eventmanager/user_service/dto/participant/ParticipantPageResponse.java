@@ -0,0 +1,17 @@
+package com.julienprr.eventmanager.user_service.dto.participant;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ParticipantPageResponse {
+    private List<ParticipantResponse> items;
+
+    // Pass back as "cursor" to get the next page; null on the last page
+    private String nextCursor;
+}
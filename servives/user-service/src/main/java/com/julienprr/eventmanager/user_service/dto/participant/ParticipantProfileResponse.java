@@ -23,4 +23,7 @@ public class ParticipantProfileResponse {
     // Notification preferences
     private boolean emailNotificationsEnabled;
     private boolean smsNotificationsEnabled;
+
+    // Optimistic locking
+    private Long version;
 }
\ No newline at end of file
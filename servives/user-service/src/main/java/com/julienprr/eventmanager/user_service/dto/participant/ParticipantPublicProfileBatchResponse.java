@@ -0,0 +1,17 @@
+package com.julienprr.eventmanager.user_service.dto.participant;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ParticipantPublicProfileBatchResponse {
+    // Keyed by participant id, in the order the ids were requested
+    private Map<Long, ParticipantPublicProfileResponse> profiles;
+    private List<Long> missingIds;
+}
@@ -0,0 +1,18 @@
+package com.julienprr.eventmanager.user_service.dto.participant;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ParticipantSearchResponse {
+    // Best match first
+    private List<ParticipantResponse> items;
+    private int page;
+    private int size;
+    private boolean hasNext;
+}
@@ -8,4 +8,7 @@ import lombok.Setter;
 public class UpdateNotificationSettingsRequest {
     private Boolean emailNotificationsEnabled;
     private Boolean smsNotificationsEnabled;
+
+    // See UpdateParticipantProfileRequest#version
+    private Long version;
 }
@@ -25,4 +25,8 @@ public class UpdateParticipantProfileRequest {
 
     @Size(max = 255)
     private String avatarUrl;
-}
\ No newline at end of file
+
+    // Version the change is based on, required unless sent as If-Match; the update fails with 409 if
+    // the participant changed since
+    private Long version;
+}
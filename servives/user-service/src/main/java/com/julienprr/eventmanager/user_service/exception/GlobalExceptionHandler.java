@@ -1,6 +1,12 @@
 package com.julienprr.eventmanager.user_service.exception;
 
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -30,6 +36,73 @@ public class GlobalExceptionHandler {
         return error;
     }
 
+    @ExceptionHandler({ParticipantVersionConflictException.class, OptimisticLockingFailureException.class})
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public Map<String, String> handleVersionConflict(RuntimeException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "VERSION_CONFLICT");
+        error.put("message", ex.getMessage());
+        return error;
+    }
+
+    @ExceptionHandler(ParticipantVersionRequiredException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_REQUIRED)
+    public Map<String, String> handleVersionRequired(ParticipantVersionRequiredException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "VERSION_REQUIRED");
+        error.put("message", ex.getMessage());
+        return error;
+    }
+
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<Map<String, String>> handlePasswordHashingUnavailable(PasswordHashingUnavailableException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "SERVICE_UNAVAILABLE");
+        error.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(error);
+    }
+
+    // No connection could be obtained in time, e.g. when the connection limiter refuses a caller
+    @ExceptionHandler({CannotGetJdbcConnectionException.class, CannotCreateTransactionException.class,
+            TransientDataAccessResourceException.class})
+    public ResponseEntity<Map<String, String>> handleDatabaseBusy(RuntimeException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "SERVICE_UNAVAILABLE");
+        error.put("message", "Database is busy, please retry later");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Map<String, String> handleInvalidCursor(InvalidCursorException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "INVALID_CURSOR");
+        error.put("message", ex.getMessage());
+        return error;
+    }
+
+    @ExceptionHandler(InvalidSearchQueryException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Map<String, String> handleInvalidSearchQuery(InvalidSearchQueryException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "INVALID_SEARCH_QUERY");
+        error.put("message", ex.getMessage());
+        return error;
+    }
+
+    @ExceptionHandler(InvalidImportFileException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Map<String, String> handleInvalidImportFile(InvalidImportFileException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "INVALID_IMPORT_FILE");
+        error.put("message", ex.getMessage());
+        return error;
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public Map<String, String> handleValidationErrors(MethodArgumentNotValidException ex) {
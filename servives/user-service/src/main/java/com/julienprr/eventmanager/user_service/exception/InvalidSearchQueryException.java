@@ -0,0 +1,7 @@
+package com.julienprr.eventmanager.user_service.exception;
+
+public class InvalidSearchQueryException extends RuntimeException {
+    public InvalidSearchQueryException(String message) {
+        super(message);
+    }
+}
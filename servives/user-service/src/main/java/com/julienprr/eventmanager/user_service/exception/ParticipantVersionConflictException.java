@@ -0,0 +1,11 @@
+package com.julienprr.eventmanager.user_service.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT) // 409
+public class ParticipantVersionConflictException extends RuntimeException {
+    public ParticipantVersionConflictException(Long expectedVersion) {
+        super("Participant was modified concurrently, expected version " + expectedVersion + " is stale");
+    }
+}
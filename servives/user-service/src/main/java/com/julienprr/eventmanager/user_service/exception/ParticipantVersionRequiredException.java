@@ -0,0 +1,11 @@
+package com.julienprr.eventmanager.user_service.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.PRECONDITION_REQUIRED) // 428
+public class ParticipantVersionRequiredException extends RuntimeException {
+    public ParticipantVersionRequiredException() {
+        super("A version or an If-Match header with the participant's ETag is required");
+    }
+}
@@ -0,0 +1,16 @@
+package com.julienprr.eventmanager.user_service.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public PasswordHashingUnavailableException(Duration retryAfter) {
+        super("Too many signups in progress, please retry later");
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,88 @@
+package com.julienprr.eventmanager.user_service.feed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.julienprr.eventmanager.user_service.dto.participant.ParticipantChangeResponse;
+import com.julienprr.eventmanager.user_service.dto.participant.ParticipantPublicProfileResponse;
+import com.julienprr.eventmanager.user_service.model.ParticipantChangeType;
+import com.julienprr.eventmanager.user_service.model.ParticipantStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Ordered, append-only feed of participant changes, kept in the participant_changes table. It
+ * stands in for a message broker: offsets start at 1 and have no gaps, and consumers read from
+ * any offset they like, through any instance.
+ * <p>
+ * Offsets are assigned as outbox entries are moved to the feed, following the last change in the
+ * table, so they carry on wherever the publisher runs. The offset is the primary key: should two
+ * instances publish at once, one of them fails and its entries stay in the outbox.
+ */
+@Component
+@RequiredArgsConstructor
+public class ParticipantChangeFeed {
+
+    // Entries leave the outbox and enter the feed in the same statement, so none is lost or doubled
+    private static final String PUBLISH_OLDEST = """
+            WITH published AS (
+                DELETE FROM participant_outbox
+                WHERE id IN (SELECT id FROM participant_outbox ORDER BY id LIMIT ?)
+                RETURNING id, participant_id, change_type, participant_version, status, payload, created_at
+            )
+            INSERT INTO participant_changes (feed_offset, participant_id, change_type, participant_version, status,
+                                             payload, occurred_at)
+            SELECT (SELECT coalesce(max(feed_offset), 0) FROM participant_changes) + row_number() OVER (ORDER BY id),
+                   participant_id, change_type, participant_version, status, payload, created_at
+            FROM published
+            """;
+
+    private static final String READ = """
+            SELECT feed_offset, participant_id, change_type, participant_version, status, payload, occurred_at
+            FROM participant_changes
+            WHERE feed_offset > ?
+            ORDER BY feed_offset
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Moves the oldest outbox entries, up to {@code limit}, to the feed and returns how many it moved.
+     */
+    public int publishOldest(int limit) {
+        return jdbcTemplate.update(PUBLISH_OLDEST, limit);
+    }
+
+    public long lastOffset() {
+        Long offset = jdbcTemplate.queryForObject("SELECT coalesce(max(feed_offset), 0) FROM participant_changes", Long.class);
+        return offset == null ? 0 : offset;
+    }
+
+    public List<ParticipantChangeResponse> read(long after, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        return jdbcTemplate.query(READ, (rs, rowNum) -> ParticipantChangeResponse.builder()
+                .offset(rs.getLong("feed_offset"))
+                .participantId(rs.getLong("participant_id"))
+                .type(ParticipantChangeType.valueOf(rs.getString("change_type")))
+                .version(rs.getLong("participant_version"))
+                .status(ParticipantStatus.valueOf(rs.getString("status")))
+                .profile(profile(rs.getLong("feed_offset"), rs.getString("payload")))
+                .occurredAt(rs.getObject("occurred_at", LocalDateTime.class))
+                .build(), Math.max(0, after), limit);
+    }
+
+    private ParticipantPublicProfileResponse profile(long offset, String payload) {
+        try {
+            return objectMapper.readValue(payload, ParticipantPublicProfileResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable participant change at offset " + offset, e);
+        }
+    }
+}
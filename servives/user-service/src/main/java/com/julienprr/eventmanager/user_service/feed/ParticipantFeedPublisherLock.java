@@ -0,0 +1,94 @@
+package com.julienprr.eventmanager.user_service.feed;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Postgres advisory lock electing the one instance that publishes the participant change feed.
+ * <p>
+ * Each batch numbers its changes after the last one in the feed, so two publishers would take
+ * the same offsets and fail each other's batches. The lock is taken on a connection of its own
+ * and held for as long as that connection lives: another instance only takes over once it is
+ * gone, after a shutdown or a crash, and carries on from the last offset. That connection is
+ * opened outside the pool, where closing it would not end the session nor release the lock.
+ */
+@Component
+@Slf4j
+public class ParticipantFeedPublisherLock implements DisposableBean {
+
+    // Any fixed value will do, as long as every instance asks for the same one
+    static final long LOCK_KEY = 0x7061_7274_6665_6564L;
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final JdbcConnectionDetails connectionDetails;
+    // Kept open by the instances waiting for the lock too, so that they do not reconnect every poll
+    private Connection connection;
+    private boolean held;
+
+    public ParticipantFeedPublisherLock(JdbcConnectionDetails connectionDetails) {
+        this.connectionDetails = connectionDetails;
+    }
+
+    /**
+     * Whether this instance holds the lock, trying to take it when it does not.
+     */
+    public synchronized boolean tryAcquire() {
+        try {
+            if (connection != null && !connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                if (held) {
+                    log.warn("Lost the connection holding the participant feed publisher lock");
+                }
+                release();
+            }
+            if (connection == null) {
+                connection = DriverManager.getConnection(connectionDetails.getJdbcUrl(),
+                        connectionDetails.getUsername(), connectionDetails.getPassword());
+            }
+            if (!held && lock(connection)) {
+                held = true;
+                log.info("This instance now publishes the participant change feed");
+            }
+            return held;
+        } catch (SQLException e) {
+            log.warn("Could not take the participant feed publisher lock: {}", e.getMessage());
+            release();
+            return false;
+        }
+    }
+
+    private static boolean lock(Connection candidate) throws SQLException {
+        try (PreparedStatement statement = candidate.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+            statement.setLong(1, LOCK_KEY);
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next() && result.getBoolean(1);
+            }
+        }
+    }
+
+    // Closing the session releases the lock, so another instance can take over right away
+    private void release() {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                log.debug("Could not close the participant feed publisher connection", e);
+            }
+        }
+        connection = null;
+        held = false;
+    }
+
+    @Override
+    public synchronized void destroy() {
+        release();
+    }
+}
@@ -0,0 +1,44 @@
+package com.julienprr.eventmanager.user_service.feed;
+
+import com.julienprr.eventmanager.user_service.config.ParticipantFeedProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves outbox entries to the {@link ParticipantChangeFeed}, oldest first, one statement per batch.
+ * <p>
+ * Only the instance holding the {@link ParticipantFeedPublisherLock} publishes, so that
+ * instances do not take the same offsets and fail each other's batches. Any instance serves
+ * GET /api/participants/changes.
+ */
+@Component
+@Slf4j
+public class ParticipantOutboxPublisher {
+
+    private final ParticipantChangeFeed feed;
+    private final ParticipantFeedPublisherLock publisherLock;
+    private final int batchSize;
+
+    public ParticipantOutboxPublisher(ParticipantChangeFeed feed,
+                                      ParticipantFeedPublisherLock publisherLock,
+                                      ParticipantFeedProperties properties) {
+        this.feed = feed;
+        this.publisherLock = publisherLock;
+        this.batchSize = properties.batchSize();
+    }
+
+    @Scheduled(fixedDelayString = "${participant-feed.poll-interval:500ms}")
+    public void publish() {
+        if (!publisherLock.tryAcquire()) {
+            return;
+        }
+        int published;
+        do {
+            published = feed.publishOldest(batchSize);
+            if (published > 0) {
+                log.debug("Published {} participant changes", published);
+            }
+        } while (published == batchSize);
+    }
+}
@@ -0,0 +1,29 @@
+package com.julienprr.eventmanager.user_service.mapper;
+
+import com.julienprr.eventmanager.user_service.dto.organizer.OrganizerResponse;
+import com.julienprr.eventmanager.user_service.model.Organizer;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrganizerMapper {
+
+    public OrganizerResponse toResponse(Organizer organizer) {
+        OrganizerResponse response = new OrganizerResponse();
+        response.setId(organizer.getId());
+        response.setName(organizer.getName());
+        response.setDescription(organizer.getDescription());
+        response.setEmailContact(organizer.getEmailContact());
+        response.setPhoneContact(organizer.getPhoneContact());
+        response.setWebsite(organizer.getWebsite());
+        response.setAddress(organizer.getAddress());
+        response.setCity(organizer.getCity());
+        response.setCountry(organizer.getCountry());
+        response.setLogoUrl(organizer.getLogoUrl());
+        response.setBannerUrl(organizer.getBannerUrl());
+        response.setVerified(organizer.isVerified());
+        response.setCreatedBy(organizer.getCreatedBy());
+        response.setCreatedAt(organizer.getCreatedAt());
+        response.setUpdatedAt(organizer.getUpdatedAt());
+        return response;
+    }
+}
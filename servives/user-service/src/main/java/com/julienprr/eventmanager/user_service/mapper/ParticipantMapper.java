@@ -0,0 +1,98 @@
+package com.julienprr.eventmanager.user_service.mapper;
+
+import com.julienprr.eventmanager.user_service.dto.participant.AdminParticipantResponse;
+import com.julienprr.eventmanager.user_service.dto.participant.ParticipantProfileResponse;
+import com.julienprr.eventmanager.user_service.dto.participant.ParticipantPublicProfileResponse;
+import com.julienprr.eventmanager.user_service.dto.participant.ParticipantResponse;
+import com.julienprr.eventmanager.user_service.model.Participant;
+import com.julienprr.eventmanager.user_service.repository.ParticipantProfileView;
+import com.julienprr.eventmanager.user_service.repository.ParticipantPublicProfileView;
+import org.springframework.stereotype.Component;
+
+/**
+ * Copies {@link Participant} fields into the response DTOs directly, without reflection.
+ * ParticipantMapperTests keeps these mappings in line with what ModelMapper used to produce.
+ */
+@Component
+public class ParticipantMapper {
+
+    public ParticipantResponse toResponse(Participant participant) {
+        ParticipantResponse response = new ParticipantResponse();
+        response.setId(participant.getId());
+        response.setFirstname(participant.getFirstname());
+        response.setLastname(participant.getLastname());
+        response.setEmail(participant.getEmail());
+        return response;
+    }
+
+    public AdminParticipantResponse toAdminResponse(Participant participant) {
+        AdminParticipantResponse response = new AdminParticipantResponse();
+        response.setFirstname(participant.getFirstname());
+        response.setLastname(participant.getLastname());
+        response.setEmail(participant.getEmail());
+        response.setAvatarUrl(participant.getAvatarUrl());
+        response.setBio(participant.getBio());
+        response.setCity(participant.getCity());
+        response.setCountry(participant.getCountry());
+        response.setEmailNotificationsEnabled(participant.isEmailNotificationsEnabled());
+        response.setSmsNotificationsEnabled(participant.isSmsNotificationsEnabled());
+        response.setStatus(participant.getStatus());
+        response.setCreatedAt(participant.getCreatedAt());
+        response.setUpdatedAt(participant.getUpdatedAt());
+        response.setLastLoginAt(participant.getLastLoginAt());
+        response.setVersion(participant.getVersion());
+        return response;
+    }
+
+    public ParticipantProfileResponse toProfileResponse(Participant participant) {
+        ParticipantProfileResponse response = new ParticipantProfileResponse();
+        response.setFirstname(participant.getFirstname());
+        response.setLastname(participant.getLastname());
+        response.setEmail(participant.getEmail());
+        response.setAvatarUrl(participant.getAvatarUrl());
+        response.setBio(participant.getBio());
+        response.setCity(participant.getCity());
+        response.setCountry(participant.getCountry());
+        response.setEmailNotificationsEnabled(participant.isEmailNotificationsEnabled());
+        response.setSmsNotificationsEnabled(participant.isSmsNotificationsEnabled());
+        response.setVersion(participant.getVersion());
+        return response;
+    }
+
+    public ParticipantPublicProfileResponse toPublicProfileResponse(Participant participant) {
+        ParticipantPublicProfileResponse response = new ParticipantPublicProfileResponse();
+        response.setFirstname(participant.getFirstname());
+        response.setLastname(participant.getLastname());
+        response.setAvatarUrl(participant.getAvatarUrl());
+        response.setBio(participant.getBio());
+        response.setCity(participant.getCity());
+        response.setCountry(participant.getCountry());
+        return response;
+    }
+
+    public ParticipantProfileResponse toProfileResponse(ParticipantProfileView profile) {
+        ParticipantProfileResponse response = new ParticipantProfileResponse();
+        response.setFirstname(profile.firstname());
+        response.setLastname(profile.lastname());
+        response.setEmail(profile.email());
+        response.setAvatarUrl(profile.avatarUrl());
+        response.setBio(profile.bio());
+        response.setCity(profile.city());
+        response.setCountry(profile.country());
+        response.setEmailNotificationsEnabled(profile.emailNotificationsEnabled());
+        response.setSmsNotificationsEnabled(profile.smsNotificationsEnabled());
+        response.setVersion(profile.version());
+        return response;
+    }
+
+    public ParticipantPublicProfileResponse toPublicProfileResponse(ParticipantPublicProfileView profile) {
+        ParticipantPublicProfileResponse response = new ParticipantPublicProfileResponse();
+        response.setFirstname(profile.firstname());
+        response.setLastname(profile.lastname());
+        response.setAvatarUrl(profile.avatarUrl());
+        response.setBio(profile.bio());
+        response.setCity(profile.city());
+        response.setCountry(profile.country());
+        return response;
+    }
+}
@@ -2,6 +2,10 @@ package com.julienprr.eventmanager.user_service.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.LocalDateTime;
 
@@ -12,8 +16,13 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Organizer.CACHE_REGION)
+@NaturalIdCache(region = Organizer.EMAIL_CACHE_REGION)
 public class Organizer {
 
+    public static final String CACHE_REGION = "organizers";
+    public static final String EMAIL_CACHE_REGION = "organizers-by-email";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -25,6 +34,8 @@ public class Organizer {
 
     private String description;
 
+    // Organizers may change their contact address, unlike participants their login email
+    @NaturalId(mutable = true)
     @Column(nullable = false, unique = true)
     private String emailContact;
     private String phoneContact;
@@ -2,16 +2,29 @@ package com.julienprr.eventmanager.user_service.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "participants")
+@Table(name = "participants", indexes = {
+        // Backs the keyset pagination of the participant listing
+        @Index(name = "idx_participants_created_at_id", columnList = "created_at, id")
+})
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Participant.CACHE_REGION)
+@NaturalIdCache(region = Participant.EMAIL_CACHE_REGION)
 public class Participant {
 
+    public static final String CACHE_REGION = "participants";
+    public static final String EMAIL_CACHE_REGION = "participants-by-email";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -22,6 +35,7 @@ public class Participant {
     @Column(nullable = false)
     private String lastname;
 
+    @NaturalId
     @Column(nullable = false, unique = true)
     private String email;
 
@@ -44,6 +58,12 @@ public class Participant {
     private boolean emailNotificationsEnabled;
     private boolean smsNotificationsEnabled;
 
+    // Bumped by every update; the default backfills rows created before the column existed
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
@@ -0,0 +1,40 @@
+package com.julienprr.eventmanager.user_service.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// A change published to the participant change feed, moved there from the outbox
+@Entity
+@Table(name = "participant_changes")
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class ParticipantChange {
+
+    // Assigned by the publisher, following the last change in the table
+    @Id
+    private Long feedOffset;
+
+    @Column(nullable = false)
+    private Long participantId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ParticipantChangeType changeType;
+
+    @Column(nullable = false)
+    private Long participantVersion;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ParticipantStatus status;
+
+    // Public profile as JSON, as it was when the change was made
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,5 @@
+package com.julienprr.eventmanager.user_service.model;
+
+public enum ParticipantChangeType {
+        CREATED, PROFILE_UPDATED, STATUS_CHANGED
+}
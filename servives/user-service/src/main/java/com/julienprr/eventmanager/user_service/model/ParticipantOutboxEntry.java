@@ -0,0 +1,40 @@
+package com.julienprr.eventmanager.user_service.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// Written in the transaction that changes the participant, deleted once published to the change feed
+@Entity
+@Table(name = "participant_outbox")
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class ParticipantOutboxEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long participantId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ParticipantChangeType changeType;
+
+    @Column(nullable = false)
+    private Long participantVersion;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ParticipantStatus status;
+
+    // Public profile as JSON, as it was when the change was made
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,14 @@
+package com.julienprr.eventmanager.user_service.repository;
+
+import com.julienprr.eventmanager.user_service.model.Organizer;
+
+import java.util.Optional;
+
+/**
+ * Lookups by contact email through Hibernate's natural id, answered from the second-level cache
+ * when the organizer is cached.
+ */
+public interface OrganizerNaturalIdRepository {
+
+    Optional<Organizer> findByEmailContact(String emailContact);
+}
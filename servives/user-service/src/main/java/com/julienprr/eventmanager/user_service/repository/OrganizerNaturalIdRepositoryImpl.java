@@ -0,0 +1,23 @@
+package com.julienprr.eventmanager.user_service.repository;
+
+import com.julienprr.eventmanager.user_service.model.Organizer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+class OrganizerNaturalIdRepositoryImpl implements OrganizerNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Organizer> findByEmailContact(String emailContact) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Organizer.class)
+                .loadOptional(emailContact);
+    }
+}
@@ -0,0 +1,32 @@
+package com.julienprr.eventmanager.user_service.repository;
+
+import com.julienprr.eventmanager.user_service.dto.organizer.OrganizerDirectoryEntry;
+import com.julienprr.eventmanager.user_service.model.Organizer;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface OrganizerRepository extends JpaRepository<Organizer, Long>, OrganizerNaturalIdRepository {
+
+    List<Organizer> findAllByOrderByNameAsc();
+
+    // Directory entries are built from the public columns of verified organizers only
+    @Query("""
+            select new com.julienprr.eventmanager.user_service.dto.organizer.OrganizerDirectoryEntry(
+                o.id, o.name, o.description, o.website, o.city, o.country, o.logoUrl, o.bannerUrl)
+            from Organizer o
+            where o.verified = true
+            """)
+    List<OrganizerDirectoryEntry> findDirectoryEntries();
+
+    @Query("""
+            select new com.julienprr.eventmanager.user_service.dto.organizer.OrganizerDirectoryEntry(
+                o.id, o.name, o.description, o.website, o.city, o.country, o.logoUrl, o.bannerUrl)
+            from Organizer o
+            where o.id = :id and o.verified = true
+            """)
+    Optional<OrganizerDirectoryEntry> findDirectoryEntryById(@Param("id") Long id);
+}
@@ -0,0 +1,422 @@
+package com.julienprr.eventmanager.user_service.repository;
+
+import com.julienprr.eventmanager.user_service.dto.participant.ParticipantChangeResponse;
+import com.julienprr.eventmanager.user_service.dto.participant.ParticipantExportRow;
+import com.julienprr.eventmanager.user_service.dto.participant.ParticipantPublicProfileResponse;
+import com.julienprr.eventmanager.user_service.model.Participant;
+import com.julienprr.eventmanager.user_service.model.ParticipantStatus;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Participant statements that JPA cannot express efficiently, written against Postgres directly.
+ */
+@Repository
+@RequiredArgsConstructor
+@Timed(value = "participant.jdbc.queries", description = "Participant statements run through JDBC", histogram = true)
+public class ParticipantJdbcRepository {
+
+    // One statement per chunk: the rows travel as arrays and are expanded server side by unnest,
+    // so a chunk costs a single round trip. Emails that already exist are skipped, and RETURNING
+    // tells the caller which rows were actually inserted.
+    private static final String INSERT_IGNORING_DUPLICATES = """
+            INSERT INTO participants (firstname, lastname, email, password, status,
+                                      created_at, updated_at, email_notifications_enabled, sms_notifications_enabled)
+            SELECT r.firstname, r.lastname, r.email, r.password, r.status, ?, ?, false, false
+            FROM unnest(?::text[], ?::text[], ?::text[], ?::text[], ?::text[]) AS r(firstname, lastname, email, password, status)
+            ON CONFLICT (email) DO NOTHING
+            RETURNING email
+            """;
+
+    private static final String INSERT = """
+            INSERT INTO participants (firstname, lastname, email, password, status,
+                                      created_at, updated_at, email_notifications_enabled, sms_notifications_enabled)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            RETURNING id, version
+            """;
+
+    // Leaves updated_at and version alone: a login is not a change of the participant's data.
+    // Rows that already hold a later time are skipped rather than rewritten.
+    private static final String UPDATE_LAST_LOGIN_AT = """
+            UPDATE participants p
+            SET last_login_at = r.last_login_at
+            FROM unnest(?::text[], ?::timestamp[]) AS r(email, last_login_at)
+            WHERE p.email = r.email
+              AND (p.last_login_at IS NULL OR p.last_login_at < r.last_login_at)
+            """;
+
+    // Participants that already have the new status are skipped, so their version does not move
+    private static final String UPDATE_STATUS = """
+            UPDATE participants
+            SET status = ?, updated_at = ?, version = version + 1
+            """;
+
+    // Rows held by the driver at a time while an export walks the table
+    private static final int EXPORT_FETCH_SIZE = 1_000;
+
+    private static final Set<String> UPDATABLE_COLUMNS = Set.of(
+            "firstname", "lastname", "bio", "city", "country", "avatar_url",
+            "email_notifications_enabled", "sms_notifications_enabled", "status");
+
+    // Everything but the password hash, which no caller of these statements needs
+    private static final String RETURNED_COLUMNS = """
+            id, firstname, lastname, email, avatar_url, bio, city, country, status,
+            created_at, updated_at, last_login_at, email_notifications_enabled, sms_notifications_enabled, version
+            """;
+
+    // <% and <<-> are pg_trgm's word similarity operators, served by idx_participants_search (see schema.sql).
+    // The inner query orders by distance alone, so Postgres reads the index in distance order and stops
+    // after LIMIT + OFFSET matches; the id tie-break is applied to those rows only. Pages stay stable
+    // except for equally distant rows straddling the inner limit. A query that few rows match, such as
+    // a misspelt one, still walks much of the index before giving up.
+    private static final String SEARCH = """
+            SELECT %1$s
+            FROM (SELECT %1$s
+                  FROM participants
+                  WHERE ? <%% participant_search_document(firstname, lastname, city, country)
+                  ORDER BY ? <<-> participant_search_document(firstname, lastname, city, country)
+                  LIMIT ?) AS nearest
+            ORDER BY ? <<-> participant_search_document(firstname, lastname, city, country), id
+            LIMIT ? OFFSET ?
+            """.formatted(RETURNED_COLUMNS.strip());
+
+    static final RowMapper<Participant> PARTICIPANT_ROW_MAPPER = (rs, rowNum) -> Participant.builder()
+            .id(rs.getLong("id"))
+            .firstname(rs.getString("firstname"))
+            .lastname(rs.getString("lastname"))
+            .email(rs.getString("email"))
+            .avatarUrl(rs.getString("avatar_url"))
+            .bio(rs.getString("bio"))
+            .city(rs.getString("city"))
+            .country(rs.getString("country"))
+            .status(ParticipantStatus.valueOf(rs.getString("status")))
+            .createdAt(rs.getObject("created_at", LocalDateTime.class))
+            .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+            .lastLoginAt(rs.getObject("last_login_at", LocalDateTime.class))
+            .emailNotificationsEnabled(rs.getBoolean("email_notifications_enabled"))
+            .smsNotificationsEnabled(rs.getBoolean("sms_notifications_enabled"))
+            .version(rs.getLong("version"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the participant in a single statement and returns it with its id and version.
+     *
+     * @throws DuplicateKeyException if the email is already taken
+     */
+    public Participant insert(Participant participant) {
+        Map<String, Object> generated = jdbcTemplate.queryForMap(INSERT,
+                participant.getFirstname(), participant.getLastname(), participant.getEmail(), participant.getPassword(),
+                participant.getStatus().name(), timestamp(participant.getCreatedAt()), timestamp(participant.getUpdatedAt()),
+                participant.isEmailNotificationsEnabled(), participant.isSmsNotificationsEnabled());
+        participant.setId(((Number) generated.get("id")).longValue());
+        participant.setVersion(((Number) generated.get("version")).longValue());
+        return participant;
+    }
+
+    public long count() {
+        Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM participants", Long.class);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Passes every registered email to the consumer, fetching them in batches. Postgres only
+     * honours the fetch size inside a transaction; outside one the whole column is buffered.
+     */
+    public void forEachEmail(Consumer<String> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("SELECT email FROM participants");
+            statement.setFetchSize(10_000);
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(rs.getString(1)));
+    }
+
+    /**
+     * Passes the public data of every participant, by id, to the consumer. Like
+     * {@link #forEachEmail}, only batched when called inside a transaction.
+     */
+    public void forEachPublicProfile(Consumer<ParticipantChangeResponse> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("""
+                    SELECT id, version, status, firstname, lastname, avatar_url, bio, city, country
+                    FROM participants
+                    ORDER BY id
+                    """);
+            statement.setFetchSize(1_000);
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(ParticipantChangeResponse.builder()
+                .participantId(rs.getLong("id"))
+                .version(rs.getLong("version"))
+                .status(ParticipantStatus.valueOf(rs.getString("status")))
+                .profile(ParticipantPublicProfileResponse.builder()
+                        .firstname(rs.getString("firstname"))
+                        .lastname(rs.getString("lastname"))
+                        .avatarUrl(rs.getString("avatar_url"))
+                        .bio(rs.getString("bio"))
+                        .city(rs.getString("city"))
+                        .country(rs.getString("country"))
+                        .build())
+                .build()));
+    }
+
+    /**
+     * Passes every participant matching the filters to the consumer, oldest first, for exports and
+     * the admin stream.
+     * The creation date range includes {@code createdFrom} and excludes {@code createdTo}; null
+     * filters are left out. Like {@link #forEachEmail}, only batched when called inside a transaction.
+     */
+    public void forEachExportRow(ParticipantStatus status, String country, LocalDateTime createdFrom,
+                                 LocalDateTime createdTo, Consumer<ParticipantExportRow> consumer) {
+        List<Object> arguments = new ArrayList<>(4);
+        String sql = """
+                SELECT id, firstname, lastname, email, avatar_url, bio, city, country, status,
+                       created_at, updated_at, last_login_at, email_notifications_enabled, sms_notifications_enabled
+                FROM participants
+                WHERE true%s
+                ORDER BY created_at, id
+                """.formatted(filters(arguments, status, country, createdFrom, createdTo));
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(EXPORT_FETCH_SIZE);
+            for (int i = 0; i < arguments.size(); i++) {
+                statement.setObject(i + 1, arguments.get(i));
+            }
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(ParticipantExportRow.builder()
+                .id(rs.getLong("id"))
+                .firstname(rs.getString("firstname"))
+                .lastname(rs.getString("lastname"))
+                .email(rs.getString("email"))
+                .avatarUrl(rs.getString("avatar_url"))
+                .bio(rs.getString("bio"))
+                .city(rs.getString("city"))
+                .country(rs.getString("country"))
+                .status(ParticipantStatus.valueOf(rs.getString("status")))
+                .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+                .lastLoginAt(rs.getObject("last_login_at", LocalDateTime.class))
+                .emailNotificationsEnabled(rs.getBoolean("email_notifications_enabled"))
+                .smsNotificationsEnabled(rs.getBoolean("sms_notifications_enabled"))
+                .build()));
+    }
+
+    /**
+     * Inserts the participants in one statement and returns the emails that were inserted;
+     * the missing ones were already taken.
+     */
+    public List<String> insertIgnoringDuplicates(List<Participant> participants) {
+        if (participants.isEmpty()) {
+            return List.of();
+        }
+        int size = participants.size();
+        String[] firstnames = new String[size];
+        String[] lastnames = new String[size];
+        String[] emails = new String[size];
+        String[] passwords = new String[size];
+        String[] statuses = new String[size];
+        for (int i = 0; i < size; i++) {
+            Participant participant = participants.get(i);
+            firstnames[i] = participant.getFirstname();
+            lastnames[i] = participant.getLastname();
+            emails[i] = participant.getEmail();
+            passwords[i] = participant.getPassword();
+            statuses[i] = participant.getStatus().name();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_IGNORING_DUPLICATES);
+            statement.setTimestamp(1, now);
+            statement.setTimestamp(2, now);
+            statement.setArray(3, connection.createArrayOf("text", firstnames));
+            statement.setArray(4, connection.createArrayOf("text", lastnames));
+            statement.setArray(5, connection.createArrayOf("text", emails));
+            statement.setArray(6, connection.createArrayOf("text", passwords));
+            statement.setArray(7, connection.createArrayOf("text", statuses));
+            return statement;
+        }, (rs, rowNum) -> rs.getString(1));
+    }
+
+    /**
+     * Writes only the given columns, plus updated_at and version, and returns the updated row in
+     * the same round trip. The row is only updated if it still has the expected version; an empty
+     * result means the participant is missing or was changed meanwhile.
+     */
+    public Optional<Participant> updateById(Long participantId, Map<String, Object> changes, long expectedVersion) {
+        return update("id", participantId, changes, expectedVersion);
+    }
+
+    public Optional<Participant> updateByEmail(String email, Map<String, Object> changes, long expectedVersion) {
+        return update("email", email, changes, expectedVersion);
+    }
+
+    /**
+     * Moves the last login time of the given participants, keyed by email, forward in one
+     * statement and returns the number of rows changed. Unknown emails are ignored.
+     */
+    public int updateLastLoginAt(Map<String, LocalDateTime> lastLoginAtByEmail) {
+        if (lastLoginAtByEmail.isEmpty()) {
+            return 0;
+        }
+        String[] emails = new String[lastLoginAtByEmail.size()];
+        Timestamp[] lastLoginAts = new Timestamp[emails.length];
+        int i = 0;
+        for (Map.Entry<String, LocalDateTime> entry : lastLoginAtByEmail.entrySet()) {
+            emails[i] = entry.getKey();
+            lastLoginAts[i] = Timestamp.valueOf(entry.getValue());
+            i++;
+        }
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(UPDATE_LAST_LOGIN_AT);
+            statement.setArray(1, connection.createArrayOf("text", emails));
+            statement.setArray(2, connection.createArrayOf("timestamp", lastLoginAts));
+            return statement;
+        });
+    }
+
+    /**
+     * Sets the status of the given participants in one statement and returns the rows it changed.
+     * Unknown ids and participants that already have the status are not part of the result.
+     */
+    public List<Participant> updateStatusByIds(Collection<Long> participantIds, ParticipantStatus status) {
+        if (participantIds.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("""
+                    %s
+                    WHERE id = ANY(?) AND status <> ?
+                    RETURNING %s
+                    """.formatted(UPDATE_STATUS.strip(), RETURNED_COLUMNS.strip()));
+            statement.setString(1, status.name());
+            statement.setTimestamp(2, now);
+            statement.setArray(3, connection.createArrayOf("bigint", participantIds.toArray()));
+            statement.setString(4, status.name());
+            return statement;
+        }, PARTICIPANT_ROW_MAPPER);
+    }
+
+    /**
+     * Sets the status of the next {@code limit} participants, by id after {@code afterId}, that
+     * match the filters and do not have it yet, and returns the rows changed. Null filters are
+     * left out. An empty result means no participant after {@code afterId} is left to change.
+     */
+    public List<Participant> updateStatusMatching(ParticipantStatus status, ParticipantStatus currentStatus,
+                                                  String country, LocalDateTime createdFrom, LocalDateTime createdTo,
+                                                  long afterId, int limit) {
+        List<Object> arguments = new ArrayList<>(List.of(status.name(), Timestamp.valueOf(LocalDateTime.now()),
+                afterId, status.name()));
+        String sql = """
+                %s
+                WHERE id IN (
+                    SELECT id
+                    FROM participants
+                    WHERE id > ? AND status <> ?%s
+                    ORDER BY id
+                    LIMIT ?
+                ) AND status <> ?
+                RETURNING %s
+                """.formatted(UPDATE_STATUS.strip(), filters(arguments, currentStatus, country, createdFrom, createdTo),
+                RETURNED_COLUMNS.strip());
+        arguments.add(limit);
+        arguments.add(status.name());
+        return jdbcTemplate.query(sql, PARTICIPANT_ROW_MAPPER, arguments.toArray());
+    }
+
+    public long countByIds(Collection<Long> participantIds) {
+        if (participantIds.isEmpty()) {
+            return 0;
+        }
+        Long count = jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("SELECT count(*) FROM participants WHERE id = ANY(?)");
+            statement.setArray(1, connection.createArrayOf("bigint", participantIds.toArray()));
+            return statement;
+        }, rs -> rs.next() ? rs.getLong(1) : 0L);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Participants whose name, city or country resembles the query, best match first. The
+     * similarity threshold is set for the current transaction only, so callers must run this
+     * inside one.
+     */
+    public List<Participant> search(String query, double minSimilarity, int limit, int offset) {
+        jdbcTemplate.queryForObject("SELECT set_config('pg_trgm.word_similarity_threshold', ?, true)",
+                String.class, Double.toString(minSimilarity));
+        return jdbcTemplate.query(SEARCH, PARTICIPANT_ROW_MAPPER, query, query, offset + limit, query, limit, offset);
+    }
+
+    private static Timestamp timestamp(LocalDateTime value) {
+        return value == null ? null : Timestamp.valueOf(value);
+    }
+
+    // Each non-null filter as an AND condition, the creation date range excluding createdTo; their
+    // values are added to the arguments in the same order
+    private static String filters(List<Object> arguments, ParticipantStatus status, String country,
+                                  LocalDateTime createdFrom, LocalDateTime createdTo) {
+        List<String> conditions = new ArrayList<>(4);
+        if (status != null) {
+            conditions.add("status = ?");
+            arguments.add(status.name());
+        }
+        if (country != null) {
+            conditions.add("country = ?");
+            arguments.add(country);
+        }
+        if (createdFrom != null) {
+            conditions.add("created_at >= ?");
+            arguments.add(Timestamp.valueOf(createdFrom));
+        }
+        if (createdTo != null) {
+            conditions.add("created_at < ?");
+            arguments.add(Timestamp.valueOf(createdTo));
+        }
+        return conditions.stream().map(condition -> " AND " + condition).collect(Collectors.joining());
+    }
+
+    private Optional<Participant> update(String keyColumn, Object key, Map<String, Object> changes, long expectedVersion) {
+        List<String> assignments = new ArrayList<>(changes.size() + 2);
+        List<Object> arguments = new ArrayList<>(changes.size() + 3);
+        changes.forEach((column, value) -> {
+            if (!UPDATABLE_COLUMNS.contains(column)) {
+                throw new IllegalArgumentException("Column cannot be updated: " + column);
+            }
+            assignments.add(column + " = ?");
+            arguments.add(value instanceof Enum<?> constant ? constant.name() : value);
+        });
+        assignments.add("updated_at = ?");
+        assignments.add("version = version + 1");
+        arguments.add(Timestamp.valueOf(LocalDateTime.now()));
+        arguments.add(key);
+        arguments.add(expectedVersion);
+        String sql = """
+                UPDATE participants
+                SET %s
+                WHERE %s = ? AND version = ?
+                RETURNING %s
+                """.formatted(String.join(", ", assignments), keyColumn, RETURNED_COLUMNS.strip());
+
+        List<Participant> updated = jdbcTemplate.query(sql, PARTICIPANT_ROW_MAPPER, arguments.toArray());
+        return updated.stream().findFirst();
+    }
+}
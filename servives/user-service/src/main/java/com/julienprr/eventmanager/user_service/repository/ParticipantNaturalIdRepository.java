@@ -0,0 +1,14 @@
+package com.julienprr.eventmanager.user_service.repository;
+
+import com.julienprr.eventmanager.user_service.model.Participant;
+
+import java.util.Optional;
+
+/**
+ * Lookups by email going through Hibernate's natural id, so that they are answered from the
+ * second-level cache like {@code findById} instead of always running a query.
+ */
+public interface ParticipantNaturalIdRepository {
+
+    Optional<Participant> findByEmail(String email);
+}
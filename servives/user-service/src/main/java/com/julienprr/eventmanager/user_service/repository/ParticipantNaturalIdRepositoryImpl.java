@@ -0,0 +1,24 @@
+package com.julienprr.eventmanager.user_service.repository;
+
+import com.julienprr.eventmanager.user_service.model.Participant;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+class ParticipantNaturalIdRepositoryImpl implements ParticipantNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Unwrapping the shared EntityManager needs a transaction to keep the session open
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Participant> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Participant.class)
+                .loadOptional(email);
+    }
+}
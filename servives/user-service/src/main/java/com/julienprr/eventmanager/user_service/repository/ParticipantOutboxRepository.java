@@ -0,0 +1,57 @@
+package com.julienprr.eventmanager.user_service.repository;
+
+import com.julienprr.eventmanager.user_service.model.ParticipantChangeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+
+/**
+ * Change records for the participant change feed. The appends copy the participant row as the
+ * calling transaction sees it, so they must run in the transaction that changed it.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ParticipantOutboxRepository {
+
+    private static final String APPEND = """
+            INSERT INTO participant_outbox (participant_id, change_type, participant_version, status, payload, created_at)
+            SELECT p.id, ?, p.version, p.status,
+                   json_build_object('firstname', p.firstname, 'lastname', p.lastname, 'avatarUrl', p.avatar_url,
+                                     'bio', p.bio, 'city', p.city, 'country', p.country)::text,
+                   localtimestamp
+            FROM participants p
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void append(ParticipantChangeType changeType, Long participantId) {
+        jdbcTemplate.update(APPEND + "WHERE p.id = ?", changeType.name(), participantId);
+    }
+
+    public void appendAll(ParticipantChangeType changeType, Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(APPEND + "WHERE p.email = ANY(?) ORDER BY p.id");
+            statement.setString(1, changeType.name());
+            statement.setArray(2, connection.createArrayOf("text", emails.toArray()));
+            return statement;
+        });
+    }
+
+    public void appendAllByIds(ParticipantChangeType changeType, Collection<Long> participantIds) {
+        if (participantIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(APPEND + "WHERE p.id = ANY(?) ORDER BY p.id");
+            statement.setString(1, changeType.name());
+            statement.setArray(2, connection.createArrayOf("bigint", participantIds.toArray()));
+            return statement;
+        });
+    }
+}
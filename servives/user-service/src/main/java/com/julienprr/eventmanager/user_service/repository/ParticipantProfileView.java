@@ -0,0 +1,25 @@
+package com.julienprr.eventmanager.user_service.repository;
+
+import com.julienprr.eventmanager.user_service.model.Participant;
+
+import java.time.LocalDateTime;
+
+/**
+ * The columns behind a participant's own profile and its validators; the password is not among them.
+ */
+public record ParticipantProfileView(Long version, LocalDateTime updatedAt,
+                                     String firstname, String lastname, String email, String avatarUrl,
+                                     String bio, String city, String country,
+                                     boolean emailNotificationsEnabled, boolean smsNotificationsEnabled) {
+
+    public static ParticipantProfileView of(Participant participant) {
+        return new ParticipantProfileView(participant.getVersion(), participant.getUpdatedAt(),
+                participant.getFirstname(), participant.getLastname(), participant.getEmail(), participant.getAvatarUrl(),
+                participant.getBio(), participant.getCity(), participant.getCountry(),
+                participant.isEmailNotificationsEnabled(), participant.isSmsNotificationsEnabled());
+    }
+
+    public ParticipantVersion participantVersion() {
+        return new ParticipantVersion(version, updatedAt);
+    }
+}
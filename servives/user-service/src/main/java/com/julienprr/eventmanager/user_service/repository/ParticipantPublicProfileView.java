@@ -0,0 +1,23 @@
+package com.julienprr.eventmanager.user_service.repository;
+
+import com.julienprr.eventmanager.user_service.model.Participant;
+
+import java.time.LocalDateTime;
+
+/**
+ * The columns behind a public profile and its validators, read without loading the participant.
+ */
+public record ParticipantPublicProfileView(Long id, Long version, LocalDateTime updatedAt,
+                                          String firstname, String lastname, String avatarUrl,
+                                          String bio, String city, String country) {
+
+    public static ParticipantPublicProfileView of(Participant participant) {
+        return new ParticipantPublicProfileView(participant.getId(), participant.getVersion(), participant.getUpdatedAt(),
+                participant.getFirstname(), participant.getLastname(), participant.getAvatarUrl(),
+                participant.getBio(), participant.getCity(), participant.getCountry());
+    }
+
+    public ParticipantVersion participantVersion() {
+        return new ParticipantVersion(version, updatedAt);
+    }
+}
@@ -3,13 +3,57 @@ package com.julienprr.eventmanager.user_service.repository;
 
 
 import com.julienprr.eventmanager.user_service.model.Participant;
+import com.julienprr.eventmanager.user_service.model.ParticipantStatus;
 import jakarta.validation.constraints.Email;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface ParticipantRepository extends JpaRepository<Participant, Long> {
-    Optional<Participant> findByEmail(String email);
+// Spring Data gives declared queries no transaction of their own: without this, they would run on the
+// primary, and pin the rest of the request there. Inherited CRUD methods keep their own settings.
+@Transactional(readOnly = true)
+public interface ParticipantRepository extends JpaRepository<Participant, Long>, JpaSpecificationExecutor<Participant>,
+        ParticipantNaturalIdRepository {
 
     boolean existsByEmail(@Email String email);
+
+    // Validators only, for conditional GETs that usually end in a 304
+    @Query("select new com.julienprr.eventmanager.user_service.repository.ParticipantVersion(p.version, p.updatedAt) from Participant p where p.id = :id")
+    Optional<ParticipantVersion> findVersionById(@Param("id") Long id);
+
+    @Query("select new com.julienprr.eventmanager.user_service.repository.ParticipantVersion(p.version, p.updatedAt) from Participant p where p.email = :email")
+    Optional<ParticipantVersion> findVersionByEmail(@Param("email") String email);
+
+    // The read paths below build their views from the selected columns only: no managed entity,
+    // no dirty-checking snapshot, and the password hash never leaves the database.
+    @Query("""
+            select new com.julienprr.eventmanager.user_service.repository.ParticipantPublicProfileView(
+                p.id, p.version, p.updatedAt, p.firstname, p.lastname, p.avatarUrl, p.bio, p.city, p.country)
+            from Participant p
+            where p.id = :id
+            """)
+    Optional<ParticipantPublicProfileView> findPublicProfileById(@Param("id") Long id);
+
+    @Query("""
+            select new com.julienprr.eventmanager.user_service.repository.ParticipantPublicProfileView(
+                p.id, p.version, p.updatedAt, p.firstname, p.lastname, p.avatarUrl, p.bio, p.city, p.country)
+            from Participant p
+            where p.id in :ids
+            """)
+    List<ParticipantPublicProfileView> findPublicProfilesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            select new com.julienprr.eventmanager.user_service.repository.ParticipantProfileView(
+                p.version, p.updatedAt, p.firstname, p.lastname, p.email, p.avatarUrl, p.bio, p.city, p.country,
+                p.emailNotificationsEnabled, p.smsNotificationsEnabled)
+            from Participant p
+            where p.email = :email
+            """)
+    Optional<ParticipantProfileView> findProfileByEmail(@Param("email") String email);
 }
@@ -0,0 +1,36 @@
+package com.julienprr.eventmanager.user_service.repository;
+
+import com.julienprr.eventmanager.user_service.model.Participant;
+import com.julienprr.eventmanager.user_service.model.ParticipantStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ParticipantSpecifications {
+
+    private ParticipantSpecifications() {
+    }
+
+    public static Specification<Participant> hasStatus(ParticipantStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Participant> hasCountry(String country) {
+        return (root, query, cb) -> cb.equal(root.get("country"), country);
+    }
+
+    /**
+     * Combines the optional listing filters, ignoring the ones that are not set.
+     */
+    public static Specification<Participant> matching(ParticipantStatus status, String country) {
+        List<Specification<Participant>> specifications = new ArrayList<>();
+        if (status != null) {
+            specifications.add(hasStatus(status));
+        }
+        if (country != null && !country.isBlank()) {
+            specifications.add(hasCountry(country));
+        }
+        return Specification.allOf(specifications);
+    }
+}
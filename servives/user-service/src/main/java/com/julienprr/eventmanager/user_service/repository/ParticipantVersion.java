@@ -0,0 +1,20 @@
+package com.julienprr.eventmanager.user_service.repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * The validators of a participant representation: an update always bumps the version and
+ * refreshes updatedAt, so a client holding the same pair holds the current data.
+ */
+public record ParticipantVersion(Long version, LocalDateTime updatedAt) {
+
+    public String etag() {
+        return String.valueOf(version);
+    }
+
+    // -1 when unknown, which conditional request handling ignores
+    public long lastModified() {
+        return updatedAt == null ? -1 : updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,109 @@
+package com.julienprr.eventmanager.user_service.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers tokens that the delegate already verified, so a client reusing its access token
+ * does not pay for the signature check on every request.
+ * <p>
+ * Entries are keyed by a SHA-256 digest of the token and never outlive its {@code exp}:
+ * they expire with it, and a hit is re-checked against the clock before being returned,
+ * so an expired token always goes back to the delegate and gets rejected there.
+ * Tokens without {@code exp} are never cached.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Clock clock;
+    private final Cache<String, Jwt> verifiedTokens;
+    private Timer cachedDecodeTimer;
+    private Timer verifiedDecodeTimer;
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maximumSize, Clock clock) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.creating((String digest, Jwt jwt) -> timeToLive(jwt)))
+                .recordStats()
+                .build();
+    }
+
+    public CachingJwtDecoder monitor(MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "verified-jwts");
+        cachedDecodeTimer = decodeTimer(meterRegistry, "hit");
+        verifiedDecodeTimer = decodeTimer(meterRegistry, "miss");
+        return this;
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        long start = System.nanoTime();
+        String digest = digest(token);
+        Jwt cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && isUnexpired(cached)) {
+            record(cachedDecodeTimer, start);
+            return cached;
+        }
+
+        try {
+            Jwt jwt = delegate.decode(token);
+            if (jwt.getExpiresAt() != null && isUnexpired(jwt)) {
+                verifiedTokens.put(digest, jwt);
+            }
+            return jwt;
+        } finally {
+            record(verifiedDecodeTimer, start);
+        }
+    }
+
+    private static Timer decodeTimer(MeterRegistry meterRegistry, String cacheResult) {
+        return Timer.builder("security.jwt.decode")
+                .description("Bearer token decoding, including signature verification on a cache miss")
+                .tag("cache", cacheResult)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static void record(Timer timer, long start) {
+        if (timer != null) {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private boolean isUnexpired(Jwt jwt) {
+        return jwt.getExpiresAt() != null && clock.instant().isBefore(jwt.getExpiresAt());
+    }
+
+    private Duration timeToLive(Jwt jwt) {
+        Instant expiresAt = jwt.getExpiresAt();
+        Duration remaining = Duration.between(clock.instant(), expiresAt);
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.julienprr.eventmanager.user_service.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns the Keycloak realm roles of a token ({@code realm_access.roles}) into ROLE_ authorities.
+ * Tokens carrying the same roles share one immutable authority list.
+ */
+public class RealmRolesAuthoritiesConverter implements Converter<Jwt, Collection<GrantedAuthority>> {
+
+    private static final String REALM_ROLES_CLAIM = "realm_access";
+    private static final String REALM_ROLES_KEY = "roles";
+
+    private final Cache<List<String>, List<GrantedAuthority>> authoritiesByRoles = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .build();
+
+    @Override
+    public Collection<GrantedAuthority> convert(Jwt jwt) {
+        var realmAccess = (Map<String, Object>) jwt.getClaims().get(REALM_ROLES_CLAIM);
+        if (realmAccess == null) {
+            return List.of();
+        }
+        var roleClaim = (Collection<String>) realmAccess.get(REALM_ROLES_KEY);
+        if (roleClaim == null) {
+            return List.of();
+        }
+        List<String> roles = roleClaim instanceof List<String> list ? list : List.copyOf(roleClaim);
+
+        List<GrantedAuthority> authorities = authoritiesByRoles.getIfPresent(roles);
+        if (authorities == null) {
+            authorities = toAuthorities(roles);
+            authoritiesByRoles.put(List.copyOf(roles), authorities);
+        }
+        return authorities;
+    }
+
+    private static List<GrantedAuthority> toAuthorities(Collection<String> roles) {
+        var authorities = new ArrayList<GrantedAuthority>(roles.size());
+        roles.forEach(r -> authorities.add(new SimpleGrantedAuthority("ROLE_" + r)));
+        return List.copyOf(authorities);
+    }
+}
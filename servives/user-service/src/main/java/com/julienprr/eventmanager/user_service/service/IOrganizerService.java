@@ -0,0 +1,23 @@
+package com.julienprr.eventmanager.user_service.service;
+
+import com.julienprr.eventmanager.user_service.dto.organizer.OrganizerRequest;
+import com.julienprr.eventmanager.user_service.model.Organizer;
+
+import java.util.List;
+
+public interface IOrganizerService {
+
+    Organizer createOrganizer(OrganizerRequest request, String createdBy);
+
+    List<Organizer> getOrganizers();
+
+    Organizer getOrganizerById(Long organizerId);
+
+    Organizer updateOrganizer(Long organizerId, OrganizerRequest request);
+
+    Organizer changeOrganizerVerification(Long organizerId, boolean verified);
+
+    void deleteOrganizer(Long organizerId);
+
+    OrganizerDirectory.Listing getVerifiedOrganizers(String city, String country);
+}
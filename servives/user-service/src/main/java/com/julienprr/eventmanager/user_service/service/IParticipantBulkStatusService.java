@@ -0,0 +1,9 @@
+package com.julienprr.eventmanager.user_service.service;
+
+import com.julienprr.eventmanager.user_service.dto.participant.BulkChangeParticipantStatusReport;
+import com.julienprr.eventmanager.user_service.dto.participant.BulkChangeParticipantStatusRequest;
+
+public interface IParticipantBulkStatusService {
+
+    BulkChangeParticipantStatusReport changeParticipantStatuses(BulkChangeParticipantStatusRequest request);
+}
@@ -0,0 +1,14 @@
+package com.julienprr.eventmanager.user_service.service;
+
+import com.julienprr.eventmanager.user_service.model.ParticipantStatus;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+public interface IParticipantExportService {
+
+    long exportParticipants(ParticipantStatus status, String country, LocalDateTime createdFrom,
+                            LocalDateTime createdTo, ParticipantExportFormat format,
+                            OutputStream output) throws IOException;
+}
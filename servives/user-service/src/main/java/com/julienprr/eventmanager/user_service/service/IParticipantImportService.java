@@ -0,0 +1,10 @@
+package com.julienprr.eventmanager.user_service.service;
+
+import com.julienprr.eventmanager.user_service.dto.participant.ParticipantImportReport;
+
+import java.io.InputStream;
+
+public interface IParticipantImportService {
+
+    ParticipantImportReport importParticipants(InputStream input, ParticipantImportFormat format);
+}
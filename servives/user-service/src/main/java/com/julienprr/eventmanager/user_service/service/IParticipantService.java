@@ -1,24 +1,49 @@
 package com.julienprr.eventmanager.user_service.service;
 
+import com.julienprr.eventmanager.user_service.dto.participant.ParticipantChangeResponse;
 import com.julienprr.eventmanager.user_service.dto.participant.ParticipantSignupRequest;
 import com.julienprr.eventmanager.user_service.model.Participant;
+import com.julienprr.eventmanager.user_service.model.ParticipantStatus;
+import com.julienprr.eventmanager.user_service.repository.ParticipantProfileView;
+import com.julienprr.eventmanager.user_service.repository.ParticipantPublicProfileView;
+import com.julienprr.eventmanager.user_service.repository.ParticipantVersion;
 import com.julienprr.eventmanager.user_service.dto.participant.ChangeParticipantStatusRequest;
 import com.julienprr.eventmanager.user_service.dto.participant.UpdateNotificationSettingsRequest;
 import com.julienprr.eventmanager.user_service.dto.participant.UpdateParticipantProfileRequest;
 
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 public interface IParticipantService {
 
 
-    Participant createParticipant(ParticipantSignupRequest request);
+    CompletableFuture<Participant> createParticipant(ParticipantSignupRequest request);
+
+    Window<Participant> getParticipants(ParticipantStatus status, String country, String cursor, int size);
 
-    List<Participant> getAllParticipants();
+    void streamPublicProfiles(Consumer<ParticipantChangeResponse> consumer);
+
+    Slice<Participant> searchParticipants(String query, int page, int size);
 
     Participant getParticipantById(Long participantId);
 
     Participant getParticipantByEmail(String email);
 
+    ParticipantVersion getParticipantVersionById(Long participantId);
+
+    ParticipantVersion getParticipantVersionByEmail(String email);
+
+    ParticipantPublicProfileView getPublicProfileById(Long participantId, long currentVersion);
+
+    ParticipantProfileView getProfileByEmail(String email, long currentVersion);
+
+    Map<Long, ParticipantPublicProfileView> getPublicProfilesByIds(List<Long> participantIds);
+
     Participant updateParticipantProfile(Long participantId, UpdateParticipantProfileRequest request);
 
     Participant updateParticipantProfileByEmail(String email, UpdateParticipantProfileRequest request);
@@ -0,0 +1,94 @@
+package com.julienprr.eventmanager.user_service.service;
+
+import com.julienprr.eventmanager.user_service.repository.ParticipantJdbcRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records when participants were last seen and writes it to {@code last_login_at} in batches.
+ * <p>
+ * Requests only touch an in-memory map that keeps the newest time per email, so a participant
+ * costs at most one row update per flush, however many requests they make in between. The
+ * column is allowed to lag by one flush interval; a flush that fails puts its times back for
+ * the next one, and whatever is pending when the application stops is flushed on shutdown.
+ */
+@Slf4j
+public class LastLoginTracker {
+
+    private final ParticipantJdbcRepository participantJdbcRepository;
+    private final ParticipantCache participantCache;
+    private final int batchSize;
+    private final Clock clock;
+    private final ConcurrentHashMap<String, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    public LastLoginTracker(ParticipantJdbcRepository participantJdbcRepository,
+                            ParticipantCache participantCache,
+                            int batchSize,
+                            Clock clock) {
+        this.participantJdbcRepository = participantJdbcRepository;
+        this.participantCache = participantCache;
+        this.batchSize = batchSize;
+        this.clock = clock;
+    }
+
+    public LastLoginTracker monitor(MeterRegistry meterRegistry) {
+        Gauge.builder("participant.last-login.pending", pending, Map::size)
+                .description("Participants whose last login time is waiting to be written")
+                .register(meterRegistry);
+        return this;
+    }
+
+    public void record(String email) {
+        pending.merge(email, LocalDateTime.now(clock), LastLoginTracker::latest);
+    }
+
+    @Scheduled(fixedDelayString = "${last-login.flush-interval:30s}")
+    @PreDestroy
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        // Removing entry by entry lets requests keep recording while the batch is written
+        Map<String, LocalDateTime> batch = new LinkedHashMap<>();
+        for (String email : pending.keySet()) {
+            LocalDateTime lastLoginAt = pending.remove(email);
+            if (lastLoginAt != null) {
+                batch.put(email, lastLoginAt);
+            }
+            if (batch.size() == batchSize) {
+                write(batch);
+                batch = new LinkedHashMap<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    private void write(Map<String, LocalDateTime> batch) {
+        try {
+            int updated = participantJdbcRepository.updateLastLoginAt(batch);
+            batch.forEach(participantCache::refreshLastLoginAt);
+            log.debug("Wrote the last login time of {} participants, {} rows changed", batch.size(), updated);
+        } catch (DataAccessException e) {
+            batch.forEach((email, lastLoginAt) -> pending.merge(email, lastLoginAt, LastLoginTracker::latest));
+            log.warn("Could not write the last login time of {} participants, retrying on the next flush", batch.size(), e);
+        }
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
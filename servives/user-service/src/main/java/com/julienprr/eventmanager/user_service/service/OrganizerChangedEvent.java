@@ -0,0 +1,8 @@
+package com.julienprr.eventmanager.user_service.service;
+
+/**
+ * Published when an organizer is created, changed or deleted; the directory picks it up once the
+ * transaction has committed.
+ */
+public record OrganizerChangedEvent(Long organizerId) {
+}
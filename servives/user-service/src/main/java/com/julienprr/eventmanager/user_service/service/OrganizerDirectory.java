@@ -0,0 +1,223 @@
+package com.julienprr.eventmanager.user_service.service;
+
+import com.julienprr.eventmanager.user_service.dto.organizer.OrganizerDirectoryEntry;
+import com.julienprr.eventmanager.user_service.repository.OrganizerRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * In-memory listing of verified organizers, so that the public directory never queries the table.
+ * <p>
+ * Readers get an immutable snapshot in which every listing they can ask for (all organizers, by
+ * country, by city, by both) is already sorted and has its ETag. A committed change replaces the
+ * snapshot with one where only the listings the organizer was or is now in are rebuilt. The whole
+ * snapshot is also reloaded periodically, which picks up changes committed by other instances.
+ */
+@Component
+@Slf4j
+public class OrganizerDirectory {
+
+    private static final Comparator<OrganizerDirectoryEntry> ORDER = Comparator
+            .comparing(OrganizerDirectoryEntry::name, String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(OrganizerDirectoryEntry::id);
+
+    private final OrganizerRepository organizerRepository;
+    private volatile Snapshot snapshot = Snapshot.of(List.of());
+
+    public OrganizerDirectory(OrganizerRepository organizerRepository, MeterRegistry meterRegistry) {
+        this.organizerRepository = organizerRepository;
+        Gauge.builder("organizer.directory.size", this, directory -> directory.snapshot.byId.size())
+                .description("Verified organizers listed in the public directory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Verified organizers in the given city and country, by name. Either filter may be null;
+     * both are matched ignoring case and surrounding spaces.
+     */
+    public Listing list(String city, String country) {
+        Snapshot current = snapshot;
+        String cityKey = key(city);
+        String countryKey = key(country);
+        Map<String, Listing> index;
+        String indexKey;
+        if (cityKey == null && countryKey == null) {
+            return current.all;
+        } else if (cityKey == null) {
+            index = current.byCountry;
+            indexKey = countryKey;
+        } else if (countryKey == null) {
+            index = current.byCity;
+            indexKey = cityKey;
+        } else {
+            index = current.byLocation;
+            indexKey = locationKey(countryKey, cityKey);
+        }
+        return index.getOrDefault(indexKey, Listing.EMPTY);
+    }
+
+    // The first run, right after startup, loads the directory. Reads go to the primary, as the
+    // snapshot must not fall behind changes already applied from a replica that lags
+    @Scheduled(fixedDelayString = "${organizer-directory.refresh-interval:5m}")
+    @Transactional
+    public synchronized void refresh() {
+        snapshot = Snapshot.of(organizerRepository.findDirectoryEntries());
+        log.debug("Organizer directory reloaded with {} verified organizers", snapshot.byId.size());
+    }
+
+    // Reads the committed state rather than trusting the event order, so concurrent changes of
+    // the same organizer cannot leave the older one in place
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public synchronized void onOrganizerChanged(OrganizerChangedEvent event) {
+        OrganizerDirectoryEntry entry = organizerRepository.findDirectoryEntryById(event.organizerId()).orElse(null);
+        snapshot = snapshot.with(event.organizerId(), entry);
+    }
+
+    private static String key(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static String locationKey(String countryKey, String cityKey) {
+        return countryKey + '\n' + cityKey;
+    }
+
+    private static String countryKey(OrganizerDirectoryEntry entry) {
+        return key(entry.country());
+    }
+
+    private static String cityKey(OrganizerDirectoryEntry entry) {
+        return key(entry.city());
+    }
+
+    private static String locationKey(OrganizerDirectoryEntry entry) {
+        String countryKey = countryKey(entry);
+        String cityKey = cityKey(entry);
+        return countryKey == null || cityKey == null ? null : locationKey(countryKey, cityKey);
+    }
+
+    /**
+     * Organizers of one listing, by name, with an ETag derived from their content: identical on
+     * every instance holding the same organizers, whatever order the changes reached it in.
+     */
+    public record Listing(List<OrganizerDirectoryEntry> organizers, String etag) {
+
+        static final Listing EMPTY = Listing.of(List.of());
+
+        static Listing of(List<OrganizerDirectoryEntry> sorted) {
+            String etag = DigestUtils.md5DigestAsHex(sorted.toString().getBytes(StandardCharsets.UTF_8));
+            return new Listing(Collections.unmodifiableList(sorted), etag);
+        }
+
+        // A copy of this listing without the previous entry and with the new one, either may be null
+        Listing replace(OrganizerDirectoryEntry previous, OrganizerDirectoryEntry entry) {
+            List<OrganizerDirectoryEntry> changed = new ArrayList<>(organizers);
+            if (previous != null) {
+                changed.remove(previous);
+            }
+            if (entry != null) {
+                int position = Collections.binarySearch(changed, entry, ORDER);
+                changed.add(position < 0 ? -position - 1 : position, entry);
+            }
+            return Listing.of(changed);
+        }
+    }
+
+    private record Snapshot(Map<Long, OrganizerDirectoryEntry> byId,
+                            Listing all,
+                            Map<String, Listing> byCountry,
+                            Map<String, Listing> byCity,
+                            Map<String, Listing> byLocation) {
+
+        static Snapshot of(List<OrganizerDirectoryEntry> entries) {
+            List<OrganizerDirectoryEntry> sorted = new ArrayList<>(entries);
+            sorted.sort(ORDER);
+            Map<Long, OrganizerDirectoryEntry> byId = new HashMap<>();
+            sorted.forEach(entry -> byId.put(entry.id(), entry));
+            return new Snapshot(byId, Listing.of(sorted),
+                    index(sorted, OrganizerDirectory::countryKey),
+                    index(sorted, OrganizerDirectory::cityKey),
+                    index(sorted, OrganizerDirectory::locationKey));
+        }
+
+        private static Map<String, Listing> index(List<OrganizerDirectoryEntry> sorted,
+                                                  Function<OrganizerDirectoryEntry, String> key) {
+            Map<String, List<OrganizerDirectoryEntry>> grouped = new HashMap<>();
+            for (OrganizerDirectoryEntry entry : sorted) {
+                String value = key.apply(entry);
+                if (value != null) {
+                    grouped.computeIfAbsent(value, k -> new ArrayList<>()).add(entry);
+                }
+            }
+            Map<String, Listing> index = new HashMap<>();
+            grouped.forEach((value, group) -> index.put(value, Listing.of(group)));
+            return index;
+        }
+
+        // Null entry: the organizer is no longer listed, either deleted or not verified anymore
+        Snapshot with(Long organizerId, OrganizerDirectoryEntry entry) {
+            OrganizerDirectoryEntry previous = byId.get(organizerId);
+            if (Objects.equals(previous, entry)) {
+                return this;
+            }
+            Map<Long, OrganizerDirectoryEntry> changedById = new HashMap<>(byId);
+            if (entry == null) {
+                changedById.remove(organizerId);
+            } else {
+                changedById.put(organizerId, entry);
+            }
+            return new Snapshot(changedById, all.replace(previous, entry),
+                    reindex(byCountry, previous, entry, OrganizerDirectory::countryKey),
+                    reindex(byCity, previous, entry, OrganizerDirectory::cityKey),
+                    reindex(byLocation, previous, entry, OrganizerDirectory::locationKey));
+        }
+
+        // Copies the index, rebuilding only the listings the entry leaves and joins
+        private static Map<String, Listing> reindex(Map<String, Listing> index, OrganizerDirectoryEntry previous,
+                                                    OrganizerDirectoryEntry entry,
+                                                    Function<OrganizerDirectoryEntry, String> key) {
+            String previousKey = previous == null ? null : key.apply(previous);
+            String newKey = entry == null ? null : key.apply(entry);
+            Map<String, Listing> changed = new HashMap<>(index);
+            if (previousKey != null && !previousKey.equals(newKey)) {
+                update(changed, previousKey, previous, null);
+                previous = null;
+            }
+            if (newKey != null) {
+                update(changed, newKey, previous, entry);
+            }
+            return changed;
+        }
+
+        private static void update(Map<String, Listing> index, String key,
+                                   OrganizerDirectoryEntry previous, OrganizerDirectoryEntry entry) {
+            Listing listing = index.getOrDefault(key, Listing.EMPTY).replace(previous, entry);
+            if (listing.organizers().isEmpty()) {
+                index.remove(key);
+            } else {
+                index.put(key, listing);
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.julienprr.eventmanager.user_service.service;
+
+import com.julienprr.eventmanager.user_service.dto.organizer.OrganizerRequest;
+import com.julienprr.eventmanager.user_service.exception.EmailAlreadyUsedException;
+import com.julienprr.eventmanager.user_service.exception.ResourceNotFoundException;
+import com.julienprr.eventmanager.user_service.model.Organizer;
+import com.julienprr.eventmanager.user_service.repository.OrganizerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrganizerService implements IOrganizerService {
+
+    private final OrganizerRepository organizerRepository;
+    private final OrganizerDirectory organizerDirectory;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public Organizer createOrganizer(OrganizerRequest request, String createdBy) {
+        checkEmailAvailable(request.getEmailContact(), null);
+        Organizer organizer = new Organizer();
+        apply(request, organizer);
+        organizer.setCreatedBy(createdBy);
+        Organizer saved = save(organizer);
+        log.info("Organizer {} created by {}", saved.getId(), createdBy);
+        return saved;
+    }
+
+    @Override
+    public List<Organizer> getOrganizers() {
+        return organizerRepository.findAllByOrderByNameAsc();
+    }
+
+    @Override
+    public Organizer getOrganizerById(Long organizerId) {
+        return organizerRepository.findById(organizerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Organizer not found"));
+    }
+
+    @Override
+    @Transactional
+    public Organizer updateOrganizer(Long organizerId, OrganizerRequest request) {
+        Organizer organizer = getOrganizerById(organizerId);
+        checkEmailAvailable(request.getEmailContact(), organizerId);
+        apply(request, organizer);
+        return save(organizer);
+    }
+
+    @Override
+    @Transactional
+    public Organizer changeOrganizerVerification(Long organizerId, boolean verified) {
+        Organizer organizer = getOrganizerById(organizerId);
+        organizer.setVerified(verified);
+        return save(organizer);
+    }
+
+    @Override
+    @Transactional
+    public void deleteOrganizer(Long organizerId) {
+        organizerRepository.delete(getOrganizerById(organizerId));
+        eventPublisher.publishEvent(new OrganizerChangedEvent(organizerId));
+    }
+
+    // Served from memory: public traffic never reaches the table
+    @Override
+    public OrganizerDirectory.Listing getVerifiedOrganizers(String city, String country) {
+        return organizerDirectory.list(city, country);
+    }
+
+    private void checkEmailAvailable(String emailContact, Long organizerId) {
+        organizerRepository.findByEmailContact(emailContact)
+                .filter(existing -> !existing.getId().equals(organizerId))
+                .ifPresent(existing -> {
+                    throw new EmailAlreadyUsedException(emailContact);
+                });
+    }
+
+    // Flushes so that an email taken concurrently fails here, as a 409, rather than at commit
+    private Organizer save(Organizer organizer) {
+        Organizer saved;
+        try {
+            saved = organizerRepository.saveAndFlush(organizer);
+        } catch (DataIntegrityViolationException e) {
+            throw new EmailAlreadyUsedException(organizer.getEmailContact());
+        }
+        eventPublisher.publishEvent(new OrganizerChangedEvent(saved.getId()));
+        return saved;
+    }
+
+    private static void apply(OrganizerRequest request, Organizer organizer) {
+        organizer.setName(request.getName());
+        organizer.setDescription(request.getDescription());
+        organizer.setEmailContact(request.getEmailContact());
+        organizer.setPhoneContact(request.getPhoneContact());
+        organizer.setWebsite(request.getWebsite());
+        organizer.setAddress(request.getAddress());
+        organizer.setCity(request.getCity());
+        organizer.setCountry(request.getCountry());
+        organizer.setLogoUrl(request.getLogoUrl());
+        organizer.setBannerUrl(request.getBannerUrl());
+    }
+}
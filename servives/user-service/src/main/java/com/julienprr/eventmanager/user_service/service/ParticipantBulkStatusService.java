@@ -0,0 +1,114 @@
+package com.julienprr.eventmanager.user_service.service;
+
+import com.julienprr.eventmanager.user_service.config.ParticipantBulkStatusProperties;
+import com.julienprr.eventmanager.user_service.dto.participant.BulkChangeParticipantStatusReport;
+import com.julienprr.eventmanager.user_service.dto.participant.BulkChangeParticipantStatusRequest;
+import com.julienprr.eventmanager.user_service.model.Participant;
+import com.julienprr.eventmanager.user_service.model.ParticipantChangeType;
+import com.julienprr.eventmanager.user_service.repository.ParticipantJdbcRepository;
+import com.julienprr.eventmanager.user_service.repository.ParticipantOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Changes the status of many participants with one UPDATE per chunk, each chunk committed in its
+ * own transaction together with its change feed entries. Row locks are therefore held for one
+ * chunk only, and a failure leaves the chunks already committed in place.
+ * <p>
+ * A chunk of ids costs four round trips: the UPDATE, the change feed insert, the count of the
+ * ids that exist and the commit. A chunk of a filter run skips the count, and the run ends with
+ * one more UPDATE that finds nothing left to change.
+ */
+@Service
+@Slf4j
+public class ParticipantBulkStatusService implements IParticipantBulkStatusService {
+
+    private final ParticipantJdbcRepository participantJdbcRepository;
+    private final ParticipantOutboxRepository participantOutboxRepository;
+    private final ParticipantCache participantCache;
+    private final TransactionOperations transactionOperations;
+    private final SecondLevelCacheEvictor secondLevelCacheEvictor;
+    private final int chunkSize;
+
+    public ParticipantBulkStatusService(ParticipantJdbcRepository participantJdbcRepository,
+                                        ParticipantOutboxRepository participantOutboxRepository,
+                                        ParticipantCache participantCache,
+                                        TransactionOperations transactionOperations,
+                                        SecondLevelCacheEvictor secondLevelCacheEvictor,
+                                        ParticipantBulkStatusProperties properties) {
+        this.participantJdbcRepository = participantJdbcRepository;
+        this.participantOutboxRepository = participantOutboxRepository;
+        this.participantCache = participantCache;
+        this.transactionOperations = transactionOperations;
+        this.secondLevelCacheEvictor = secondLevelCacheEvictor;
+        this.chunkSize = properties.chunkSize();
+    }
+
+    @Override
+    public BulkChangeParticipantStatusReport changeParticipantStatuses(BulkChangeParticipantStatusRequest request) {
+        BulkChangeParticipantStatusReport report = request.getIds() != null
+                ? changeByIds(request)
+                : changeMatching(request);
+        log.info("Bulk status change to {}: {} changed, {} unchanged, {} missing", request.getStatus(),
+                report.getAffectedCount(), report.getUnchangedCount(), report.getMissingCount());
+        return report;
+    }
+
+    private BulkChangeParticipantStatusReport changeByIds(BulkChangeParticipantStatusRequest request) {
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(request.getIds()));
+        long affected = 0;
+        long found = 0;
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            IdChunk result = transactionOperations.execute(status -> {
+                List<Participant> updated = participantJdbcRepository.updateStatusByIds(chunk, request.getStatus());
+                recordChanges(updated);
+                return new IdChunk(updated, participantJdbcRepository.countByIds(chunk));
+            });
+            refreshCaches(result.changed());
+            affected += result.changed().size();
+            found += result.found();
+        }
+        return new BulkChangeParticipantStatusReport(affected, found - affected, ids.size() - found);
+    }
+
+    // Walks the matching participants by id, so each chunk starts where the previous one ended
+    private BulkChangeParticipantStatusReport changeMatching(BulkChangeParticipantStatusRequest request) {
+        long affected = 0;
+        long afterId = 0;
+        List<Participant> changed;
+        do {
+            long chunkAfterId = afterId;
+            changed = transactionOperations.execute(status -> {
+                List<Participant> updated = participantJdbcRepository.updateStatusMatching(request.getStatus(),
+                        request.getCurrentStatus(), request.getCountry(), request.getCreatedFrom(),
+                        request.getCreatedTo(), chunkAfterId, chunkSize);
+                recordChanges(updated);
+                return updated;
+            });
+            refreshCaches(changed);
+            affected += changed.size();
+            afterId = changed.stream().mapToLong(Participant::getId).max().orElse(afterId);
+        } while (!changed.isEmpty());
+        return new BulkChangeParticipantStatusReport(affected, 0, 0);
+    }
+
+    private void recordChanges(List<Participant> updated) {
+        participantOutboxRepository.appendAllByIds(ParticipantChangeType.STATUS_CHANGED,
+                updated.stream().map(Participant::getId).toList());
+    }
+
+    // Called once the chunk is committed
+    private void refreshCaches(List<Participant> changed) {
+        changed.forEach(participantCache::refreshIfPresent);
+        secondLevelCacheEvictor.evictParticipants(changed.stream().map(Participant::getId).toList());
+    }
+
+    // Participants changed in a chunk of ids, and how many of its ids exist
+    private record IdChunk(List<Participant> changed, long found) {
+    }
+}
@@ -0,0 +1,126 @@
+package com.julienprr.eventmanager.user_service.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.julienprr.eventmanager.user_service.config.ParticipantCacheProperties;
+import com.julienprr.eventmanager.user_service.model.Participant;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded in-memory cache of participants, reachable by id and by email.
+ * <p>
+ * Participants are stored once, by id. The email side only remembers which id an email belongs
+ * to, which never changes, so a write only has to refresh the id entry. Writers must call
+ * {@link #put(Participant)} with the saved participant rather than evicting: a put cannot be
+ * overtaken by a concurrent reader storing the row it loaded before the write.
+ * <p>
+ * Nothing served from the cache needs the password hash, so entries are stored without it and
+ * it is not kept in memory for as long as they live.
+ */
+@Component
+public class ParticipantCache {
+
+    private final Cache<Long, Participant> participantsById;
+    private final Cache<String, Long> idsByEmail;
+
+    public ParticipantCache(ParticipantCacheProperties properties, MeterRegistry meterRegistry) {
+        this.participantsById = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.expireAfterWrite())
+                .recordStats()
+                .build();
+        this.idsByEmail = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.expireAfterWrite())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, participantsById, "participants-by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, idsByEmail, "participants-by-email");
+    }
+
+    public Participant getById(Long participantId, Function<Long, Participant> loader) {
+        return participantsById.get(participantId, id -> withoutPassword(loader.apply(id)));
+    }
+
+    public Participant getByEmail(String email, Supplier<Participant> loader) {
+        Long participantId = idsByEmail.getIfPresent(email);
+        if (participantId != null) {
+            Participant cached = participantsById.getIfPresent(participantId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        Participant loaded = withoutPassword(loader.get());
+        idsByEmail.put(loaded.getEmail(), loaded.getId());
+        // Keeps the entry a concurrent writer may have refreshed meanwhile
+        return participantsById.get(loaded.getId(), id -> loaded);
+    }
+
+    public Participant getIfPresentById(Long participantId) {
+        return participantsById.getIfPresent(participantId);
+    }
+
+    public Participant getIfPresentByEmail(String email) {
+        Long participantId = idsByEmail.getIfPresent(email);
+        return participantId == null ? null : participantsById.getIfPresent(participantId);
+    }
+
+    /**
+     * The cached participant if it has the given version, read from the database. An older entry
+     * is dropped: another instance changed the participant since, and this cache was not told.
+     */
+    public Participant getIfCurrentById(Long participantId, long version) {
+        Participant cached = participantsById.getIfPresent(participantId);
+        if (cached == null || cached.getVersion() == null || cached.getVersion() > version) {
+            return null;
+        }
+        if (cached.getVersion() < version) {
+            // Only if unchanged, so that a newer participant put meanwhile stays
+            participantsById.asMap().remove(participantId, cached);
+            return null;
+        }
+        return cached;
+    }
+
+    public Participant getIfCurrentByEmail(String email, long version) {
+        Long participantId = idsByEmail.getIfPresent(email);
+        return participantId == null ? null : getIfCurrentById(participantId, version);
+    }
+
+    // Replaces the cached participant with a copy rather than changing the instance readers may hold
+    public void refreshLastLoginAt(String email, LocalDateTime lastLoginAt) {
+        Long participantId = idsByEmail.getIfPresent(email);
+        if (participantId == null) {
+            return;
+        }
+        participantsById.asMap().computeIfPresent(participantId, (id, cached) ->
+                cached.getLastLoginAt() != null && !cached.getLastLoginAt().isBefore(lastLoginAt)
+                        ? cached
+                        : cached.toBuilder().lastLoginAt(lastLoginAt).build());
+    }
+
+    /**
+     * Replaces the participant if it is cached, without caching it otherwise, so that a bulk
+     * change does not push the frequently read participants out. Call it after the change is
+     * committed: a reader loading the participant meanwhile then stores the changed row.
+     */
+    public void refreshIfPresent(Participant participant) {
+        participantsById.asMap().computeIfPresent(participant.getId(), (id, cached) -> withoutPassword(participant));
+    }
+
+    public void put(Participant participant) {
+        participantsById.put(participant.getId(), withoutPassword(participant));
+        idsByEmail.put(participant.getEmail(), participant.getId());
+    }
+
+    // A copy, so that a managed entity handed in keeps its hash
+    private static Participant withoutPassword(Participant participant) {
+        return participant.getPassword() == null ? participant : participant.toBuilder().password(null).build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.julienprr.eventmanager.user_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.julienprr.eventmanager.user_service.model.ParticipantStatus;
+import com.julienprr.eventmanager.user_service.repository.ParticipantJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+
+/**
+ * Writes participants out as they come off a server-side cursor, so an export holds one fetch
+ * of rows and the writer's buffer in memory whatever the size of the table.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ParticipantExportService implements IParticipantExportService {
+
+    private final ParticipantJdbcRepository participantJdbcRepository;
+    private final ObjectMapper objectMapper;
+
+    // The transaction is what lets the Postgres driver honour the fetch size
+    @Override
+    @Transactional(readOnly = true)
+    public long exportParticipants(ParticipantStatus status, String country, LocalDateTime createdFrom,
+                                   LocalDateTime createdTo, ParticipantExportFormat format,
+                                   OutputStream output) throws IOException {
+        long[] rows = {0};
+        try (ParticipantExportWriter writer = new ParticipantExportWriter(output, format, objectMapper)) {
+            participantJdbcRepository.forEachExportRow(status, country, createdFrom, createdTo, row -> {
+                try {
+                    writer.write(row);
+                    rows[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        log.info("Participant export finished: {} rows as {}", rows[0], format);
+        return rows[0];
+    }
+}
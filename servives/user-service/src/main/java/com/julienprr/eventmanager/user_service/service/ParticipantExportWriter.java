@@ -0,0 +1,106 @@
+package com.julienprr.eventmanager.user_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.julienprr.eventmanager.user_service.dto.participant.ParticipantExportRow;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes export rows to a stream, one line per participant.
+ * <p>
+ * NDJSON rows are the JSON form of {@link ParticipantExportRow}. CSV files start with a header
+ * naming the same properties; fields holding a comma, quote or line break are double-quoted, and
+ * text starting like a spreadsheet formula is prefixed with a quote so it is shown, not evaluated.
+ * Output is only flushed when the buffers fill up and on close.
+ */
+class ParticipantExportWriter implements AutoCloseable {
+
+    static final String CSV_HEADER = "id,firstname,lastname,email,avatarUrl,bio,city,country,status,"
+            + "createdAt,updatedAt,lastLoginAt,emailNotificationsEnabled,smsNotificationsEnabled";
+
+    private final SequenceWriter json;
+    private final Writer csv;
+    private final StringBuilder line = new StringBuilder(256);
+
+    ParticipantExportWriter(OutputStream output, ParticipantExportFormat format, ObjectMapper objectMapper) throws IOException {
+        if (format == ParticipantExportFormat.NDJSON) {
+            this.json = objectMapper.writerFor(ParticipantExportRow.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .withRootValueSeparator("\n")
+                    .writeValues(output);
+            this.csv = null;
+        } else {
+            this.json = null;
+            this.csv = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 64 * 1024);
+            csv.write(CSV_HEADER);
+            csv.write('\n');
+        }
+    }
+
+    void write(ParticipantExportRow row) throws IOException {
+        if (json != null) {
+            json.write(row);
+            return;
+        }
+        line.setLength(0);
+        line.append(row.getId()).append(',');
+        appendText(row.getFirstname()).append(',');
+        appendText(row.getLastname()).append(',');
+        appendText(row.getEmail()).append(',');
+        appendText(row.getAvatarUrl()).append(',');
+        appendText(row.getBio()).append(',');
+        appendText(row.getCity()).append(',');
+        appendText(row.getCountry()).append(',');
+        appendValue(row.getStatus()).append(',');
+        appendValue(row.getCreatedAt()).append(',');
+        appendValue(row.getUpdatedAt()).append(',');
+        appendValue(row.getLastLoginAt()).append(',');
+        line.append(row.isEmailNotificationsEnabled()).append(',');
+        line.append(row.isSmsNotificationsEnabled()).append('\n');
+        csv.append(line);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (json != null) {
+            json.close();
+        } else {
+            csv.close();
+        }
+    }
+
+    private StringBuilder appendValue(Object value) {
+        return value == null ? line : line.append(value);
+    }
+
+    private StringBuilder appendText(String value) {
+        if (value == null || value.isEmpty()) {
+            return line;
+        }
+        boolean formula = "=+-@\t\r".indexOf(value.charAt(0)) >= 0;
+        boolean quoted = formula || value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quoted) {
+            return line.append(value);
+        }
+        line.append('"');
+        if (formula) {
+            line.append('\'');
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        return line.append('"');
+    }
+}
@@ -0,0 +1,5 @@
+package com.julienprr.eventmanager.user_service.service;
+
+public enum ParticipantImportFormat {
+    NDJSON, CSV
+}
@@ -0,0 +1,147 @@
+package com.julienprr.eventmanager.user_service.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.julienprr.eventmanager.user_service.dto.participant.ParticipantSignupRequest;
+import com.julienprr.eventmanager.user_service.exception.InvalidImportFileException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads an import file one row at a time, so the upload is never held in memory as a whole.
+ * <p>
+ * NDJSON rows are signup requests, one JSON object per line. CSV files start with a header
+ * naming the firstname, lastname, email and password columns, in any order; fields may be
+ * double-quoted, with "" as an escaped quote.
+ */
+class ParticipantImportReader implements AutoCloseable {
+
+    record Row(long line, ParticipantSignupRequest request, String error) {
+    }
+
+    private static final List<String> CSV_COLUMNS = List.of("firstname", "lastname", "email", "password");
+
+    private final BufferedReader reader;
+    private final ParticipantImportFormat format;
+    private final ObjectMapper objectMapper;
+    private final int[] csvColumnIndexes = new int[CSV_COLUMNS.size()];
+    private long line;
+
+    ParticipantImportReader(InputStream input, ParticipantImportFormat format, ObjectMapper objectMapper) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+        if (format == ParticipantImportFormat.CSV) {
+            readCsvHeader();
+        }
+    }
+
+    /**
+     * Returns the next non-blank row, or null at the end of the file.
+     */
+    Row next() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            if (text == null) {
+                return null;
+            }
+            line++;
+        } while (text.isBlank());
+
+        return format == ParticipantImportFormat.NDJSON ? parseJson(text) : parseCsv(text);
+    }
+
+    // A line holding another JSON value, such as null or an array, is a malformed row rather than an empty request
+    private Row parseJson(String text) {
+        try {
+            JsonNode node = objectMapper.readTree(text);
+            if (!node.isObject()) {
+                return new Row(line, null, "Malformed JSON: expected an object");
+            }
+            return new Row(line, objectMapper.treeToValue(node, ParticipantSignupRequest.class), null);
+        } catch (JsonProcessingException e) {
+            return new Row(line, null, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private Row parseCsv(String text) {
+        List<String> fields = splitCsv(text);
+        if (fields == null) {
+            return new Row(line, null, "Malformed CSV: unterminated quote");
+        }
+        String[] values = new String[CSV_COLUMNS.size()];
+        for (int i = 0; i < values.length; i++) {
+            int index = csvColumnIndexes[i];
+            values[i] = index < fields.size() ? emptyToNull(fields.get(index)) : null;
+        }
+        return new Row(line, new ParticipantSignupRequest(values[0], values[1], values[2], values[3]), null);
+    }
+
+    private void readCsvHeader() throws IOException {
+        String header = reader.readLine();
+        line++;
+        List<String> columns = header == null ? null : splitCsv(header);
+        if (columns == null) {
+            throw new InvalidImportFileException("CSV import requires a header line");
+        }
+        List<String> normalized = columns.stream()
+                .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                .toList();
+        for (int i = 0; i < CSV_COLUMNS.size(); i++) {
+            csvColumnIndexes[i] = normalized.indexOf(CSV_COLUMNS.get(i));
+            if (csvColumnIndexes[i] < 0) {
+                throw new InvalidImportFileException("CSV header is missing the " + CSV_COLUMNS.get(i) + " column");
+            }
+        }
+    }
+
+    // Returns null when a quoted field is not closed on the same line
+    private static List<String> splitCsv(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
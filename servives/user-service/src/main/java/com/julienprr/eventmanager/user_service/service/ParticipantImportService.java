@@ -0,0 +1,173 @@
+package com.julienprr.eventmanager.user_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.julienprr.eventmanager.user_service.config.ParticipantImportProperties;
+import com.julienprr.eventmanager.user_service.dto.participant.ParticipantImportRejection;
+import com.julienprr.eventmanager.user_service.dto.participant.ParticipantImportReport;
+import com.julienprr.eventmanager.user_service.dto.participant.ParticipantSignupRequest;
+import com.julienprr.eventmanager.user_service.model.Participant;
+import com.julienprr.eventmanager.user_service.model.ParticipantChangeType;
+import com.julienprr.eventmanager.user_service.model.ParticipantStatus;
+import com.julienprr.eventmanager.user_service.repository.ParticipantJdbcRepository;
+import com.julienprr.eventmanager.user_service.repository.ParticipantOutboxRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Imports partner attendee lists in chunks: each chunk is validated, its passwords are hashed in
+ * parallel, then it is written with a single multi-row INSERT that skips emails already taken.
+ */
+@Service
+@Slf4j
+public class ParticipantImportService implements IParticipantImportService, DisposableBean {
+
+    private final ParticipantJdbcRepository participantJdbcRepository;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final ParticipantOutboxRepository participantOutboxRepository;
+    private final TransactionOperations transactionOperations;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final ExecutorService hashingExecutor;
+
+    public ParticipantImportService(ParticipantJdbcRepository participantJdbcRepository,
+                                    RegisteredEmailFilter registeredEmailFilter,
+                                    ParticipantOutboxRepository participantOutboxRepository,
+                                    TransactionOperations transactionOperations,
+                                    PasswordEncoder passwordEncoder,
+                                    Validator validator,
+                                    ObjectMapper objectMapper,
+                                    ParticipantImportProperties properties) {
+        this.participantJdbcRepository = participantJdbcRepository;
+        this.registeredEmailFilter = registeredEmailFilter;
+        this.participantOutboxRepository = participantOutboxRepository;
+        this.transactionOperations = transactionOperations;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.batchSize = properties.batchSize();
+        this.hashingExecutor = Executors.newFixedThreadPool(properties.hashingThreads(),
+                new CustomizableThreadFactory("participant-import-hashing-"));
+    }
+
+    @Override
+    public ParticipantImportReport importParticipants(InputStream input, ParticipantImportFormat format) {
+        List<ParticipantImportRejection> rejected = new ArrayList<>();
+        List<ParticipantImportRejection> duplicates = new ArrayList<>();
+        Set<String> seenEmails = new HashSet<>();
+        List<ParticipantImportReader.Row> chunk = new ArrayList<>(batchSize);
+        long totalRows = 0;
+        long imported = 0;
+
+        try (ParticipantImportReader reader = new ParticipantImportReader(input, format, objectMapper)) {
+            ParticipantImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                totalRows++;
+                String rejection = rejectionReason(row);
+                if (rejection != null) {
+                    rejected.add(new ParticipantImportRejection(row.line(), emailOf(row), rejection));
+                } else if (!seenEmails.add(row.request().getEmail())) {
+                    duplicates.add(new ParticipantImportRejection(row.line(), row.request().getEmail(), "Duplicate email in file"));
+                } else {
+                    chunk.add(row);
+                    if (chunk.size() == batchSize) {
+                        imported += importChunk(chunk, duplicates);
+                        chunk.clear();
+                    }
+                }
+            }
+            imported += importChunk(chunk, duplicates);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        log.info("Participant import finished: {} rows, {} imported, {} rejected, {} duplicates",
+                totalRows, imported, rejected.size(), duplicates.size());
+        return new ParticipantImportReport(totalRows, imported, rejected, duplicates);
+    }
+
+    private long importChunk(List<ParticipantImportReader.Row> chunk, List<ParticipantImportRejection> duplicates) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        List<CompletableFuture<Participant>> hashing = chunk.stream()
+                .map(row -> CompletableFuture.supplyAsync(() -> toParticipant(row.request()), hashingExecutor))
+                .toList();
+        List<Participant> participants = hashing.stream()
+                .map(CompletableFuture::join)
+                .toList();
+
+        Set<String> inserted = transactionOperations.execute(status -> {
+            Set<String> emails = new HashSet<>(participantJdbcRepository.insertIgnoringDuplicates(participants));
+            participantOutboxRepository.appendAll(ParticipantChangeType.CREATED, emails);
+            return emails;
+        });
+        inserted.forEach(registeredEmailFilter::add);
+        for (ParticipantImportReader.Row row : chunk) {
+            if (!inserted.contains(row.request().getEmail())) {
+                duplicates.add(new ParticipantImportRejection(row.line(), row.request().getEmail(), "Email is already in use"));
+            }
+        }
+        return inserted.size();
+    }
+
+    private Participant toParticipant(ParticipantSignupRequest request) {
+        return Participant.builder()
+                .firstname(request.getFirstname())
+                .lastname(request.getLastname())
+                .email(request.getEmail())
+                .password(passwordEncoder.encode(request.getPassword()))
+                .status(ParticipantStatus.ACTIVE)
+                .build();
+    }
+
+    private String rejectionReason(ParticipantImportReader.Row row) {
+        if (row.error() != null) {
+            return row.error();
+        }
+        ParticipantSignupRequest request = row.request();
+        // @Email and @Size accept null, but both columns are mandatory
+        if (request.getEmail() == null || request.getEmail().isBlank()) {
+            return "email: must not be blank";
+        }
+        if (request.getPassword() == null) {
+            return "password: must not be null";
+        }
+        Set<ConstraintViolation<ParticipantSignupRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String emailOf(ParticipantImportReader.Row row) {
+        return row.request() == null ? null : row.request().getEmail();
+    }
+
+    @Override
+    public void destroy() {
+        hashingExecutor.shutdown();
+    }
+}
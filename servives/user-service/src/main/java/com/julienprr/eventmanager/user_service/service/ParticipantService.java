@@ -1,173 +1,345 @@
 package com.julienprr.eventmanager.user_service.service;
 
+import com.julienprr.eventmanager.user_service.dto.participant.ParticipantChangeResponse;
 import com.julienprr.eventmanager.user_service.dto.participant.ParticipantSignupRequest;
+import com.julienprr.eventmanager.user_service.config.ParticipantSearchProperties;
 import com.julienprr.eventmanager.user_service.exception.EmailAlreadyUsedException;
+import com.julienprr.eventmanager.user_service.exception.InvalidSearchQueryException;
+import com.julienprr.eventmanager.user_service.exception.ParticipantVersionConflictException;
+import com.julienprr.eventmanager.user_service.exception.ParticipantVersionRequiredException;
 import com.julienprr.eventmanager.user_service.exception.ResourceNotFoundException;
 import com.julienprr.eventmanager.user_service.model.Participant;
+import com.julienprr.eventmanager.user_service.model.ParticipantChangeType;
 import com.julienprr.eventmanager.user_service.model.ParticipantStatus;
+import com.julienprr.eventmanager.user_service.repository.ParticipantJdbcRepository;
+import com.julienprr.eventmanager.user_service.repository.ParticipantOutboxRepository;
 import com.julienprr.eventmanager.user_service.repository.ParticipantRepository;
+import com.julienprr.eventmanager.user_service.repository.ParticipantSpecifications;
+import com.julienprr.eventmanager.user_service.repository.ParticipantProfileView;
+import com.julienprr.eventmanager.user_service.repository.ParticipantPublicProfileView;
+import com.julienprr.eventmanager.user_service.repository.ParticipantVersion;
 import com.julienprr.eventmanager.user_service.dto.participant.ChangeParticipantStatusRequest;
 import com.julienprr.eventmanager.user_service.dto.participant.UpdateNotificationSettingsRequest;
 import com.julienprr.eventmanager.user_service.dto.participant.UpdateParticipantProfileRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ParticipantService implements IParticipantService {
 
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 500;
+    static final int MIN_SEARCH_LENGTH = 2;
+    static final int MAX_SEARCH_LENGTH = 100;
+
+    private static final Sort KEYSET_ORDER = Sort.by(ParticipantCursor.CREATED_AT, ParticipantCursor.ID);
+
     private final ParticipantRepository participantRepository;
-    private final PasswordEncoder passwordEncoder;
-    private final ModelMapper modelMapper;
+    private final ParticipantJdbcRepository participantJdbcRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final ParticipantCache participantCache;
+    private final ParticipantSearchProperties searchProperties;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final ParticipantOutboxRepository participantOutboxRepository;
+    private final TransactionOperations transactionOperations;
+    private final SecondLevelCacheEvictor secondLevelCacheEvictor;
+    // Spring MVC's async executor, by bean name: the insert must not hold one of the few hashing threads
+    private final Executor applicationTaskExecutor;
 
     @Override
-    public Participant createParticipant(ParticipantSignupRequest request) {
+    public CompletableFuture<Participant> createParticipant(ParticipantSignupRequest request) {
 
-        if (participantRepository.existsByEmail(request.getEmail())) {
+        // Most new emails are ruled out in memory; the unique constraint catches the rest
+        if (registeredEmailFilter.mightBeRegistered(request.getEmail())
+                && participantRepository.existsByEmail(request.getEmail())) {
             throw new EmailAlreadyUsedException(request.getEmail());
         }
 
-        Participant participant = Participant.builder()
-                .firstname(request.getFirstname())
-                .lastname(request.getLastname())
-                .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
-                .status(ParticipantStatus.ACTIVE)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .emailNotificationsEnabled(false)
-                .smsNotificationsEnabled(false)
-                .build();
+        return passwordHashingService.encode(request.getPassword())
+                .thenApplyAsync(encodedPassword -> {
+                    Participant participant = Participant.builder()
+                            .firstname(request.getFirstname())
+                            .lastname(request.getLastname())
+                            .email(request.getEmail())
+                            .password(encodedPassword)
+                            .status(ParticipantStatus.ACTIVE)
+                            .createdAt(LocalDateTime.now())
+                            .updatedAt(LocalDateTime.now())
+                            .emailNotificationsEnabled(false)
+                            .smsNotificationsEnabled(false)
+                            .build();
 
-        Participant savedParticipant = participantRepository.save(participant);
-        log.info("Participant created Successfully");
-        return savedParticipant;
+                    Participant savedParticipant;
+                    try {
+                        // Runs on an async executor thread, so the transaction is opened here
+                        savedParticipant = transactionOperations.execute(status -> {
+                            Participant inserted = participantJdbcRepository.insert(participant);
+                            participantOutboxRepository.append(ParticipantChangeType.CREATED, inserted.getId());
+                            return inserted;
+                        });
+                    } catch (DuplicateKeyException e) {
+                        throw new EmailAlreadyUsedException(request.getEmail());
+                    }
+                    registeredEmailFilter.add(savedParticipant.getEmail());
+                    log.info("Participant created Successfully");
+                    return savedParticipant;
+                }, applicationTaskExecutor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Window<Participant> getParticipants(ParticipantStatus status, String country, String cursor, int size) {
+        int limit = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        return participantRepository.findBy(
+                ParticipantSpecifications.matching(status, country),
+                query -> query.sortBy(KEYSET_ORDER)
+                        .limit(limit)
+                        .scroll(ParticipantCursor.decode(cursor)));
     }
 
     @Override
-    public List<Participant> getAllParticipants() {
-        return participantRepository.findAll();
+    @Transactional(readOnly = true)
+    public void streamPublicProfiles(Consumer<ParticipantChangeResponse> consumer) {
+        participantJdbcRepository.forEachPublicProfile(consumer);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Participant> searchParticipants(String query, int page, int size) {
+        String text = query == null ? "" : query.strip();
+        if (text.length() < MIN_SEARCH_LENGTH || text.length() > MAX_SEARCH_LENGTH) {
+            throw new InvalidSearchQueryException("Search query must be between " + MIN_SEARCH_LENGTH
+                    + " and " + MAX_SEARCH_LENGTH + " characters");
+        }
+        int limit = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), limit);
+        long offset = pageRequest.getOffset();
+        if (offset >= searchProperties.maxResults()) {
+            return new SliceImpl<>(List.of(), pageRequest, false);
+        }
+        int fetch = (int) Math.min(limit, searchProperties.maxResults() - offset);
+
+        // One extra row tells whether another page exists
+        List<Participant> found = participantJdbcRepository.search(
+                text, searchProperties.minSimilarity(), fetch + 1, (int) offset);
+        boolean hasNext = found.size() > fetch && offset + fetch < searchProperties.maxResults();
+        return new SliceImpl<>(found.subList(0, Math.min(found.size(), fetch)), pageRequest, hasNext);
     }
 
     @Override
     public Participant getParticipantById(Long participantId) {
-        return participantRepository.findById(participantId)
+        return participantCache.getById(participantId, id -> participantRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Participant not found")));
+    }
+
+    // Always read from the database, two columns only: ParticipantCache is per instance and would
+    // keep answering with the version it holds after another instance changed the participant
+    @Override
+    public ParticipantVersion getParticipantVersionById(Long participantId) {
+        return participantRepository.findVersionById(participantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Participant not found"));
     }
 
     @Override
-    public Participant getParticipantByEmail(String email) {
-        return participantRepository.findByEmail(email)
+    public ParticipantVersion getParticipantVersionByEmail(String email) {
+        return participantRepository.findVersionByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("Participant with email " + email + " not found"));
-
     }
 
+    // A cached participant answers if it has the version just read from the database; otherwise the
+    // profile is read as a view, without loading the entity
     @Override
-    public Participant updateParticipantProfile(Long participantId, UpdateParticipantProfileRequest request) {
-        Participant participant = participantRepository.findById(participantId)
+    public ParticipantPublicProfileView getPublicProfileById(Long participantId, long currentVersion) {
+        Participant cached = participantCache.getIfCurrentById(participantId, currentVersion);
+        if (cached != null) {
+            return ParticipantPublicProfileView.of(cached);
+        }
+        return participantRepository.findPublicProfileById(participantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Participant not found"));
+    }
 
-        if (request.getFirstname() != null) {
-            participant.setFirstname(request.getFirstname());
-        }
-        if (request.getLastname() != null) {
-            participant.setLastname(request.getLastname());
-        }
-        if (request.getBio() != null) {
-            participant.setBio(request.getBio());
+    @Override
+    public ParticipantProfileView getProfileByEmail(String email, long currentVersion) {
+        Participant cached = participantCache.getIfCurrentByEmail(email, currentVersion);
+        if (cached != null) {
+            return ParticipantProfileView.of(cached);
         }
-        if (request.getCity() != null) {
-            participant.setCity(request.getCity());
+        return participantRepository.findProfileByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("Participant with email " + email + " not found"));
+    }
+
+    @Override
+    public Map<Long, ParticipantPublicProfileView> getPublicProfilesByIds(List<Long> participantIds) {
+        Map<Long, ParticipantPublicProfileView> found = new HashMap<>();
+        Set<Long> missing = new HashSet<>();
+        for (Long participantId : participantIds) {
+            Participant cached = participantCache.getIfPresentById(participantId);
+            if (cached != null) {
+                found.put(participantId, ParticipantPublicProfileView.of(cached));
+            } else {
+                missing.add(participantId);
+            }
         }
-        if (request.getCountry() != null) {
-            participant.setCountry(request.getCountry());
+        if (!missing.isEmpty()) {
+            participantRepository.findPublicProfilesByIdIn(missing)
+                    .forEach(profile -> found.put(profile.id(), profile));
         }
-        if (request.getAvatarUrl() != null) {
-            participant.setAvatarUrl(request.getAvatarUrl());
+        Map<Long, ParticipantPublicProfileView> ordered = new LinkedHashMap<>();
+        for (Long participantId : participantIds) {
+            ParticipantPublicProfileView profile = found.get(participantId);
+            if (profile != null) {
+                ordered.put(participantId, profile);
+            }
         }
+        return ordered;
+    }
 
-        participant.setUpdatedAt(LocalDateTime.now());
+    @Override
+    public Participant getParticipantByEmail(String email) {
+        return participantCache.getByEmail(email, () -> participantRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("Participant with email " + email + " not found")));
+
+    }
 
-        return participantRepository.save(participant);
+    @Override
+    @Transactional
+    public Participant updateParticipantProfile(Long participantId, UpdateParticipantProfileRequest request) {
+        long version = requiredVersion(request.getVersion());
+        return participantJdbcRepository.updateById(participantId, profileChanges(request), version)
+                .map(participant -> recordChange(ParticipantChangeType.PROFILE_UPDATED, participant))
+                .orElseThrow(() -> updateFailure(participantRepository.existsById(participantId), version));
     }
 
     @Override
+    @Transactional
     public Participant updateParticipantProfileByEmail(String email, UpdateParticipantProfileRequest request) {
-        Participant participant = participantRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("Participant not found"));
+        long version = requiredVersion(request.getVersion());
+        return participantJdbcRepository.updateByEmail(email, profileChanges(request), version)
+                .map(participant -> recordChange(ParticipantChangeType.PROFILE_UPDATED, participant))
+                .orElseThrow(() -> updateFailure(participantRepository.existsByEmail(email), version));
+    }
+
+    @Override
+    public Participant updateNotificationSettings(Long participantId, UpdateNotificationSettingsRequest request) {
+        long version = requiredVersion(request.getVersion());
+        return participantJdbcRepository.updateById(participantId, notificationChanges(request), version)
+                .map(this::refreshCache)
+                .orElseThrow(() -> updateFailure(participantRepository.existsById(participantId), version));
+    }
 
+    @Override
+    public Participant updateNotificationSettingsByEmail(String email, UpdateNotificationSettingsRequest request) {
+        long version = requiredVersion(request.getVersion());
+        return participantJdbcRepository.updateByEmail(email, notificationChanges(request), version)
+                .map(this::refreshCache)
+                .orElseThrow(() -> updateFailure(participantRepository.existsByEmail(email), version));
+    }
+
+    @Override
+    @Transactional
+    public Participant changeParticipantStatus(Long participantId, ChangeParticipantStatusRequest request) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        changes.put("status", request.getStatus());
+        long version = requiredVersion(request.getVersion());
+        return participantJdbcRepository.updateById(participantId, changes, version)
+                .map(participant -> recordChange(ParticipantChangeType.STATUS_CHANGED, participant))
+                .orElseThrow(() -> updateFailure(participantRepository.existsById(participantId), version));
+    }
+
+    private static Map<String, Object> profileChanges(UpdateParticipantProfileRequest request) {
+        Map<String, Object> changes = new LinkedHashMap<>();
         if (request.getFirstname() != null) {
-            participant.setFirstname(request.getFirstname());
+            changes.put("firstname", request.getFirstname());
         }
         if (request.getLastname() != null) {
-            participant.setLastname(request.getLastname());
+            changes.put("lastname", request.getLastname());
         }
         if (request.getBio() != null) {
-            participant.setBio(request.getBio());
+            changes.put("bio", request.getBio());
         }
         if (request.getCity() != null) {
-            participant.setCity(request.getCity());
+            changes.put("city", request.getCity());
         }
         if (request.getCountry() != null) {
-            participant.setCountry(request.getCountry());
+            changes.put("country", request.getCountry());
         }
         if (request.getAvatarUrl() != null) {
-            participant.setAvatarUrl(request.getAvatarUrl());
+            changes.put("avatar_url", request.getAvatarUrl());
         }
-
-        participant.setUpdatedAt(LocalDateTime.now());
-
-        return participantRepository.save(participant);
+        return changes;
     }
 
-    @Override
-    public Participant updateNotificationSettings(Long participantId, UpdateNotificationSettingsRequest request) {
-        Participant participant = participantRepository.findById(participantId)
-                .orElseThrow(() -> new ResourceNotFoundException("Participant not found"));
-
+    private static Map<String, Object> notificationChanges(UpdateNotificationSettingsRequest request) {
+        Map<String, Object> changes = new LinkedHashMap<>();
         if (request.getEmailNotificationsEnabled() != null) {
-            participant.setEmailNotificationsEnabled(request.getEmailNotificationsEnabled());
+            changes.put("email_notifications_enabled", request.getEmailNotificationsEnabled());
         }
         if (request.getSmsNotificationsEnabled() != null) {
-            participant.setSmsNotificationsEnabled(request.getSmsNotificationsEnabled());
+            changes.put("sms_notifications_enabled", request.getSmsNotificationsEnabled());
         }
-
-        participant.setUpdatedAt(LocalDateTime.now());
-        return participantRepository.save(participant);
+        return changes;
     }
 
-    @Override
-    public Participant updateNotificationSettingsByEmail(String email, UpdateNotificationSettingsRequest request) {
-        Participant participant = participantRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("Participant not found"));
-
-        if (request.getEmailNotificationsEnabled() != null) {
-            participant.setEmailNotificationsEnabled(request.getEmailNotificationsEnabled());
-        }
-        if (request.getSmsNotificationsEnabled() != null) {
-            participant.setSmsNotificationsEnabled(request.getSmsNotificationsEnabled());
+    // Without a version an update could silently overwrite a change made since the client's read
+    private static long requiredVersion(Long version) {
+        if (version == null) {
+            throw new ParticipantVersionRequiredException();
         }
-
-        participant.setUpdatedAt(LocalDateTime.now());
-        return participantRepository.save(participant);
+        return version;
     }
 
-    @Override
-    public Participant changeParticipantStatus(Long participantId, ChangeParticipantStatusRequest request) {
-        Participant participant = participantRepository.findById(participantId)
-                .orElseThrow(() -> new ResourceNotFoundException("Participant not found"));
-
-        participant.setStatus(request.getStatus());
-        participant.setUpdatedAt(LocalDateTime.now());
+    // Only reached when the UPDATE matched no row, so the extra lookup stays off the happy path
+    private static RuntimeException updateFailure(boolean participantExists, long expectedVersion) {
+        if (participantExists) {
+            return new ParticipantVersionConflictException(expectedVersion);
+        }
+        return new ResourceNotFoundException("Participant not found");
+    }
 
-        return participantRepository.save(participant);
+    // Public data changed: the change feed learns about it from the outbox, in the same transaction
+    private Participant recordChange(ParticipantChangeType changeType, Participant participant) {
+        participantOutboxRepository.append(changeType, participant.getId());
+        return refreshCache(participant);
     }
 
+    // The row was written through JDBC, behind Hibernate's back. ParticipantCache only gets it once
+    // committed: until then it keeps serving the previous row, which is still the committed one.
+    private Participant refreshCache(Participant participant) {
+        secondLevelCacheEvictor.evictParticipant(participant.getId());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    participantCache.put(participant);
+                }
+            });
+        } else {
+            participantCache.put(participant);
+        }
+        return participant;
+    }
 }
@@ -0,0 +1,79 @@
+package com.julienprr.eventmanager.user_service.service;
+
+import com.julienprr.eventmanager.user_service.config.EmailFilterProperties;
+import com.julienprr.eventmanager.user_service.repository.ParticipantJdbcRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Remembers, approximately, which emails are registered so that most signups with a new email
+ * skip the existence query. A negative answer is certain; a positive one must be confirmed
+ * against the database. The unique constraint on {@code participants.email} stays the authority.
+ * <p>
+ * The filter is filled from the table once the application is ready. Until then every email is
+ * reported as possibly registered, and emails added while it loads go to both filters.
+ */
+@Component
+@Slf4j
+public class RegisteredEmailFilter {
+
+    private final ParticipantJdbcRepository participantJdbcRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final EmailFilterProperties properties;
+
+    private volatile EmailBloomFilter filter;
+    private volatile EmailBloomFilter loading;
+
+    public RegisteredEmailFilter(ParticipantJdbcRepository participantJdbcRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 EmailFilterProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.participantJdbcRepository = participantJdbcRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.properties = properties;
+        Gauge.builder("email.filter.size", this, f -> f.filter == null ? 0 : f.filter.sizeInBytes())
+                .description("Memory used by the registered email filter")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public boolean mightBeRegistered(String email) {
+        EmailBloomFilter current = filter;
+        return current == null || current.mightContain(email);
+    }
+
+    public void add(String email) {
+        EmailBloomFilter current = filter;
+        if (current != null) {
+            current.add(email);
+        }
+        EmailBloomFilter pending = loading;
+        if (pending != null) {
+            pending.add(email);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long participants = participantJdbcRepository.count();
+        EmailBloomFilter loaded = new EmailBloomFilter(
+                Math.max(properties.expectedParticipants(), participants * 2), properties.falsePositiveRate());
+        loading = loaded;
+        try {
+            // Inside a transaction so the driver fetches the emails in batches instead of all at once
+            readOnlyTransaction.executeWithoutResult(status -> participantJdbcRepository.forEachEmail(loaded::add));
+            filter = loaded;
+        } finally {
+            loading = null;
+        }
+        log.info("Registered email filter loaded: {} participants, {} KB, {} hash functions",
+                participants, loaded.sizeInBytes() / 1024, loaded.hashCount());
+    }
+}
@@ -0,0 +1,46 @@
+package com.julienprr.eventmanager.user_service.service;
+
+import com.julienprr.eventmanager.user_service.model.Participant;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Evicts participants changed through JDBC from Hibernate's second-level cache, which does not
+ * see those statements. Inside a transaction they are evicted again once it completes, since a
+ * concurrent read may have cached the previous row until the change was committed.
+ */
+@Component
+public class SecondLevelCacheEvictor {
+
+    private final Cache cache;
+
+    public SecondLevelCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.getCache();
+    }
+
+    public void evictParticipant(Long participantId) {
+        evictParticipants(List.of(participantId));
+    }
+
+    public void evictParticipants(Collection<Long> participantIds) {
+        evict(participantIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(participantIds);
+                }
+            });
+        }
+    }
+
+    private void evict(Collection<Long> participantIds) {
+        participantIds.forEach(participantId -> cache.evict(Participant.class, participantId));
+    }
+}
@@ -0,0 +1,17 @@
+-- Applied on every startup after Hibernate has updated the tables
+-- (spring.sql.init.mode=always, spring.jpa.defer-datasource-initialization=true), so it must stay idempotent.
+
+-- Participant search (GET /api/participants/search): trigram index over names, city and country.
+-- GiST rather than GIN: a GiST scan can return matches nearest first, so the search reads only the
+-- LIMIT + OFFSET nearest rows instead of sorting every match (see ParticipantJdbcRepository.SEARCH).
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE OR REPLACE FUNCTION participant_search_document(firstname TEXT, lastname TEXT, city TEXT, country TEXT)
+    RETURNS TEXT
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE
+AS $$
+    SELECT coalesce(firstname, '') || ' ' || coalesce(lastname, '') || ' ' || coalesce(city, '') || ' ' || coalesce(country, '')
+$$;
+
+CREATE INDEX IF NOT EXISTS idx_participants_search
+    ON participants USING gist (participant_search_document(firstname, lastname, city, country) gist_trgm_ops(siglen = 128));
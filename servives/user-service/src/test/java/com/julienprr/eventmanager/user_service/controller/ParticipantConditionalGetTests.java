@@ -0,0 +1,103 @@
+package com.julienprr.eventmanager.user_service.controller;
+
+import com.julienprr.eventmanager.user_service.dto.participant.UpdateParticipantProfileRequest;
+import com.julienprr.eventmanager.user_service.mapper.ParticipantMapper;
+import com.julienprr.eventmanager.user_service.model.Participant;
+import com.julienprr.eventmanager.user_service.repository.ParticipantPublicProfileView;
+import com.julienprr.eventmanager.user_service.repository.ParticipantVersion;
+import com.julienprr.eventmanager.user_service.service.IParticipantBulkStatusService;
+import com.julienprr.eventmanager.user_service.service.IParticipantExportService;
+import com.julienprr.eventmanager.user_service.service.IParticipantImportService;
+import com.julienprr.eventmanager.user_service.service.IParticipantService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ParticipantConditionalGetTests {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+    private IParticipantService participantService;
+    private ParticipantMapper participantMapper;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        participantService = mock(IParticipantService.class);
+        participantMapper = spy(new ParticipantMapper());
+        ParticipantController controller = new ParticipantController(participantService,
+                mock(IParticipantImportService.class), mock(IParticipantExportService.class),
+                mock(IParticipantBulkStatusService.class), participantMapper);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+        when(participantService.getParticipantVersionById(7L)).thenReturn(new ParticipantVersion(3L, UPDATED_AT));
+        when(participantService.getPublicProfileById(7L, 3L)).thenReturn(new ParticipantPublicProfileView(
+                7L, 3L, UPDATED_AT, "John", "Doe", null, null, "London", null));
+    }
+
+    @Test
+    void answersMatchingEtagWithNotModifiedWithoutLoadingTheParticipant() throws Exception {
+        mockMvc.perform(get("/api/participants/7/public").header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+
+        verify(participantService, never()).getPublicProfileById(any(), anyLong());
+        verify(participantMapper, never()).toPublicProfileResponse(any(ParticipantPublicProfileView.class));
+    }
+
+    @Test
+    void answersUnmodifiedSinceDateWithNotModified() throws Exception {
+        long lastModified = new ParticipantVersion(3L, UPDATED_AT).lastModified();
+
+        mockMvc.perform(get("/api/participants/7/public").header(HttpHeaders.IF_MODIFIED_SINCE, new Date(lastModified)))
+                .andExpect(status().isNotModified());
+
+        verify(participantService, never()).getPublicProfileById(any(), anyLong());
+    }
+
+    @Test
+    void returnsProfileWithValidatorsWhenEtagIsStale() throws Exception {
+        mockMvc.perform(get("/api/participants/7/public").header(HttpHeaders.IF_NONE_MATCH, "\"2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andExpect(jsonPath("$.firstname").value("John"));
+    }
+
+    @Test
+    void takesTheExpectedVersionFromIfMatchWhenTheBodyHasNone() throws Exception {
+        when(participantService.updateParticipantProfile(eq(7L), any()))
+                .thenReturn(Participant.builder().id(7L).firstname("Jane").build());
+
+        mockMvc.perform(put("/api/participants/7/profile")
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"firstname\":\"Jane\"}"))
+                .andExpect(status().isOk());
+
+        verify(participantService).updateParticipantProfile(eq(7L),
+                argThat((UpdateParticipantProfileRequest request) -> request.getVersion() == 3L));
+    }
+}
@@ -0,0 +1,73 @@
+package com.julienprr.eventmanager.user_service.datasource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConcurrencyLimitedDataSourceTests {
+
+    @Test
+    void shouldReleasePermitWhenConnectionIsClosedOnce() throws Exception {
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, 0, Duration.ofMillis(10));
+
+        Connection first = dataSource.getConnection();
+        Assertions.assertEquals(0, dataSource.getAvailablePermits());
+        Assertions.assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+        first.close();
+        first.close();
+        Assertions.assertEquals(1, dataSource.getAvailablePermits());
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    void shouldHandConnectionToWaitingCaller() throws Exception {
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, 1, Duration.ofSeconds(5));
+
+        Connection first = dataSource.getConnection();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<Connection> waiter = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return dataSource.getConnection();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }, executor);
+            while (dataSource.getWaiting() == 0) {
+                Thread.onSpinWait();
+            }
+            Assertions.assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+            first.close();
+            waiter.get(5, TimeUnit.SECONDS).close();
+        }
+        Assertions.assertEquals(1, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    void shouldReleasePermitWhenPoolFails() throws Exception {
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenThrow(new SQLTransientConnectionException("pool exhausted"));
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, 0, Duration.ofMillis(10));
+
+        Assertions.assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        Assertions.assertEquals(1, dataSource.getAvailablePermits());
+    }
+}
@@ -0,0 +1,131 @@
+package com.julienprr.eventmanager.user_service.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Runs the routing against a real primary and a streaming replica cloned from it with pg_basebackup.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReplicaRoutingDataSourceIntegrationTests {
+
+    private static final String IMAGE = "postgres:16";
+    private static final String IS_REPLICA = "SELECT pg_is_in_recovery()";
+
+    private static final Network network = Network.newNetwork();
+
+    private static final PostgreSQLContainer<?> primaryContainer = new PostgreSQLContainer<>(IMAGE)
+            .withNetwork(network)
+            .withNetworkAliases("primary")
+            .withCommand("postgres", "-c", "wal_level=replica", "-c", "max_wal_senders=4", "-c", "fsync=off")
+            .withCopyToContainer(Transferable.of("echo 'host replication all all trust' >> \"$PGDATA/pg_hba.conf\""),
+                    "/docker-entrypoint-initdb.d/replication.sh");
+
+    private static final GenericContainer<?> replicaContainer = new GenericContainer<>(IMAGE)
+            .withNetwork(network)
+            .withExposedPorts(5432)
+            .withCreateContainerCmdModifier(cmd -> cmd.withEntrypoint("bash", "-c", """
+                    mkdir -p /tmp/replica && chown postgres /tmp/replica && chmod 700 /tmp/replica
+                    until gosu postgres pg_basebackup -h primary -U test -D /tmp/replica -R -X stream; do
+                        rm -rf /tmp/replica/*; sleep 1
+                    done
+                    exec gosu postgres postgres -D /tmp/replica -c listen_addresses='*'
+                    """))
+            .waitingFor(Wait.forLogMessage(".*ready to accept read-only connections.*", 1));
+
+    private static HikariDataSource primary;
+    private static HikariDataSource replica;
+    private static ReplicaRoutingDataSource routing;
+    private static TransactionTemplate writeTransaction;
+    private static TransactionTemplate readTransaction;
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void startDatabases() {
+        primaryContainer.start();
+        replicaContainer.start();
+
+        primary = pool(primaryContainer.getJdbcUrl());
+        replica = pool("jdbc:postgresql://" + replicaContainer.getHost() + ":" + replicaContainer.getMappedPort(5432)
+                + "/" + primaryContainer.getDatabaseName());
+        routing = new ReplicaRoutingDataSource(primary, List.of(replica), Duration.ofMinutes(1));
+        writeTransaction = new TransactionTemplate(new DataSourceTransactionManager(routing));
+        readTransaction = new TransactionTemplate(new DataSourceTransactionManager(routing));
+        readTransaction.setReadOnly(true);
+        jdbcTemplate = new JdbcTemplate(routing);
+    }
+
+    @AfterAll
+    static void stopDatabases() {
+        routing.close();
+        replicaContainer.stop();
+        primaryContainer.stop();
+        network.close();
+    }
+
+    private static HikariDataSource pool(String url) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl(url);
+        pool.setUsername(primaryContainer.getUsername());
+        pool.setPassword(primaryContainer.getPassword());
+        pool.setConnectionTimeout(1_000);
+        pool.setInitializationFailTimeout(-1);
+        return pool;
+    }
+
+    private static boolean servedByReplica(TransactionTemplate transaction) {
+        return Boolean.TRUE.equals(transaction.execute(status -> jdbcTemplate.queryForObject(IS_REPLICA, Boolean.class)));
+    }
+
+    @Test
+    void shouldReadWritesOfThePrimaryFromTheReplica() throws InterruptedException {
+        writeTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS notes (id int PRIMARY KEY)");
+            jdbcTemplate.update("INSERT INTO notes VALUES (1) ON CONFLICT DO NOTHING");
+        });
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        Integer replicated = null;
+        while (replicated == null && System.nanoTime() < deadline) {
+            replicated = readTransaction.execute(status -> jdbcTemplate.query("SELECT id FROM notes WHERE id = 1",
+                    rs -> rs.next() ? rs.getInt(1) : null));
+            if (replicated == null) {
+                Thread.sleep(100);
+            }
+        }
+
+        Assertions.assertEquals(1, replicated);
+        Assertions.assertTrue(servedByReplica(readTransaction));
+        Assertions.assertFalse(servedByReplica(writeTransaction));
+    }
+
+    @Test
+    void shouldReadFromThePrimaryAfterAWriteInTheSameRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        try {
+            Assertions.assertTrue(servedByReplica(readTransaction));
+            writeTransaction.executeWithoutResult(status -> jdbcTemplate.execute("SELECT 1"));
+            Assertions.assertFalse(servedByReplica(readTransaction));
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.julienprr.eventmanager.user_service.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTests {
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection firstReplicaConnection = mock(Connection.class);
+    private final Connection secondReplicaConnection = mock(Connection.class);
+    private final DataSource primary = dataSource(primaryConnection);
+    private final DataSource firstReplica = dataSource(firstReplicaConnection);
+    private final DataSource secondReplica = dataSource(secondReplicaConnection);
+    private final ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+            primary, List.of(firstReplica, secondReplica), Duration.ofMinutes(1));
+    private final TransactionTemplate writeTransaction = new TransactionTemplate(new DataSourceTransactionManager(routing));
+    private final TransactionTemplate readTransaction = new TransactionTemplate(new DataSourceTransactionManager(routing));
+
+    {
+        readTransaction.setReadOnly(true);
+    }
+
+    private static DataSource dataSource(Connection connection) {
+        DataSource dataSource = mock(DataSource.class);
+        try {
+            when(dataSource.getConnection()).thenReturn(connection);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        return dataSource;
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    // The target connection is only chosen once a statement is about to run
+    private Connection targetOf(TransactionTemplate transaction) {
+        return transaction.execute(status -> {
+            Connection connection = DataSourceUtils.getConnection(routing);
+            try {
+                connection.createStatement();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            return ((ConnectionProxy) connection).getTargetConnection();
+        });
+    }
+
+    @Test
+    void shouldSendReadOnlyTransactionsToReplicasInTurn() {
+        Assertions.assertSame(firstReplicaConnection, targetOf(readTransaction));
+        Assertions.assertSame(secondReplicaConnection, targetOf(readTransaction));
+        Assertions.assertSame(firstReplicaConnection, targetOf(readTransaction));
+    }
+
+    @Test
+    void shouldSendWritesToPrimary() {
+        Assertions.assertSame(primaryConnection, targetOf(writeTransaction));
+    }
+
+    @Test
+    void shouldSkipFailedReplicaAndFallBackToPrimaryWhenNoneAnswers() throws SQLException {
+        when(firstReplica.getConnection()).thenThrow(new SQLException("replica down"));
+
+        Assertions.assertSame(secondReplicaConnection, targetOf(readTransaction));
+        Assertions.assertSame(secondReplicaConnection, targetOf(readTransaction));
+        verify(firstReplica, times(1)).getConnection();
+        Assertions.assertEquals(1, routing.getAvailableReplicas());
+
+        when(secondReplica.getConnection()).thenThrow(new SQLException("replica down"));
+        Assertions.assertSame(primaryConnection, targetOf(readTransaction));
+        Assertions.assertEquals(0, routing.getAvailableReplicas());
+    }
+
+    @Test
+    void shouldKeepReadingFromPrimaryAfterAWriteInTheSameRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        Assertions.assertSame(firstReplicaConnection, targetOf(readTransaction));
+
+        targetOf(writeTransaction);
+
+        Assertions.assertSame(primaryConnection, targetOf(readTransaction));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        Assertions.assertSame(secondReplicaConnection, targetOf(readTransaction));
+    }
+}
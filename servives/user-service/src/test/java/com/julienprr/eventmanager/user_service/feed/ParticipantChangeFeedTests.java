@@ -0,0 +1,119 @@
+package com.julienprr.eventmanager.user_service.feed;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.julienprr.eventmanager.user_service.dto.participant.ParticipantChangeResponse;
+import com.julienprr.eventmanager.user_service.model.ParticipantChangeType;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+/**
+ * The feed as two instances sharing one Postgres see it, the tables created as Hibernate would.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ParticipantChangeFeedTests {
+
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @BeforeAll
+    static void createTables() {
+        postgres.start();
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(postgres.getJdbcUrl());
+        dataSource.setUsername(postgres.getUsername());
+        dataSource.setPassword(postgres.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE participant_outbox (
+                    id bigserial PRIMARY KEY,
+                    participant_id bigint NOT NULL,
+                    change_type varchar(255) NOT NULL,
+                    participant_version bigint NOT NULL,
+                    status varchar(255) NOT NULL,
+                    payload text NOT NULL,
+                    created_at timestamp(6) NOT NULL
+                );
+                CREATE TABLE participant_changes (
+                    feed_offset bigint PRIMARY KEY,
+                    participant_id bigint NOT NULL,
+                    change_type varchar(255) NOT NULL,
+                    participant_version bigint NOT NULL,
+                    status varchar(255) NOT NULL,
+                    payload text NOT NULL,
+                    occurred_at timestamp(6) NOT NULL
+                )
+                """);
+    }
+
+    @AfterAll
+    static void stop() {
+        dataSource.close();
+        postgres.stop();
+    }
+
+    @BeforeEach
+    void clear() {
+        jdbcTemplate.execute("TRUNCATE participant_outbox, participant_changes");
+    }
+
+    @Test
+    void shouldNumberChangesAndReadFromAnyOffset() {
+        ParticipantChangeFeed feed = new ParticipantChangeFeed(jdbcTemplate, objectMapper);
+        record(1, 2, 3, 4, 5);
+
+        Assertions.assertEquals(3, feed.publishOldest(3));
+        Assertions.assertEquals(2, feed.publishOldest(3));
+        Assertions.assertEquals(0, feed.publishOldest(3));
+
+        Assertions.assertEquals(5, feed.lastOffset());
+        Assertions.assertEquals(List.of(3L, 4L), offsets(feed.read(2, 2)));
+        Assertions.assertEquals(List.of(5L), offsets(feed.read(4, 100)));
+        Assertions.assertEquals(List.of(), feed.read(5, 100));
+        Assertions.assertEquals(4L, feed.read(3, 1).getFirst().getParticipantId());
+        Assertions.assertEquals("Jane", feed.read(0, 1).getFirst().getProfile().getFirstname());
+        Assertions.assertEquals(0, jdbcTemplate.queryForObject("SELECT count(*) FROM participant_outbox", Long.class));
+    }
+
+    @Test
+    void shouldCarryOnNumberingWhenAnotherInstancePublishes() {
+        ParticipantChangeFeed first = new ParticipantChangeFeed(jdbcTemplate, objectMapper);
+        ParticipantChangeFeed second = new ParticipantChangeFeed(jdbcTemplate, objectMapper);
+        record(1, 2);
+        first.publishOldest(10);
+        record(3);
+        second.publishOldest(10);
+
+        Assertions.assertEquals(3, first.lastOffset());
+        Assertions.assertEquals(List.of(1L, 2L, 3L), offsets(first.read(0, 10)));
+        Assertions.assertEquals(List.of(1L, 2L, 3L), second.read(0, 10).stream()
+                .map(ParticipantChangeResponse::getParticipantId).toList());
+    }
+
+    private static void record(long... participantIds) {
+        for (long participantId : participantIds) {
+            jdbcTemplate.update("""
+                    INSERT INTO participant_outbox (participant_id, change_type, participant_version, status, payload, created_at)
+                    VALUES (?, ?, 1, 'ACTIVE', '{"firstname":"Jane","lastname":"Doe"}', localtimestamp)
+                    """, participantId, ParticipantChangeType.PROFILE_UPDATED.name());
+        }
+    }
+
+    private static List<Long> offsets(List<ParticipantChangeResponse> changes) {
+        return changes.stream().map(ParticipantChangeResponse::getOffset).toList();
+    }
+}
@@ -0,0 +1,66 @@
+package com.julienprr.eventmanager.user_service.feed;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Two instances competing for the publisher lock against the same Postgres.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ParticipantFeedPublisherLockTests {
+
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    private static JdbcConnectionDetails connectionDetails;
+
+    @BeforeAll
+    static void start() {
+        postgres.start();
+        connectionDetails = new JdbcConnectionDetails() {
+            @Override
+            public String getUsername() {
+                return postgres.getUsername();
+            }
+
+            @Override
+            public String getPassword() {
+                return postgres.getPassword();
+            }
+
+            @Override
+            public String getJdbcUrl() {
+                return postgres.getJdbcUrl();
+            }
+        };
+    }
+
+    @AfterAll
+    static void stop() {
+        postgres.stop();
+    }
+
+    @Test
+    void shouldLetOneInstancePublishUntilItStops() {
+        ParticipantFeedPublisherLock first = new ParticipantFeedPublisherLock(connectionDetails);
+        ParticipantFeedPublisherLock second = new ParticipantFeedPublisherLock(connectionDetails);
+        try {
+            Assertions.assertTrue(first.tryAcquire());
+            Assertions.assertFalse(second.tryAcquire());
+            Assertions.assertTrue(first.tryAcquire());
+            Assertions.assertFalse(second.tryAcquire());
+
+            first.destroy();
+
+            Assertions.assertTrue(second.tryAcquire());
+            Assertions.assertFalse(first.tryAcquire());
+        } finally {
+            first.destroy();
+            second.destroy();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.julienprr.eventmanager.user_service.mapper;
+
+import com.julienprr.eventmanager.user_service.dto.participant.AdminParticipantResponse;
+import com.julienprr.eventmanager.user_service.dto.participant.ParticipantProfileResponse;
+import com.julienprr.eventmanager.user_service.dto.participant.ParticipantPublicProfileResponse;
+import com.julienprr.eventmanager.user_service.dto.participant.ParticipantResponse;
+import com.julienprr.eventmanager.user_service.model.Participant;
+import com.julienprr.eventmanager.user_service.model.ParticipantStatus;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the hand-written mappings against the ModelMapper defaults they replaced.
+ */
+class ParticipantMapperTests {
+
+    private final ModelMapper modelMapper = new ModelMapper();
+    private final ParticipantMapper participantMapper = new ParticipantMapper();
+
+    private static Participant fullParticipant() {
+        return Participant.builder()
+                .id(7L)
+                .firstname("John")
+                .lastname("Doe")
+                .email("john.doe@example.com")
+                .password("$2a$10$hash")
+                .avatarUrl("https://cdn.example.com/john.png")
+                .bio("Jazz lover")
+                .city("London")
+                .country("United Kingdom")
+                .status(ParticipantStatus.SUSPENDED)
+                .createdAt(LocalDateTime.of(2024, 1, 2, 3, 4, 5))
+                .updatedAt(LocalDateTime.of(2024, 2, 3, 4, 5, 6))
+                .lastLoginAt(LocalDateTime.of(2024, 3, 4, 5, 6, 7))
+                .emailNotificationsEnabled(true)
+                .smsNotificationsEnabled(false)
+                .build();
+    }
+
+    private static Participant sparseParticipant() {
+        return Participant.builder()
+                .id(8L)
+                .firstname("Jane")
+                .lastname("Roe")
+                .email("jane.roe@example.com")
+                .password("$2a$10$hash")
+                .status(ParticipantStatus.ACTIVE)
+                .build();
+    }
+
+    @Test
+    void shouldMapParticipantResponseLikeModelMapper() {
+        for (Participant participant : new Participant[]{fullParticipant(), sparseParticipant()}) {
+            assertThat(participantMapper.toResponse(participant))
+                    .usingRecursiveComparison()
+                    .isEqualTo(modelMapper.map(participant, ParticipantResponse.class));
+        }
+    }
+
+    @Test
+    void shouldMapAdminResponseLikeModelMapper() {
+        for (Participant participant : new Participant[]{fullParticipant(), sparseParticipant()}) {
+            assertThat(participantMapper.toAdminResponse(participant))
+                    .usingRecursiveComparison()
+                    .isEqualTo(modelMapper.map(participant, AdminParticipantResponse.class));
+        }
+    }
+
+    @Test
+    void shouldMapProfileResponseLikeModelMapper() {
+        for (Participant participant : new Participant[]{fullParticipant(), sparseParticipant()}) {
+            assertThat(participantMapper.toProfileResponse(participant))
+                    .usingRecursiveComparison()
+                    .isEqualTo(modelMapper.map(participant, ParticipantProfileResponse.class));
+        }
+    }
+
+    @Test
+    void shouldMapPublicProfileResponseLikeModelMapper() {
+        for (Participant participant : new Participant[]{fullParticipant(), sparseParticipant()}) {
+            assertThat(participantMapper.toPublicProfileResponse(participant))
+                    .usingRecursiveComparison()
+                    .isEqualTo(modelMapper.map(participant, ParticipantPublicProfileResponse.class));
+        }
+    }
+}
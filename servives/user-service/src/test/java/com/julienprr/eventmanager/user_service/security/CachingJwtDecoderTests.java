@@ -0,0 +1,97 @@
+package com.julienprr.eventmanager.user_service.security;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class CachingJwtDecoderTests {
+
+    private static final Instant ISSUED_AT = Instant.parse("2025-01-01T10:00:00Z");
+    private static final Instant EXPIRES_AT = ISSUED_AT.plus(Duration.ofMinutes(5));
+
+    private final MutableClock clock = new MutableClock(ISSUED_AT);
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    // Stands in for NimbusJwtDecoder: verifies the token and rejects it once expired
+    private final JwtDecoder verifyingDecoder = token -> {
+        verifications.incrementAndGet();
+        if (!clock.instant().isBefore(EXPIRES_AT)) {
+            throw new BadJwtException("Jwt expired at " + EXPIRES_AT);
+        }
+        return Jwt.withTokenValue(token)
+                .header("alg", "RS256")
+                .subject("john")
+                .issuedAt(ISSUED_AT)
+                .expiresAt(EXPIRES_AT)
+                .build();
+    };
+
+    private final CachingJwtDecoder decoder = new CachingJwtDecoder(verifyingDecoder, 100, clock);
+
+    @Test
+    void shouldVerifyReusedTokenOnlyOnce() {
+        Jwt first = decoder.decode("token-a");
+        clock.advance(Duration.ofMinutes(2));
+        Jwt second = decoder.decode("token-a");
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1, verifications.get());
+    }
+
+    @Test
+    void shouldNeverServeExpiredTokenFromCache() {
+        decoder.decode("token-a");
+
+        clock.advance(Duration.ofMinutes(5));
+
+        Assertions.assertThrows(BadJwtException.class, () -> decoder.decode("token-a"));
+        Assertions.assertEquals(2, verifications.get());
+    }
+
+    @Test
+    void shouldKeepDistinctTokensApart() {
+        Jwt a = decoder.decode("token-a");
+        Jwt b = decoder.decode("token-b");
+
+        Assertions.assertEquals("token-a", a.getTokenValue());
+        Assertions.assertEquals("token-b", b.getTokenValue());
+        Assertions.assertEquals(2, verifications.get());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
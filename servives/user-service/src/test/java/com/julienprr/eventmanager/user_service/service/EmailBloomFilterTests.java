@@ -0,0 +1,35 @@
+package com.julienprr.eventmanager.user_service.service;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class EmailBloomFilterTests {
+
+    @Test
+    void shouldNeverMissAnAddedEmail() {
+        EmailBloomFilter filter = new EmailBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("participant" + i + "@example.com");
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            Assertions.assertTrue(filter.mightContain("participant" + i + "@example.com"));
+        }
+    }
+
+    @Test
+    void shouldKeepFalsePositivesNearConfiguredRate() {
+        EmailBloomFilter filter = new EmailBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("participant" + i + "@example.com");
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("newcomer" + i + "@example.org")) {
+                falsePositives++;
+            }
+        }
+        Assertions.assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+}
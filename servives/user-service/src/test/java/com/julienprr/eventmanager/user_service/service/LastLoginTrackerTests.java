@@ -0,0 +1,129 @@
+package com.julienprr.eventmanager.user_service.service;
+
+import com.julienprr.eventmanager.user_service.config.ParticipantCacheProperties;
+import com.julienprr.eventmanager.user_service.model.Participant;
+import com.julienprr.eventmanager.user_service.repository.ParticipantJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LastLoginTrackerTests {
+
+    private static final Instant START = Instant.parse("2025-03-01T10:00:00Z");
+
+    private final ParticipantJdbcRepository participantJdbcRepository = mock(ParticipantJdbcRepository.class);
+    private final ParticipantCache participantCache = new ParticipantCache(
+            new ParticipantCacheProperties(100L, Duration.ofMinutes(1)), new SimpleMeterRegistry());
+    private final MutableClock clock = new MutableClock(START);
+    private final LastLoginTracker tracker = new LastLoginTracker(participantJdbcRepository, participantCache, 2, clock);
+
+    private static LocalDateTime at(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    @Test
+    void shouldWriteOnlyTheLatestTimePerParticipant() {
+        tracker.record("john.doe@example.com");
+        clock.advance(Duration.ofSeconds(5));
+        tracker.record("john.doe@example.com");
+
+        tracker.flush();
+
+        verify(participantJdbcRepository).updateLastLoginAt(Map.of("john.doe@example.com", at(START.plusSeconds(5))));
+    }
+
+    @Test
+    void shouldWriteNothingWhenNobodyWasSeen() {
+        tracker.flush();
+
+        verify(participantJdbcRepository, never()).updateLastLoginAt(anyMap());
+    }
+
+    @Test
+    void shouldSplitLargeFlushesIntoBatches() {
+        tracker.record("a@example.com");
+        tracker.record("b@example.com");
+        tracker.record("c@example.com");
+
+        tracker.flush();
+        tracker.flush();
+
+        verify(participantJdbcRepository, times(2)).updateLastLoginAt(anyMap());
+    }
+
+    @Test
+    void shouldKeepTimesOfAFailedFlushForTheNextOne() {
+        when(participantJdbcRepository.updateLastLoginAt(anyMap()))
+                .thenThrow(new DataAccessResourceFailureException("database down"))
+                .thenReturn(1);
+        tracker.record("john.doe@example.com");
+
+        tracker.flush();
+        tracker.flush();
+
+        verify(participantJdbcRepository, times(2)).updateLastLoginAt(Map.of("john.doe@example.com", at(START)));
+    }
+
+    @Test
+    void shouldRefreshCachedParticipantWithoutChangingTheSharedInstance() {
+        Participant cached = Participant.builder()
+                .id(1L)
+                .firstname("John")
+                .lastname("Doe")
+                .email("john.doe@example.com")
+                .build();
+        participantCache.put(cached);
+        tracker.record("john.doe@example.com");
+
+        tracker.flush();
+
+        Participant refreshed = participantCache.getById(1L, id -> Assertions.fail("should be cached"));
+        Assertions.assertEquals(at(START), refreshed.getLastLoginAt());
+        Assertions.assertEquals("John", refreshed.getFirstname());
+        Assertions.assertNull(cached.getLastLoginAt());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
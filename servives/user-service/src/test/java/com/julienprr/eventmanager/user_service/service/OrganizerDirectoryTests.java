@@ -0,0 +1,128 @@
+package com.julienprr.eventmanager.user_service.service;
+
+import com.julienprr.eventmanager.user_service.dto.organizer.OrganizerDirectoryEntry;
+import com.julienprr.eventmanager.user_service.repository.OrganizerRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class OrganizerDirectoryTests {
+
+    private static final OrganizerDirectoryEntry LIVE_NATION = entry(1L, "Live Nation", "Paris", "France");
+    private static final OrganizerDirectoryEntry ACME = entry(2L, "acme events", "Lyon", "France");
+    private static final OrganizerDirectoryEntry BERLIN_BEATS = entry(3L, "Berlin Beats", "Berlin", "Germany");
+
+    private final OrganizerRepository organizerRepository = mock(OrganizerRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OrganizerDirectory directory = new OrganizerDirectory(organizerRepository, meterRegistry);
+
+    private static OrganizerDirectoryEntry entry(Long id, String name, String city, String country) {
+        return new OrganizerDirectoryEntry(id, name, null, null, city, country, null, null);
+    }
+
+    private static List<String> names(OrganizerDirectory.Listing listing) {
+        return listing.organizers().stream().map(OrganizerDirectoryEntry::name).toList();
+    }
+
+    private void change(OrganizerDirectoryEntry entry, Long organizerId) {
+        when(organizerRepository.findDirectoryEntryById(organizerId)).thenReturn(Optional.ofNullable(entry));
+        directory.onOrganizerChanged(new OrganizerChangedEvent(organizerId));
+    }
+
+    @BeforeEach
+    void load() {
+        when(organizerRepository.findDirectoryEntries()).thenReturn(List.of(LIVE_NATION, BERLIN_BEATS, ACME));
+        directory.refresh();
+    }
+
+    @Test
+    void shouldListByNameIgnoringCase() {
+        Assertions.assertEquals(List.of("acme events", "Berlin Beats", "Live Nation"), names(directory.list(null, null)));
+        Assertions.assertEquals(3, meterRegistry.get("organizer.directory.size").gauge().value());
+    }
+
+    @Test
+    void shouldFilterByCityAndCountryIgnoringCaseAndSpaces() {
+        Assertions.assertEquals(List.of("acme events", "Live Nation"), names(directory.list(null, " FRANCE ")));
+        Assertions.assertEquals(List.of("Berlin Beats"), names(directory.list("berlin", "")));
+        Assertions.assertEquals(List.of("Live Nation"), names(directory.list("paris", "france")));
+        Assertions.assertTrue(directory.list("paris", "germany").organizers().isEmpty());
+        Assertions.assertTrue(directory.list("Madrid", null).organizers().isEmpty());
+    }
+
+    @Test
+    void shouldServeReadsWithoutQueryingTheRepository() {
+        directory.list(null, null);
+        directory.list("Paris", "France");
+        directory.list(null, "Germany");
+
+        verify(organizerRepository, times(1)).findDirectoryEntries();
+        verifyNoMoreInteractions(organizerRepository);
+    }
+
+    @Test
+    void shouldListNewlyVerifiedOrganizer() {
+        OrganizerDirectoryEntry berlinCalling = entry(4L, "Berlin Calling", "Berlin", "Germany");
+
+        change(berlinCalling, 4L);
+
+        Assertions.assertEquals(List.of("acme events", "Berlin Beats", "Berlin Calling", "Live Nation"),
+                names(directory.list(null, null)));
+        Assertions.assertEquals(List.of("Berlin Beats", "Berlin Calling"), names(directory.list("Berlin", "Germany")));
+        Assertions.assertEquals(List.of("acme events", "Live Nation"), names(directory.list(null, "France")));
+    }
+
+    @Test
+    void shouldRemoveUnverifiedOrDeletedOrganizer() {
+        change(null, BERLIN_BEATS.id());
+
+        Assertions.assertEquals(List.of("acme events", "Live Nation"), names(directory.list(null, null)));
+        Assertions.assertTrue(directory.list(null, "Germany").organizers().isEmpty());
+        Assertions.assertEquals(2, meterRegistry.get("organizer.directory.size").gauge().value());
+    }
+
+    @Test
+    void shouldMoveOrganizerBetweenLocations() {
+        change(entry(LIVE_NATION.id(), "Live Nation", "Munich", "Germany"), LIVE_NATION.id());
+
+        Assertions.assertEquals(List.of("acme events"), names(directory.list(null, "France")));
+        Assertions.assertTrue(directory.list("Paris", null).organizers().isEmpty());
+        Assertions.assertEquals(List.of("Berlin Beats", "Live Nation"), names(directory.list(null, "Germany")));
+        Assertions.assertEquals(List.of("Live Nation"), names(directory.list("munich", "germany")));
+    }
+
+    @Test
+    void shouldKeepEtagWhileTheListingIsUnchanged() {
+        OrganizerDirectory.Listing france = directory.list(null, "France");
+        OrganizerDirectory.Listing germany = directory.list(null, "Germany");
+
+        change(entry(BERLIN_BEATS.id(), "Berlin Beats", "Hamburg", "Germany"), BERLIN_BEATS.id());
+
+        Assertions.assertEquals(france.etag(), directory.list(null, "France").etag());
+        Assertions.assertNotEquals(germany.etag(), directory.list(null, "Germany").etag());
+        Assertions.assertNotEquals(france.etag(), germany.etag());
+    }
+
+    @Test
+    void shouldDeriveTheSameEtagFromChangesAsFromAReload() {
+        change(entry(4L, "Berlin Calling", "Berlin", "Germany"), 4L);
+        change(null, ACME.id());
+        String incremental = directory.list(null, null).etag();
+
+        when(organizerRepository.findDirectoryEntries())
+                .thenReturn(List.of(entry(4L, "Berlin Calling", "Berlin", "Germany"), BERLIN_BEATS, LIVE_NATION));
+        directory.refresh();
+
+        Assertions.assertEquals(incremental, directory.list(null, null).etag());
+    }
+}
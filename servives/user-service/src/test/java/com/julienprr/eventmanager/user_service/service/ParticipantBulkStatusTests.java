@@ -0,0 +1,133 @@
+package com.julienprr.eventmanager.user_service.service;
+
+import com.julienprr.eventmanager.user_service.config.ParticipantBulkStatusProperties;
+import com.julienprr.eventmanager.user_service.config.ParticipantCacheProperties;
+import com.julienprr.eventmanager.user_service.dto.participant.BulkChangeParticipantStatusReport;
+import com.julienprr.eventmanager.user_service.dto.participant.BulkChangeParticipantStatusRequest;
+import com.julienprr.eventmanager.user_service.model.Participant;
+import com.julienprr.eventmanager.user_service.model.ParticipantChangeType;
+import com.julienprr.eventmanager.user_service.model.ParticipantStatus;
+import com.julienprr.eventmanager.user_service.repository.ParticipantJdbcRepository;
+import com.julienprr.eventmanager.user_service.repository.ParticipantOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ParticipantBulkStatusTests {
+
+    private static final Set<Long> EXISTING = Set.of(1L, 2L, 3L, 4L, 5L);
+    private static final Set<Long> ALREADY_SUSPENDED = Set.of(2L);
+
+    private final ParticipantJdbcRepository participantJdbcRepository = mock(ParticipantJdbcRepository.class);
+    private final ParticipantOutboxRepository participantOutboxRepository = mock(ParticipantOutboxRepository.class);
+    private final ParticipantCache participantCache = new ParticipantCache(
+            new ParticipantCacheProperties(100L, Duration.ofMinutes(1)), new SimpleMeterRegistry());
+    private final ParticipantBulkStatusService service = new ParticipantBulkStatusService(
+            participantJdbcRepository, participantOutboxRepository, participantCache,
+            TransactionOperations.withoutTransaction(), mock(SecondLevelCacheEvictor.class),
+            new ParticipantBulkStatusProperties(2));
+
+    private static Participant participant(long id, ParticipantStatus status) {
+        return Participant.builder().id(id).email(id + "@example.com").status(status).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubUpdatesByIds() {
+        when(participantJdbcRepository.updateStatusByIds(anyCollection(), eq(ParticipantStatus.SUSPENDED)))
+                .thenAnswer(invocation -> ((Collection<Long>) invocation.getArgument(0)).stream()
+                        .filter(id -> EXISTING.contains(id) && !ALREADY_SUSPENDED.contains(id))
+                        .map(id -> participant(id, ParticipantStatus.SUSPENDED))
+                        .toList());
+        when(participantJdbcRepository.countByIds(anyCollection()))
+                .thenAnswer(invocation -> ((Collection<Long>) invocation.getArgument(0)).stream()
+                        .filter(EXISTING::contains)
+                        .count());
+    }
+
+    @Test
+    void shouldChangeIdsInChunksAndCountUnchangedAndMissing() {
+        stubUpdatesByIds();
+
+        BulkChangeParticipantStatusReport report = service.changeParticipantStatuses(BulkChangeParticipantStatusRequest.builder()
+                .status(ParticipantStatus.SUSPENDED)
+                .ids(List.of(1L, 2L, 3L, 1L, 99L))
+                .build());
+
+        Assertions.assertEquals(2, report.getAffectedCount());
+        Assertions.assertEquals(1, report.getUnchangedCount());
+        Assertions.assertEquals(1, report.getMissingCount());
+        verify(participantJdbcRepository).updateStatusByIds(List.of(1L, 2L), ParticipantStatus.SUSPENDED);
+        verify(participantJdbcRepository).updateStatusByIds(List.of(3L, 99L), ParticipantStatus.SUSPENDED);
+        verify(participantOutboxRepository).appendAllByIds(ParticipantChangeType.STATUS_CHANGED, List.of(1L));
+        verify(participantOutboxRepository).appendAllByIds(ParticipantChangeType.STATUS_CHANGED, List.of(3L));
+    }
+
+    @Test
+    void shouldRefreshCachedParticipantsWithoutCachingTheOthers() {
+        stubUpdatesByIds();
+        participantCache.put(participant(1L, ParticipantStatus.ACTIVE));
+
+        service.changeParticipantStatuses(BulkChangeParticipantStatusRequest.builder()
+                .status(ParticipantStatus.SUSPENDED)
+                .ids(List.of(1L, 3L))
+                .build());
+
+        Assertions.assertEquals(ParticipantStatus.SUSPENDED, participantCache.getIfPresentById(1L).getStatus());
+        Assertions.assertNull(participantCache.getIfPresentById(3L));
+    }
+
+    @Test
+    void shouldWalkMatchingParticipantsUntilNoneIsLeft() {
+        List<Participant> matching = LongStream.of(4, 9, 12)
+                .mapToObj(id -> participant(id, ParticipantStatus.SUSPENDED))
+                .toList();
+        when(participantJdbcRepository.updateStatusMatching(eq(ParticipantStatus.SUSPENDED), isNull(), eq("France"),
+                isNull(), isNull(), anyLong(), anyInt()))
+                .thenAnswer(invocation -> {
+                    long afterId = invocation.getArgument(5);
+                    int limit = invocation.getArgument(6);
+                    return matching.stream().filter(p -> p.getId() > afterId).limit(limit).toList();
+                });
+
+        BulkChangeParticipantStatusReport report = service.changeParticipantStatuses(BulkChangeParticipantStatusRequest.builder()
+                .status(ParticipantStatus.SUSPENDED)
+                .country("France")
+                .build());
+
+        Assertions.assertEquals(3, report.getAffectedCount());
+        verify(participantJdbcRepository).updateStatusMatching(any(), any(), any(), any(), any(), eq(0L), eq(2));
+        verify(participantJdbcRepository).updateStatusMatching(any(), any(), any(), any(), any(), eq(9L), eq(2));
+        verify(participantJdbcRepository).updateStatusMatching(any(), any(), any(), any(), any(), eq(12L), eq(2));
+        verify(participantOutboxRepository, times(3)).appendAllByIds(eq(ParticipantChangeType.STATUS_CHANGED), anyCollection());
+    }
+
+    @Test
+    void shouldRequireEitherIdsOrAFilter() {
+        Assertions.assertFalse(BulkChangeParticipantStatusRequest.builder().status(ParticipantStatus.SUSPENDED)
+                .build().isTargetValid());
+        Assertions.assertFalse(BulkChangeParticipantStatusRequest.builder().status(ParticipantStatus.SUSPENDED)
+                .ids(List.of()).build().isTargetValid());
+        Assertions.assertFalse(BulkChangeParticipantStatusRequest.builder().status(ParticipantStatus.SUSPENDED)
+                .ids(List.of(1L)).country("France").build().isTargetValid());
+        Assertions.assertTrue(BulkChangeParticipantStatusRequest.builder().status(ParticipantStatus.SUSPENDED)
+                .currentStatus(ParticipantStatus.ACTIVE).build().isTargetValid());
+    }
+}
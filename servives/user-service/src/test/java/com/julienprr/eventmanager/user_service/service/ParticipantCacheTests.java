@@ -0,0 +1,86 @@
+package com.julienprr.eventmanager.user_service.service;
+
+import com.julienprr.eventmanager.user_service.config.ParticipantCacheProperties;
+import com.julienprr.eventmanager.user_service.model.Participant;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ParticipantCacheTests {
+
+    private final ParticipantCache participantCache = new ParticipantCache(
+            new ParticipantCacheProperties(100L, Duration.ofMinutes(1)), new SimpleMeterRegistry());
+
+    private static Participant participant(String city) {
+        return Participant.builder()
+                .id(1L)
+                .firstname("John")
+                .lastname("Doe")
+                .email("john.doe@example.com")
+                .city(city)
+                .build();
+    }
+
+    @Test
+    void shouldLoadOnceAndShareEntryBetweenIdAndEmail() {
+        AtomicInteger loads = new AtomicInteger();
+
+        participantCache.getById(1L, id -> {
+            loads.incrementAndGet();
+            return participant("London");
+        });
+        participantCache.getById(1L, id -> {
+            loads.incrementAndGet();
+            return participant("London");
+        });
+        Participant byEmail = participantCache.getByEmail("john.doe@example.com", () -> {
+            loads.incrementAndGet();
+            return participant("London");
+        });
+        Participant byEmailAgain = participantCache.getByEmail("john.doe@example.com", () -> {
+            loads.incrementAndGet();
+            return participant("London");
+        });
+
+        // The email lookup has to load once to learn the id, then serves the shared id entry
+        Assertions.assertEquals(2, loads.get());
+        Assertions.assertSame(byEmail, byEmailAgain);
+    }
+
+    @Test
+    void shouldServeRefreshedParticipantAfterWrite() {
+        participantCache.getByEmail("john.doe@example.com", () -> participant("London"));
+
+        participantCache.put(participant("Paris"));
+
+        Assertions.assertEquals("Paris", participantCache.getById(1L, id -> participant("London")).getCity());
+        Assertions.assertEquals("Paris", participantCache.getByEmail("john.doe@example.com", () -> participant("London")).getCity());
+    }
+
+    @Test
+    void shouldNotKeepPasswordHashes() {
+        Participant loaded = participant("London").toBuilder().password("$2a$10$hash").build();
+
+        Assertions.assertNull(participantCache.getById(1L, id -> loaded).getPassword());
+        Assertions.assertEquals("$2a$10$hash", loaded.getPassword());
+
+        participantCache.put(participant("Paris").toBuilder().password("$2a$10$hash").build());
+
+        Assertions.assertNull(participantCache.getIfPresentByEmail("john.doe@example.com").getPassword());
+    }
+
+    @Test
+    void shouldServeOnlyTheCurrentVersionAndDropOlderOnes() {
+        participantCache.put(participant("London").toBuilder().version(4L).build());
+
+        // A replica behind this instance's own write: keep the entry, but do not serve it
+        Assertions.assertNull(participantCache.getIfCurrentByEmail("john.doe@example.com", 3L));
+        Assertions.assertEquals("London", participantCache.getIfCurrentByEmail("john.doe@example.com", 4L).getCity());
+
+        Assertions.assertNull(participantCache.getIfCurrentById(1L, 5L));
+        Assertions.assertNull(participantCache.getIfPresentById(1L));
+    }
+}
@@ -0,0 +1,36 @@
+package com.julienprr.eventmanager.user_service.service;
+
+import com.julienprr.eventmanager.user_service.exception.InvalidCursorException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+class ParticipantCursorTests {
+
+    @Test
+    void shouldRoundTripKeyset() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 17, 10, 30, 15, 123_456_000);
+        ScrollPosition position = ScrollPosition.forward(Map.of("createdAt", createdAt, "id", 42L));
+
+        ScrollPosition decoded = ParticipantCursor.decode(ParticipantCursor.encode(position));
+
+        KeysetScrollPosition keyset = Assertions.assertInstanceOf(KeysetScrollPosition.class, decoded);
+        Assertions.assertEquals(createdAt, keyset.getKeys().get("createdAt"));
+        Assertions.assertEquals(42L, keyset.getKeys().get("id"));
+    }
+
+    @Test
+    void shouldStartFromTheBeginningWithoutCursor() {
+        Assertions.assertTrue(ParticipantCursor.decode(null).isInitial());
+        Assertions.assertTrue(ParticipantCursor.decode("").isInitial());
+    }
+
+    @Test
+    void shouldRejectTamperedCursor() {
+        Assertions.assertThrows(InvalidCursorException.class, () -> ParticipantCursor.decode("not-a-cursor"));
+    }
+}
@@ -0,0 +1,160 @@
+package com.julienprr.eventmanager.user_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.julienprr.eventmanager.user_service.repository.ParticipantJdbcRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDateTime;
+
+/**
+ * Exports a small and a large table and samples the heap, after a full GC, every few megabytes of
+ * output. A driver buffering the whole result set, or rows kept on the way, would make the large
+ * export's heap grow with the row count; streaming keeps both exports within the same bound.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ParticipantExportHeapTests {
+
+    private static final LocalDateTime EXPORT_START = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final int SMALL = 1_000;
+    private static final int LARGE = 500_000;
+    private static final long SAMPLE_EVERY_BYTES = 8L * 1024 * 1024;
+    private static final long MAX_HEAP_GROWTH_BYTES = 16L * 1024 * 1024;
+
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate readTransaction;
+    private static ParticipantExportService exportService;
+
+    @BeforeAll
+    static void createParticipants() {
+        postgres.start();
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(postgres.getJdbcUrl());
+        dataSource.setUsername(postgres.getUsername());
+        dataSource.setPassword(postgres.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readTransaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readTransaction.setReadOnly(true);
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        exportService = new ParticipantExportService(new ParticipantJdbcRepository(jdbcTemplate), objectMapper);
+
+        jdbcTemplate.execute("""
+                CREATE TABLE participants (
+                    id bigserial PRIMARY KEY,
+                    firstname varchar(255) NOT NULL,
+                    lastname varchar(255) NOT NULL,
+                    email varchar(255) NOT NULL UNIQUE,
+                    password varchar(255) NOT NULL,
+                    avatar_url varchar(255),
+                    bio varchar(255),
+                    city varchar(255),
+                    country varchar(255),
+                    status varchar(255) NOT NULL,
+                    created_at timestamp(6),
+                    updated_at timestamp(6),
+                    last_login_at timestamp(6),
+                    email_notifications_enabled boolean NOT NULL,
+                    sms_notifications_enabled boolean NOT NULL,
+                    version bigint NOT NULL DEFAULT 0
+                )
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO participants (firstname, lastname, email, password, bio, city, country, status,
+                                          created_at, updated_at, email_notifications_enabled, sms_notifications_enabled)
+                SELECT 'John', 'Doe', 'john.doe' || n || '@example.com', '$2a$10$hash',
+                       'Enjoys jazz concerts, festivals and long conference days', 'London', 'United Kingdom',
+                       CASE WHEN n % 10 = 0 THEN 'SUSPENDED' ELSE 'ACTIVE' END,
+                       timestamp '2025-01-01' + n * interval '1 second', now(), true, false
+                FROM generate_series(1, ?) AS n
+                """, LARGE);
+    }
+
+    @AfterAll
+    static void stop() {
+        dataSource.close();
+        postgres.stop();
+    }
+
+    @ParameterizedTest
+    @EnumSource(ParticipantExportFormat.class)
+    void shouldKeepHeapFlatWhateverTheNumberOfRows(ParticipantExportFormat format) {
+        long smallGrowth = heapGrowthDuringExport(format, SMALL);
+        long largeGrowth = heapGrowthDuringExport(format, LARGE);
+
+        Assertions.assertTrue(smallGrowth < MAX_HEAP_GROWTH_BYTES, "small export grew the heap by " + smallGrowth);
+        Assertions.assertTrue(largeGrowth < MAX_HEAP_GROWTH_BYTES, "large export grew the heap by " + largeGrowth);
+    }
+
+    // Exports the first rows of the table and returns how far the live heap rose above where it started
+    private long heapGrowthDuringExport(ParticipantExportFormat format, int rows) {
+        HeapSamplingOutputStream output = new HeapSamplingOutputStream();
+        Long exported = readTransaction.execute(status -> {
+            try {
+                return exportService.exportParticipants(null, null, null,
+                        EXPORT_START.plusSeconds(rows + 1L), format, output);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        Assertions.assertEquals(rows, exported);
+        return output.maxUsed - output.baseline;
+    }
+
+    private static final class HeapSamplingOutputStream extends OutputStream {
+
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private final long baseline = liveHeap();
+        private long maxUsed = baseline;
+        private long written;
+        private long nextSample = SAMPLE_EVERY_BYTES;
+
+        private long liveHeap() {
+            System.gc();
+            return memory.getHeapMemoryUsage().getUsed();
+        }
+
+        @Override
+        public void write(int b) {
+            count(1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count(len);
+        }
+
+        @Override
+        public void close() {
+            maxUsed = Math.max(maxUsed, liveHeap());
+        }
+
+        private void count(int bytes) {
+            written += bytes;
+            if (written >= nextSample) {
+                nextSample += SAMPLE_EVERY_BYTES;
+                maxUsed = Math.max(maxUsed, liveHeap());
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.julienprr.eventmanager.user_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.julienprr.eventmanager.user_service.dto.participant.ParticipantExportRow;
+import com.julienprr.eventmanager.user_service.model.ParticipantStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+class ParticipantExportWriterTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private static ParticipantExportRow row(long id, String firstname, String bio) {
+        return ParticipantExportRow.builder()
+                .id(id)
+                .firstname(firstname)
+                .lastname("Doe")
+                .email("john.doe" + id + "@example.com")
+                .bio(bio)
+                .status(ParticipantStatus.ACTIVE)
+                .createdAt(LocalDateTime.of(2025, 3, 1, 10, 0))
+                .emailNotificationsEnabled(true)
+                .build();
+    }
+
+    private String export(ParticipantExportFormat format, ParticipantExportRow... rows) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ParticipantExportWriter writer = new ParticipantExportWriter(output, format, objectMapper)) {
+            for (ParticipantExportRow row : rows) {
+                writer.write(row);
+            }
+        }
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void shouldWriteOneJsonObjectPerLine() throws IOException {
+        String[] lines = export(ParticipantExportFormat.NDJSON, row(1, "John", null), row(2, "Jane", null)).split("\n");
+
+        Assertions.assertEquals(2, lines.length);
+        ParticipantExportRow second = objectMapper.readValue(lines[1], ParticipantExportRow.class);
+        Assertions.assertEquals(2L, second.getId());
+        Assertions.assertEquals("Jane", second.getFirstname());
+        Assertions.assertEquals(LocalDateTime.of(2025, 3, 1, 10, 0), second.getCreatedAt());
+    }
+
+    @Test
+    void shouldWriteCsvHeaderAndLeaveMissingValuesEmpty() throws IOException {
+        String[] lines = export(ParticipantExportFormat.CSV, row(1, "John", null)).split("\n");
+
+        Assertions.assertEquals(ParticipantExportWriter.CSV_HEADER, lines[0]);
+        Assertions.assertEquals("1,John,Doe,john.doe1@example.com,,,,,ACTIVE,2025-03-01T10:00,,,true,false", lines[1]);
+    }
+
+    @Test
+    void shouldQuoteCsvFieldsWithSeparatorsAndQuotes() throws IOException {
+        String csv = export(ParticipantExportFormat.CSV, row(1, "John", "Likes \"jazz\", blues\nand rock"));
+
+        Assertions.assertTrue(csv.contains(",\"Likes \"\"jazz\"\", blues\nand rock\","), csv);
+    }
+
+    @Test
+    void shouldNeutralizeSpreadsheetFormulas() throws IOException {
+        String[] lines = export(ParticipantExportFormat.CSV, row(1, "=HYPERLINK(\"http://evil\")", null)).split("\n");
+
+        Assertions.assertTrue(lines[1].startsWith("1,\"'=HYPERLINK(\"\"http://evil\"\")\",Doe,"), lines[1]);
+    }
+}
@@ -0,0 +1,88 @@
+package com.julienprr.eventmanager.user_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.julienprr.eventmanager.user_service.exception.InvalidImportFileException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+class ParticipantImportReaderTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ParticipantImportReader reader(String content, ParticipantImportFormat format) throws IOException {
+        return new ParticipantImportReader(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), format, objectMapper);
+    }
+
+    @Test
+    void shouldReadCsvColumnsByHeaderName() throws IOException {
+        String csv = """
+                email,password,lastname,firstname
+                john.doe@example.com,secret123,Doe,John
+
+                "jane@example.com","p,ss""word",Roe,"Jane"
+                """;
+        try (ParticipantImportReader reader = reader(csv, ParticipantImportFormat.CSV)) {
+            ParticipantImportReader.Row first = reader.next();
+            Assertions.assertEquals(2, first.line());
+            Assertions.assertEquals("John", first.request().getFirstname());
+            Assertions.assertEquals("john.doe@example.com", first.request().getEmail());
+
+            ParticipantImportReader.Row second = reader.next();
+            Assertions.assertEquals(4, second.line());
+            Assertions.assertEquals("p,ss\"word", second.request().getPassword());
+            Assertions.assertEquals("Jane", second.request().getFirstname());
+
+            Assertions.assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void shouldRejectCsvWithoutRequiredColumn() {
+        Assertions.assertThrows(InvalidImportFileException.class,
+                () -> reader("firstname,lastname,email\n", ParticipantImportFormat.CSV));
+    }
+
+    @Test
+    void shouldReportMalformedNdjsonRowAndKeepReading() throws IOException {
+        String ndjson = """
+                {"firstname":"John","lastname":"Doe","email":"john.doe@example.com","password":"secret123"}
+                {"firstname":"Broken"
+                {"firstname":"Jane","lastname":"Roe","email":"jane@example.com","password":"secret123"}
+                """;
+        try (ParticipantImportReader reader = reader(ndjson, ParticipantImportFormat.NDJSON)) {
+            Assertions.assertEquals("John", reader.next().request().getFirstname());
+
+            ParticipantImportReader.Row malformed = reader.next();
+            Assertions.assertEquals(2, malformed.line());
+            Assertions.assertNull(malformed.request());
+            Assertions.assertNotNull(malformed.error());
+
+            Assertions.assertEquals("Jane", reader.next().request().getFirstname());
+        }
+    }
+
+    @Test
+    void shouldRejectNdjsonRowsThatAreNotObjects() throws IOException {
+        String ndjson = """
+                null
+                ["john.doe@example.com"]
+                42
+                {"firstname":"Jane","lastname":"Roe","email":"jane@example.com","password":"secret123"}
+                """;
+        try (ParticipantImportReader reader = reader(ndjson, ParticipantImportFormat.NDJSON)) {
+            for (long line = 1; line <= 3; line++) {
+                ParticipantImportReader.Row rejected = reader.next();
+                Assertions.assertEquals(line, rejected.line());
+                Assertions.assertNull(rejected.request());
+                Assertions.assertEquals("Malformed JSON: expected an object", rejected.error());
+            }
+
+            Assertions.assertEquals("Jane", reader.next().request().getFirstname());
+        }
+    }
+}
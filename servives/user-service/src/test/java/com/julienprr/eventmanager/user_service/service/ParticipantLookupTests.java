@@ -0,0 +1,157 @@
+package com.julienprr.eventmanager.user_service.service;
+
+import com.julienprr.eventmanager.user_service.config.ParticipantCacheProperties;
+import com.julienprr.eventmanager.user_service.config.ParticipantSearchProperties;
+import com.julienprr.eventmanager.user_service.dto.participant.UpdateParticipantProfileRequest;
+import com.julienprr.eventmanager.user_service.exception.ParticipantVersionRequiredException;
+import com.julienprr.eventmanager.user_service.exception.ResourceNotFoundException;
+import com.julienprr.eventmanager.user_service.model.Participant;
+import com.julienprr.eventmanager.user_service.repository.ParticipantJdbcRepository;
+import com.julienprr.eventmanager.user_service.repository.ParticipantOutboxRepository;
+import com.julienprr.eventmanager.user_service.repository.ParticipantPublicProfileView;
+import com.julienprr.eventmanager.user_service.repository.ParticipantRepository;
+import com.julienprr.eventmanager.user_service.repository.ParticipantVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ParticipantLookupTests {
+
+    private final ParticipantRepository participantRepository = mock(ParticipantRepository.class);
+    private final ParticipantJdbcRepository participantJdbcRepository = mock(ParticipantJdbcRepository.class);
+    private final ParticipantCache participantCache = new ParticipantCache(
+            new ParticipantCacheProperties(100L, Duration.ofMinutes(1)), new SimpleMeterRegistry());
+    private final List<List<Long>> queriedIds = new ArrayList<>();
+    private final ParticipantService service = new ParticipantService(
+            participantRepository, participantJdbcRepository, mock(PasswordHashingService.class),
+            participantCache, new ParticipantSearchProperties(null, null), mock(RegisteredEmailFilter.class),
+            mock(ParticipantOutboxRepository.class), TransactionOperations.withoutTransaction(),
+            mock(SecondLevelCacheEvictor.class), Runnable::run);
+
+    private static ParticipantPublicProfileView profile(Long id) {
+        return new ParticipantPublicProfileView(id, 0L, null, "Participant " + id, "Doe", null, null, null, null);
+    }
+
+    @Test
+    void shouldLoadAllMissingProfilesInOneQueryAndKeepRequestOrder() {
+        stubRepositoryWith(1L, 2L, 3L);
+
+        Map<Long, ParticipantPublicProfileView> found = service.getPublicProfilesByIds(List.of(3L, 99L, 1L, 2L));
+
+        Assertions.assertEquals(List.of(3L, 1L, 2L), List.copyOf(found.keySet()));
+        Assertions.assertEquals(1, queriedIds.size());
+        Assertions.assertEquals(List.of(1L, 2L, 3L, 99L), queriedIds.getFirst().stream().sorted().toList());
+    }
+
+    @Test
+    void shouldOnlyQueryIdsNotAlreadyCached() {
+        stubRepositoryWith(1L, 2L, 3L);
+        participantCache.put(Participant.builder().id(1L).email("one@example.com").firstname("Cached 1").build());
+        participantCache.put(Participant.builder().id(2L).email("two@example.com").firstname("Cached 2").build());
+
+        Map<Long, ParticipantPublicProfileView> found = service.getPublicProfilesByIds(List.of(1L, 2L, 3L));
+
+        Assertions.assertEquals(List.of("Cached 1", "Cached 2", "Participant 3"),
+                found.values().stream().map(ParticipantPublicProfileView::firstname).toList());
+        Assertions.assertEquals(List.of(List.of(3L)), queriedIds);
+    }
+
+    @Test
+    void shouldReadPublicProfileWithoutLoadingTheParticipant() {
+        when(participantRepository.findPublicProfileById(7L)).thenReturn(Optional.of(profile(7L)));
+        when(participantRepository.findPublicProfileById(8L)).thenReturn(Optional.empty());
+
+        Assertions.assertEquals("Participant 7", service.getPublicProfileById(7L, 0L).firstname());
+        Assertions.assertThrows(ResourceNotFoundException.class, () -> service.getPublicProfileById(8L, 0L));
+        verify(participantRepository, never()).findById(any());
+        verify(participantRepository, never()).findAllById(anyIterable());
+    }
+
+    @Test
+    void shouldReadVersionFromTheDatabaseEvenWhenCached() {
+        participantCache.put(Participant.builder().id(1L).email("one@example.com").version(2L).build());
+        when(participantRepository.findVersionById(1L)).thenReturn(Optional.of(new ParticipantVersion(3L, null)));
+        when(participantRepository.findVersionByEmail("one@example.com"))
+                .thenReturn(Optional.of(new ParticipantVersion(3L, null)));
+
+        Assertions.assertEquals(3L, service.getParticipantVersionById(1L).version());
+        Assertions.assertEquals(3L, service.getParticipantVersionByEmail("one@example.com").version());
+    }
+
+    @Test
+    void shouldAnswerFromTheCacheOnlyWhenItHoldsTheCurrentVersion() {
+        participantCache.put(Participant.builder().id(1L).email("one@example.com").firstname("Cached").version(2L).build());
+        when(participantRepository.findPublicProfileById(1L)).thenReturn(Optional.of(
+                new ParticipantPublicProfileView(1L, 3L, null, "Changed elsewhere", "Doe", null, null, null, null)));
+
+        Assertions.assertEquals("Cached", service.getPublicProfileById(1L, 2L).firstname());
+        verify(participantRepository, never()).findPublicProfileById(any());
+
+        Assertions.assertEquals("Changed elsewhere", service.getPublicProfileById(1L, 3L).firstname());
+        Assertions.assertNull(participantCache.getIfPresentById(1L));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubRepositoryWith(Long... existingIds) {
+        List<Long> existing = List.of(existingIds);
+        when(participantRepository.findPublicProfilesByIdIn(anyCollection())).thenAnswer(invocation -> {
+            List<Long> ids = List.copyOf((Collection<Long>) invocation.getArgument(0));
+            queriedIds.add(ids);
+            return ids.stream()
+                    .filter(existing::contains)
+                    .map(ParticipantLookupTests::profile)
+                    .toList();
+        });
+    }
+
+    @Test
+    void shouldCacheUpdatedParticipantOnlyOnceCommitted() {
+        Participant before = Participant.builder().id(1L).email("one@example.com").firstname("Before").build();
+        Participant after = Participant.builder().id(1L).email("one@example.com").firstname("After").build();
+        participantCache.put(before);
+        when(participantJdbcRepository.updateById(any(), any(), anyLong())).thenReturn(Optional.of(after));
+        UpdateParticipantProfileRequest request = new UpdateParticipantProfileRequest();
+        request.setFirstname("After");
+        request.setVersion(0L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.updateParticipantProfile(1L, request);
+            Assertions.assertEquals("Before", participantCache.getIfPresentById(1L).getFirstname());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            Assertions.assertEquals("After", participantCache.getIfPresentById(1L).getFirstname());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldRejectUpdateWithoutVersion() {
+        UpdateParticipantProfileRequest request = new UpdateParticipantProfileRequest();
+        request.setFirstname("After");
+
+        Assertions.assertThrows(ParticipantVersionRequiredException.class,
+                () -> service.updateParticipantProfile(1L, request));
+        verify(participantJdbcRepository, never()).updateById(any(), any(), anyLong());
+    }
+}
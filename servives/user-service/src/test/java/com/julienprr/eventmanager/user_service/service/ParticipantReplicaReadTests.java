@@ -0,0 +1,114 @@
+package com.julienprr.eventmanager.user_service.service;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Checks that the projection reads behind the conditional and batch profile GETs reach a replica.
+ * <p>
+ * The "replica" is the same database reached as a user whose search path resolves
+ * {@code participants} to a table of its own, so a read served by it returns other names than
+ * the primary holds.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class ParticipantReplicaReadTests {
+
+    private static final String REPLICA_USER = "replica_reader";
+    // Far above the identity sequence, which the application's own inserts draw from
+    private static final AtomicLong ID = new AtomicLong(1_000_000);
+
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    @Autowired
+    private IParticipantService participantService;
+
+    private long participantId;
+    private String email;
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) throws SQLException {
+        postgres.start();
+        execute("""
+                CREATE SCHEMA replica;
+                CREATE TABLE replica.participants (
+                    id bigint PRIMARY KEY, version bigint, updated_at timestamp(6), firstname varchar(255),
+                    lastname varchar(255), email varchar(255), avatar_url varchar(255), bio varchar(255),
+                    city varchar(255), country varchar(255), email_notifications_enabled boolean,
+                    sms_notifications_enabled boolean);
+                CREATE ROLE %1$s LOGIN PASSWORD '%1$s';
+                ALTER ROLE %1$s SET search_path = replica;
+                GRANT USAGE ON SCHEMA replica TO %1$s;
+                GRANT SELECT ON replica.participants TO %1$s;
+                """.formatted(REPLICA_USER));
+        registry.add("datasource.replicas.enabled", () -> "true");
+        registry.add("datasource.replicas.urls", postgres::getJdbcUrl);
+        registry.add("datasource.replicas.username", () -> REPLICA_USER);
+        registry.add("datasource.replicas.password", () -> REPLICA_USER);
+    }
+
+    private static void execute(String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    // Written around the application's data source: each test runs in a mock request, which a
+    // write through it would pin to the primary
+    @BeforeEach
+    void insertParticipant() throws SQLException {
+        participantId = ID.incrementAndGet();
+        email = UUID.randomUUID() + "@example.com";
+        execute("""
+                INSERT INTO participants (id, version, firstname, lastname, email, password, status,
+                                          email_notifications_enabled, sms_notifications_enabled)
+                VALUES (%1$d, 0, 'Primary', 'Doe', '%2$s', '$2a$10$hash', 'ACTIVE', false, false);
+                INSERT INTO replica.participants (id, version, firstname, lastname, email,
+                                                  email_notifications_enabled, sms_notifications_enabled)
+                VALUES (%1$d, 0, 'Replica', 'Doe', '%2$s', false, false);
+                """.formatted(participantId, email));
+    }
+
+    @Test
+    void shouldReadPublicProfileFromTheReplica() {
+        Assertions.assertEquals("Replica", participantService.getPublicProfileById(participantId, 0L).firstname());
+    }
+
+    @Test
+    void shouldReadPublicProfilesInBatchFromTheReplica() {
+        Assertions.assertEquals("Replica", participantService.getPublicProfilesByIds(List.of(participantId))
+                .get(participantId).firstname());
+    }
+
+    @Test
+    void shouldReadOwnProfileFromTheReplica() {
+        Assertions.assertEquals("Replica", participantService.getProfileByEmail(email, 0L).firstname());
+    }
+
+    @Test
+    void shouldReadVersionsFromTheReplica() throws SQLException {
+        execute("UPDATE replica.participants SET version = 41 WHERE id = " + participantId);
+
+        Assertions.assertEquals(41L, participantService.getParticipantVersionById(participantId).version());
+        Assertions.assertEquals(41L, participantService.getParticipantVersionByEmail(email).version());
+    }
+}
@@ -0,0 +1,73 @@
+package com.julienprr.eventmanager.user_service.service;
+
+import com.julienprr.eventmanager.user_service.config.ParticipantSearchProperties;
+import com.julienprr.eventmanager.user_service.exception.InvalidSearchQueryException;
+import com.julienprr.eventmanager.user_service.model.Participant;
+import com.julienprr.eventmanager.user_service.repository.ParticipantJdbcRepository;
+import com.julienprr.eventmanager.user_service.repository.ParticipantOutboxRepository;
+import com.julienprr.eventmanager.user_service.repository.ParticipantRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ParticipantSearchTests {
+
+    private final ParticipantJdbcRepository jdbcRepository = mock(ParticipantJdbcRepository.class);
+    private final ParticipantService service = new ParticipantService(
+            mock(ParticipantRepository.class), jdbcRepository, mock(PasswordHashingService.class),
+            mock(ParticipantCache.class), new ParticipantSearchProperties(0.4, 30), mock(RegisteredEmailFilter.class),
+            mock(ParticipantOutboxRepository.class), TransactionOperations.withoutTransaction(),
+            mock(SecondLevelCacheEvictor.class), Runnable::run);
+
+    @Test
+    void shouldRejectQueriesOutsideAllowedLength() {
+        Assertions.assertThrows(InvalidSearchQueryException.class, () -> service.searchParticipants(" a ", 0, 10));
+        Assertions.assertThrows(InvalidSearchQueryException.class, () -> service.searchParticipants(null, 0, 10));
+        Assertions.assertThrows(InvalidSearchQueryException.class, () -> service.searchParticipants("x".repeat(101), 0, 10));
+        verifyNoInteractions(jdbcRepository);
+    }
+
+    @Test
+    void shouldFetchOneExtraRowToDetectNextPage() {
+        when(jdbcRepository.search("julien", 0.4, 11, 10)).thenReturn(participants(11));
+
+        Slice<Participant> slice = service.searchParticipants("  julien ", 1, 10);
+
+        Assertions.assertEquals(10, slice.getNumberOfElements());
+        Assertions.assertTrue(slice.hasNext());
+    }
+
+    @Test
+    void shouldStopAtMaxResults() {
+        when(jdbcRepository.search(anyString(), anyDouble(), anyInt(), eq(20))).thenReturn(participants(11));
+
+        Slice<Participant> lastPage = service.searchParticipants("julien", 2, 10);
+        Slice<Participant> beyond = service.searchParticipants("julien", 3, 10);
+
+        Assertions.assertEquals(10, lastPage.getNumberOfElements());
+        Assertions.assertFalse(lastPage.hasNext());
+        Assertions.assertTrue(beyond.isEmpty());
+        verify(jdbcRepository).search("julien", 0.4, 11, 20);
+    }
+
+    private static List<Participant> participants(int count) {
+        List<Participant> participants = new ArrayList<>();
+        for (long i = 0; i < count; i++) {
+            participants.add(Participant.builder().id(i).build());
+        }
+        return participants;
+    }
+}
@@ -0,0 +1,148 @@
+package com.julienprr.eventmanager.user_service.service;
+
+import com.julienprr.eventmanager.user_service.dto.participant.BulkChangeParticipantStatusRequest;
+import com.julienprr.eventmanager.user_service.dto.participant.UpdateParticipantProfileRequest;
+import com.julienprr.eventmanager.user_service.model.Participant;
+import com.julienprr.eventmanager.user_service.model.ParticipantStatus;
+import com.julienprr.eventmanager.user_service.repository.ParticipantJdbcRepository;
+import com.julienprr.eventmanager.user_service.repository.ParticipantRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads participants through Spring Data and checks which ones the second-level cache answers,
+ * and that changes made through JDBC by the services evict the cached rows.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class ParticipantSecondLevelCacheTests {
+
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private ParticipantJdbcRepository participantJdbcRepository;
+
+    @Autowired
+    private IParticipantService participantService;
+
+    @Autowired
+    private IParticipantBulkStatusService participantBulkStatusService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void clearStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    private Participant insertParticipant() {
+        return participantJdbcRepository.insert(Participant.builder()
+                .firstname("John")
+                .lastname("Doe")
+                .email(UUID.randomUUID() + "@example.com")
+                .password("$2a$10$hash")
+                .status(ParticipantStatus.ACTIVE)
+                .build());
+    }
+
+    private boolean isCached(Long participantId) {
+        return entityManagerFactory.getCache().contains(Participant.class, participantId);
+    }
+
+    @Test
+    void shouldAnswerRepeatedReadsByIdFromTheCache() {
+        Long participantId = insertParticipant().getId();
+
+        participantRepository.findById(participantId);
+        long statements = statistics.getPrepareStatementCount();
+        participantRepository.findById(participantId);
+
+        Assertions.assertEquals(statements, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(1, statistics.getDomainDataRegionStatistics(Participant.CACHE_REGION).getHitCount());
+        Assertions.assertEquals(1, statistics.getDomainDataRegionStatistics(Participant.CACHE_REGION).getMissCount());
+    }
+
+    @Test
+    void shouldAnswerRepeatedReadsByEmailFromTheNaturalIdCache() {
+        Participant participant = insertParticipant();
+
+        participantRepository.findByEmail(participant.getEmail());
+        long statements = statistics.getPrepareStatementCount();
+        Participant found = participantRepository.findByEmail(participant.getEmail()).orElseThrow();
+
+        Assertions.assertEquals(participant.getId(), found.getId());
+        Assertions.assertEquals(statements, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(1, statistics.getNaturalIdCacheHitCount());
+    }
+
+    @Test
+    void shouldEvictParticipantUpdatedThroughTheService() {
+        Long participantId = insertParticipant().getId();
+        participantRepository.findById(participantId);
+        Assertions.assertTrue(isCached(participantId));
+
+        UpdateParticipantProfileRequest request = new UpdateParticipantProfileRequest();
+        request.setFirstname("Jane");
+        request.setVersion(0L);
+        participantService.updateParticipantProfile(participantId, request);
+
+        Assertions.assertFalse(isCached(participantId));
+        Participant reloaded = participantRepository.findById(participantId).orElseThrow();
+        Assertions.assertEquals("Jane", reloaded.getFirstname());
+        Assertions.assertEquals(1L, reloaded.getVersion());
+    }
+
+    @Test
+    void shouldEvictParticipantsChangedInBulk() {
+        Long first = insertParticipant().getId();
+        Long second = insertParticipant().getId();
+        participantRepository.findAllById(List.of(first, second));
+
+        participantBulkStatusService.changeParticipantStatuses(BulkChangeParticipantStatusRequest.builder()
+                .status(ParticipantStatus.SUSPENDED)
+                .ids(List.of(first, second))
+                .build());
+
+        Assertions.assertFalse(isCached(first));
+        Assertions.assertFalse(isCached(second));
+        Assertions.assertEquals(ParticipantStatus.SUSPENDED, participantRepository.findById(first).orElseThrow().getStatus());
+    }
+
+    @Test
+    void shouldPublishRegionStatisticsAsMetrics() {
+        Long participantId = insertParticipant().getId();
+        participantRepository.findById(participantId);
+        participantRepository.findById(participantId);
+
+        double hits = meterRegistry.get("hibernate.second.level.cache.requests")
+                .tag("region", Participant.CACHE_REGION)
+                .tag("result", "hit")
+                .functionCounter()
+                .count();
+        Assertions.assertEquals(1, hits);
+    }
+}
@@ -0,0 +1,109 @@
+package com.julienprr.eventmanager.user_service.service;
+
+import com.julienprr.eventmanager.user_service.config.ParticipantSearchProperties;
+import com.julienprr.eventmanager.user_service.dto.participant.ParticipantSignupRequest;
+import com.julienprr.eventmanager.user_service.exception.EmailAlreadyUsedException;
+import com.julienprr.eventmanager.user_service.model.Participant;
+import com.julienprr.eventmanager.user_service.model.ParticipantChangeType;
+import com.julienprr.eventmanager.user_service.repository.ParticipantJdbcRepository;
+import com.julienprr.eventmanager.user_service.repository.ParticipantOutboxRepository;
+import com.julienprr.eventmanager.user_service.repository.ParticipantRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ParticipantSignupTests {
+
+    private static final String EMAIL = "jane@example.com";
+
+    private final ParticipantRepository participantRepository = mock(ParticipantRepository.class);
+    private final ParticipantJdbcRepository participantJdbcRepository = mock(ParticipantJdbcRepository.class);
+    private final PasswordHashingService passwordHashingService = mock(PasswordHashingService.class);
+    private final RegisteredEmailFilter registeredEmailFilter = mock(RegisteredEmailFilter.class);
+    private final ParticipantOutboxRepository participantOutboxRepository = mock(ParticipantOutboxRepository.class);
+    private final ParticipantService service = new ParticipantService(
+            participantRepository, participantJdbcRepository, passwordHashingService,
+            mock(ParticipantCache.class), new ParticipantSearchProperties(null, null), registeredEmailFilter,
+            participantOutboxRepository, TransactionOperations.withoutTransaction(),
+            mock(SecondLevelCacheEvictor.class), Runnable::run);
+
+    @Test
+    void shouldInsertWithoutExistenceQueryWhenFilterRulesEmailOut() {
+        when(passwordHashingService.encode("secret123")).thenReturn(CompletableFuture.completedFuture("hashed"));
+        when(participantJdbcRepository.insert(any())).thenAnswer(invocation -> {
+            Participant participant = invocation.getArgument(0);
+            participant.setId(7L);
+            return participant;
+        });
+
+        Participant created = service.createParticipant(request()).join();
+
+        Assertions.assertEquals(7L, created.getId());
+        Assertions.assertEquals("hashed", created.getPassword());
+        verify(participantRepository, never()).existsByEmail(any());
+        verify(registeredEmailFilter).add(EMAIL);
+        verify(participantOutboxRepository).append(ParticipantChangeType.CREATED, 7L);
+    }
+
+    @Test
+    void shouldInsertOnTheAsyncExecutorRatherThanTheHashingThread() {
+        Queue<Runnable> asyncTasks = new ArrayDeque<>();
+        ParticipantService queuingService = new ParticipantService(
+                participantRepository, participantJdbcRepository, passwordHashingService,
+                mock(ParticipantCache.class), new ParticipantSearchProperties(null, null), registeredEmailFilter,
+                participantOutboxRepository, TransactionOperations.withoutTransaction(),
+                mock(SecondLevelCacheEvictor.class), asyncTasks::add);
+        when(passwordHashingService.encode("secret123")).thenReturn(CompletableFuture.completedFuture("hashed"));
+        when(participantJdbcRepository.insert(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        CompletableFuture<Participant> created = queuingService.createParticipant(request());
+
+        verify(participantJdbcRepository, never()).insert(any());
+        Assertions.assertEquals(1, asyncTasks.size());
+        asyncTasks.poll().run();
+        Assertions.assertEquals("hashed", created.join().getPassword());
+    }
+
+    @Test
+    void shouldRejectBeforeHashingWhenPossibleDuplicateIsConfirmed() {
+        when(registeredEmailFilter.mightBeRegistered(EMAIL)).thenReturn(true);
+        when(participantRepository.existsByEmail(EMAIL)).thenReturn(true);
+
+        Assertions.assertThrows(EmailAlreadyUsedException.class, () -> service.createParticipant(request()));
+        verify(passwordHashingService, never()).encode(any());
+    }
+
+    @Test
+    void shouldMapUniqueViolationToEmailAlreadyUsed() {
+        when(passwordHashingService.encode("secret123")).thenReturn(CompletableFuture.completedFuture("hashed"));
+        when(participantJdbcRepository.insert(any())).thenThrow(new DuplicateKeyException("participants_email_key"));
+
+        CompletionException failure = Assertions.assertThrows(CompletionException.class,
+                () -> service.createParticipant(request()).join());
+
+        Assertions.assertInstanceOf(EmailAlreadyUsedException.class, failure.getCause());
+        verify(registeredEmailFilter, never()).add(any());
+        verify(participantOutboxRepository, never()).append(any(), any());
+    }
+
+    private static ParticipantSignupRequest request() {
+        ParticipantSignupRequest request = new ParticipantSignupRequest();
+        request.setFirstname("Jane");
+        request.setLastname("Doe");
+        request.setEmail(EMAIL);
+        request.setPassword("secret123");
+        return request;
+    }
+}
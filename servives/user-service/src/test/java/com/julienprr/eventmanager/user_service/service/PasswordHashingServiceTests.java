@@ -0,0 +1,57 @@
+package com.julienprr.eventmanager.user_service.service;
+
+import com.julienprr.eventmanager.user_service.config.PasswordHashingProperties;
+import com.julienprr.eventmanager.user_service.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+class PasswordHashingServiceTests {
+
+    @Test
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hashed-" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encodedPassword.equals("hashed-" + rawPassword);
+            }
+        };
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PasswordHashingService service = new PasswordHashingService(
+                blockingEncoder, new PasswordHashingProperties(1, 1, Duration.ofSeconds(3)), meterRegistry);
+
+        try {
+            CompletableFuture<String> running = service.encode("first");
+            CompletableFuture<String> queued = service.encode("second");
+
+            PasswordHashingUnavailableException rejection = Assertions.assertThrows(
+                    PasswordHashingUnavailableException.class, () -> service.encode("third"));
+            Assertions.assertEquals(Duration.ofSeconds(3), rejection.getRetryAfter());
+            Assertions.assertEquals(1.0, meterRegistry.get("password.hashing.rejected").counter().count());
+
+            release.countDown();
+            Assertions.assertEquals("hashed-first", running.get());
+            Assertions.assertEquals("hashed-second", queued.get());
+            Assertions.assertEquals(2, meterRegistry.get("password.hashing.duration").timer().count());
+        } finally {
+            release.countDown();
+            service.destroy();
+        }
+    }
+}